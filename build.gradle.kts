@@ -2,16 +2,22 @@ import org.jetbrains.kotlin.gradle.utils.extendsFrom
 
 plugins {
 	java
-	id("org.springframework.boot") version "3.0.4"
-	id("io.spring.dependency-management") version "1.1.0"
+	id("org.springframework.boot") version "3.1.5"
+	id("io.spring.dependency-management") version "1.1.3"
 	id("org.asciidoctor.jvm.convert") version "3.3.2"
 	id("com.epages.restdocs-api-spec") version "0.17.1"
 	id("com.ewerk.gradle.plugins.querydsl") version "1.0.10"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example"
 version = "0.0.1-SNAPSHOT"
-java.sourceCompatibility = JavaVersion.VERSION_17
+
+java {
+	toolchain {
+		languageVersion.set(JavaLanguageVersion.of(21))
+	}
+}
 
 configurations {
 	compileOnly {
@@ -31,11 +37,17 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-security")
+	implementation("org.springframework.boot:spring-boot-starter-aop")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("org.hibernate.orm:hibernate-micrometer")
+	implementation("org.springframework.boot:spring-boot-starter-cache")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	implementation("com.querydsl:querydsl-jpa:5.0.0:jakarta")
 
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.h2database:h2")
 	runtimeOnly("com.mysql:mysql-connector-j")
+	runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
 
 	annotationProcessor("org.projectlombok:lombok")
@@ -50,6 +62,9 @@ dependencies {
 	testImplementation("net.datafaker:datafaker:1.7.0")
 	testImplementation("com.ninja-squad:springmockk:4.0.0")
 	testImplementation("com.epages:restdocs-api-spec-mockmvc:0.17.1")
+
+	jmhImplementation("org.springframework.boot:spring-boot-starter-test")
+	jmhRuntimeOnly("com.h2database:h2")
 }
 
 openapi3 {
@@ -66,6 +81,38 @@ tasks.withType<Test> {
 
 tasks.test {
 	outputs.dir(snippetsDir)
+	useJUnitPlatform {
+		excludeTags("benchmark")
+	}
+}
+
+tasks.register<Test>("benchmark") {
+	description = "Runs the throughput benchmarks tagged with @Tag(\"benchmark\")."
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath
+	jvmArgs("-Djdk.tracePinnedThreads=short")
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	testLogging {
+		showStandardStreams = true
+	}
+}
+
+jmh {
+	jmhVersion.set("1.37")
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+	resultFormat.set("JSON")
+	resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+	(project.findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+	(project.findProperty("jmhProfilers") as String?)?.let { profilers.set(it.split(",")) }
+}
+
+tasks.bootRun {
+	jvmArgs("-Djdk.tracePinnedThreads=short")
 }
 
 tasks.asciidoctor {
@@ -0,0 +1,30 @@
+package com.commerce;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Boots the application against an in-memory H2 database with SQL logging turned off,
+ * so benchmarks measure the code path rather than the console.
+ */
+public final class SpringBenchmarkContext {
+    private SpringBenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(WebApplicationType webApplicationType) {
+        return new SpringApplicationBuilder(CommerceApplication.class)
+                .web(webApplicationType)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh;MODE=MySQL",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0",
+                        "commerce.password.hashing.strength=4",
+                        "logging.level.root=WARN",
+                        "logging.level.com.commerce=WARN",
+                        "logging.level.org.springframework.orm.jpa=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN")
+                .run();
+    }
+}
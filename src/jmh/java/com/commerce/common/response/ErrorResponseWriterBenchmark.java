@@ -0,0 +1,61 @@
+package com.commerce.common.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Error bodies written per second: a new {@link ObjectMapper} per response as the security entry
+ * point used to do, the shared mapper serializing on every call, and the pre-encoded bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorResponseWriterBenchmark {
+    private ErrorResponseWriter errorResponseWriter;
+    private CustomErrorResponse duplicated;
+
+    @Setup
+    public void setUp() {
+        errorResponseWriter = new ErrorResponseWriter(Jackson2ObjectMapperBuilder.json().build());
+        duplicated = CustomErrorResponse.builder()
+                .field("email")
+                .message("email duplicated")
+                .code("1")
+                .build();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse objectMapperPerResponse() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = new ObjectMapper().writeValueAsBytes(duplicated);
+        response.setStatus(HttpStatus.CONFLICT.value());
+        response.getOutputStream().write(body);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse sharedObjectMapper() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        errorResponseWriter.write(response, HttpStatus.CONFLICT, duplicated);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse preEncoded() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        errorResponseWriter.writeDuplicated(response, "email");
+        return response;
+    }
+}
@@ -0,0 +1,60 @@
+package com.commerce.common.response;
+
+import com.commerce.domain.account.dto.FindAccountResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private FindAccountResponse findAccountResponse;
+    private CustomSuccessResponse<FindAccountResponse> successResponse;
+    private CustomErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        findAccountResponse = FindAccountResponse.builder()
+                .username("commerce")
+                .email("commerce@commerce.com")
+                .phoneNumber("010-0000-0000")
+                .build();
+        successResponse = CustomSuccessResponse.<FindAccountResponse>builder()
+                .code("0")
+                .message("ok")
+                .data(findAccountResponse)
+                .build();
+        errorResponse = CustomErrorResponse.builder()
+                .code("1")
+                .field("email")
+                .message("email duplicated")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] findAccountResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(findAccountResponse);
+    }
+
+    @Benchmark
+    public byte[] customSuccessResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(successResponse);
+    }
+
+    @Benchmark
+    public byte[] customErrorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+}
@@ -0,0 +1,76 @@
+package com.commerce.domain.account;
+
+import com.commerce.SpringBenchmarkContext;
+import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.exception.UniqueConstraintViolationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link AccountService#createAccount} for fresh identifiers and for an identifier that is already
+ * taken. BCrypt runs at strength 4 here so the duplicate check and the insert dominate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AccountCreateBenchmark {
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private CreateAccountDto duplicatedEmail;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringBenchmarkContext.start(WebApplicationType.NONE);
+        accountService = context.getBean(AccountService.class);
+        accountService.createAccount(createAccountDto("existing"));
+        duplicatedEmail = CreateAccountDto.builder()
+                .username("another")
+                .email("existing@commerce.com")
+                .phoneNumber("another")
+                .password("password")
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Long createUnique() {
+        return accountService.createAccount(createAccountDto("user-" + sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public void createDuplicated(Blackhole blackhole) {
+        try {
+            accountService.createAccount(duplicatedEmail);
+        } catch (UniqueConstraintViolationException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    private static CreateAccountDto createAccountDto(String name) {
+        return CreateAccountDto.builder()
+                .username(name)
+                .email(name + "@commerce.com")
+                .phoneNumber(name)
+                .password("password")
+                .build();
+    }
+}
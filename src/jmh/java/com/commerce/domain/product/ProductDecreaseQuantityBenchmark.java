@@ -0,0 +1,83 @@
+package com.commerce.domain.product;
+
+import com.commerce.SpringBenchmarkContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stock decrements of one product: the bare entity method as a baseline, and the transactional
+ * service path with several threads racing on the same row and retrying optimistic lock conflicts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProductDecreaseQuantityBenchmark {
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private Long productId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringBenchmarkContext.start(WebApplicationType.NONE);
+        productService = context.getBean(ProductService.class);
+        productId = context.getBean(ProductRepository.class).save(Product.builder()
+                .title("benchmark")
+                .description("benchmark")
+                .image("benchmark")
+                .price(1000)
+                .stockQuantity(Integer.MAX_VALUE)
+                .build()).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer decreaseQuantityInMemory(LocalProduct localProduct) {
+        localProduct.product.decreaseQuantity(1);
+        return localProduct.product.getStockQuantity();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void decreaseStockQuantityContended(Blackhole blackhole) {
+        try {
+            productService.decreaseStockQuantity(productId, 1);
+        } catch (OptimisticLockingFailureException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class LocalProduct {
+        private Product product;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            product = Product.builder()
+                    .title("benchmark")
+                    .description("benchmark")
+                    .image("benchmark")
+                    .price(1000)
+                    .stockQuantity(Integer.MAX_VALUE)
+                    .build();
+        }
+    }
+}
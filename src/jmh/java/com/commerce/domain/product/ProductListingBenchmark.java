@@ -0,0 +1,100 @@
+package com.commerce.domain.product;
+
+import com.commerce.SpringBenchmarkContext;
+import com.commerce.domain.product.dto.FindProductsResponse;
+import com.commerce.domain.seller.Seller;
+import com.commerce.domain.seller.SellerRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page 1 and page 10,000 of the catalog through the keyset listing, next to the same deep page
+ * fetched with OFFSET. The keyset pages should cost the same; the OFFSET page grows with the depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductListingBenchmark {
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 10_000;
+    private static final int PRODUCTS = PAGE_SIZE * DEEP_PAGE + PAGE_SIZE;
+    private static final String INSERT_SQL = "insert into product (id, seller_id, title, description, image, price, stock_quantity, " +
+            "split_inventory, deleted, version, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, false, false, 0, ?, ?)";
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductRepository productRepository;
+    private Long sellerId;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringBenchmarkContext.start(WebApplicationType.NONE);
+        productService = context.getBean(ProductService.class);
+        productRepository = context.getBean(ProductRepository.class);
+        sellerId = context.getBean(SellerRepository.class).save(Seller.builder()
+                .name("benchmark")
+                .address("benchmark")
+                .build()).getId();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        long createdAt = System.currentTimeMillis() - PRODUCTS;
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Timestamp timestamp = new Timestamp(createdAt + i);
+            batch.add(new Object[]{1_000_000L + i, sellerId, "product-" + i, "benchmark", "benchmark", 1000, 100, timestamp, timestamp});
+            if (batch.size() == 1_000) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+
+        String cursor = null;
+        for (int page = 1; page < DEEP_PAGE; page++) {
+            cursor = productService.findProducts(sellerId, cursor, PAGE_SIZE).getNextCursor();
+        }
+        deepCursor = cursor;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public FindProductsResponse keysetFirstPage() {
+        return productService.findProducts(sellerId, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public FindProductsResponse keysetDeepPage() {
+        return productService.findProducts(sellerId, deepCursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Page<Product> offsetDeepPage() {
+        return productRepository.findAll(PageRequest.of(DEEP_PAGE - 1, PAGE_SIZE,
+                Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"))));
+    }
+}
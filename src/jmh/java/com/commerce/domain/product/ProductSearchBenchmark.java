@@ -0,0 +1,73 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.ProductSearchHit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the search index over one million generated Korean products: a rare term, a
+ * common two-word query, the same query narrowed by price and seller, and an autocomplete prefix.
+ * The index is filled directly, since the startup scan only adds JDBC time on top of the same puts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ProductSearchBenchmark {
+    private static final int PRODUCTS = 1_000_000;
+    private static final int SELLERS = 1_000;
+    private static final String[] BRANDS = {"나이키", "아디다스", "뉴발란스", "푸마", "무지", "삼성", "엘지", "애플", "로지텍", "쿠쿠"};
+    private static final String[] NOUNS = {"운동화", "슬리퍼", "티셔츠", "후드티", "청바지", "가방", "모자", "양말",
+            "노트북", "키보드", "마우스", "모니터", "이어폰", "충전기", "밥솥", "냄비", "텀블러", "우산"};
+    private static final String[] ADJECTIVES = {"가벼운", "튼튼한", "따뜻한", "시원한", "고급", "기본", "한정판", "무선", "대용량", "초경량"};
+
+    private ProductInvertedIndex index;
+    private ProductSearchFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new ProductInvertedIndex(2.0f, 500);
+        SplittableRandom random = new SplittableRandom(42);
+        for (long id = 1; id <= PRODUCTS; id++) {
+            String title = pick(random, BRANDS) + " " + pick(random, ADJECTIVES) + pick(random, NOUNS) + " " + id % 10_000;
+            String description = pick(random, ADJECTIVES) + " " + pick(random, NOUNS) + " " + pick(random, ADJECTIVES) + " 상품입니다";
+            index.put(new ProductDocument(id, id % SELLERS, title, description, random.nextInt(1_000, 1_000_000)));
+        }
+        filter = new ProductSearchFilter(10_000, 50_000, 7L);
+    }
+
+    @Benchmark
+    public List<ProductSearchHit> rareTerm() {
+        return index.search("로지텍 초경량마우스 4242", null, 20);
+    }
+
+    @Benchmark
+    public List<ProductSearchHit> commonTerms() {
+        return index.search("나이키 운동화", null, 20);
+    }
+
+    @Benchmark
+    public List<ProductSearchHit> commonTermsFiltered() {
+        return index.search("나이키 운동화", filter, 20);
+    }
+
+    @Benchmark
+    public List<String> suggest() {
+        return index.suggest("한정", 10);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,97 @@
+package com.commerce.domain.seller;
+
+import com.commerce.SpringBenchmarkContext;
+import com.commerce.config.CacheConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Resolving the 200 sellers of an order page over HTTP: one {@code GET /sellers/{id}} per seller
+ * against a single {@code GET /sellers?ids=...}. A cold cache makes every seller a database read,
+ * a warm one leaves only the request overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SellerLookupBenchmark {
+    private static final int SELLERS = 200;
+
+    @Param({"cold", "warm"})
+    public String cache;
+
+    private ConfigurableApplicationContext context;
+    private CacheManager cacheManager;
+    private HttpClient client;
+    private List<HttpRequest> singleRequests;
+    private HttpRequest batchRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringBenchmarkContext.start(WebApplicationType.SERVLET);
+        cacheManager = context.getBean(CacheManager.class);
+        SellerRepository sellerRepository = context.getBean(SellerRepository.class);
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < SELLERS; i++) {
+            ids.add(sellerRepository.save(Seller.builder()
+                    .name("seller-" + i)
+                    .address("benchmark")
+                    .build()).getId());
+        }
+
+        client = HttpClient.newHttpClient();
+        singleRequests = ids.stream()
+                .map(id -> HttpRequest.newBuilder(URI.create(baseUrl + "/sellers/" + id)).build())
+                .toList();
+        batchRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/sellers?ids="
+                + ids.stream().map(String::valueOf).collect(Collectors.joining(",")))).build();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetCache() {
+        if (cache.equals("cold")) {
+            cacheManager.getCache(CacheConfig.SELLERS).clear();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int singleCalls() throws IOException, InterruptedException {
+        int bytes = 0;
+        for (HttpRequest request : singleRequests) {
+            bytes += client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public int batchLookup() throws IOException, InterruptedException {
+        return client.send(batchRequest, HttpResponse.BodyHandlers.ofByteArray()).body().length;
+    }
+}
@@ -0,0 +1,51 @@
+package com.commerce.exception;
+
+import jakarta.persistence.NoResultException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throwing a miss from the bottom of a call stack as deep as a request's and catching it at the top,
+ * with a fresh {@link NoResultException} against a fresh stackless {@link NotFoundException}. Run with
+ * {@code -PjmhProfilers=gc} to see the allocation rate next to the latency; the end-to-end 404 is
+ * {@code GlobalExceptionHandlerBenchmark.notFound}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotFoundExceptionBenchmark {
+    @Param({"20", "150"})
+    public int depth;
+
+    @Benchmark
+    public Object newNoResultException() {
+        try {
+            return descend(depth, false);
+        } catch (NoResultException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object stacklessNotFoundException() {
+        try {
+            return descend(depth, true);
+        } catch (NoResultException e) {
+            return e;
+        }
+    }
+
+    private static Object descend(int remaining, boolean stackless) {
+        if (remaining == 0) {
+            throw stackless ? NotFoundException.account() : new NoResultException();
+        }
+        return descend(remaining - 1, stackless);
+    }
+}
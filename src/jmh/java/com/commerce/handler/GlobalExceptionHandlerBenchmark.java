@@ -0,0 +1,88 @@
+package com.commerce.handler;
+
+import com.commerce.SpringBenchmarkContext;
+import com.commerce.domain.account.AccountService;
+import com.commerce.domain.account.dto.CreateAccountDto;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Full dispatch through the security filter chain for requests that end in {@link GlobalExceptionHandler},
+ * next to a successful lookup of the same resource.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+    private static final String DUPLICATED_ACCOUNT =
+            "{\"username\":\"existing\",\"email\":\"another@commerce.com\",\"phoneNumber\":\"another\",\"password\":\"password\"}";
+    private static final String INVALID_ACCOUNT =
+            "{\"username\":\"invalid\",\"email\":\"\",\"phoneNumber\":\"invalid\",\"password\":\"password\"}";
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mvc;
+    private Long accountId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = SpringBenchmarkContext.start(WebApplicationType.SERVLET);
+        mvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .addFilters(context.getBean("springSecurityFilterChain", Filter.class))
+                .build();
+        accountId = context.getBean(AccountService.class).createAccount(CreateAccountDto.builder()
+                .username("existing")
+                .email("existing@commerce.com")
+                .phoneNumber("existing")
+                .password("password")
+                .build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult ok() throws Exception {
+        return mvc.perform(get("/accounts/{id}", accountId)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult notFound() throws Exception {
+        return mvc.perform(get("/accounts/{id}", Long.MAX_VALUE)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult conflict() throws Exception {
+        return mvc.perform(post("/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(DUPLICATED_ACCOUNT)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult badRequest() throws Exception {
+        return mvc.perform(post("/accounts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(INVALID_ACCOUNT)).andReturn();
+    }
+}
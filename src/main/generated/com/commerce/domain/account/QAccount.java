@@ -41,6 +41,8 @@ public class QAccount extends EntityPathBase<Account> {
 
     public final StringPath username = createString("username");
 
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
     public QAccount(String variable) {
         super(Account.class, forVariable(variable));
     }
@@ -27,6 +27,8 @@ public class QCustomer extends EntityPathBase<Customer> {
 
     public final StringPath name = createString("name");
 
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
     public QCustomer(String variable) {
         super(Customer.class, forVariable(variable));
     }
@@ -24,6 +24,8 @@ public class QProduct extends EntityPathBase<Product> {
 
     public final com.commerce.common.entity.QBaseEntity _super = new com.commerce.common.entity.QBaseEntity(this);
 
+    public final NumberPath<Integer> availableQuantity = createNumber("availableQuantity", Integer.class);
+
     //inherited
     public final DateTimePath<java.util.Date> createdAt = _super.createdAt;
 
@@ -39,6 +41,8 @@ public class QProduct extends EntityPathBase<Product> {
 
     public final com.commerce.domain.seller.QSeller seller;
 
+    public final BooleanPath splitInventory = createBoolean("splitInventory");
+
     public final NumberPath<Integer> stockQuantity = createNumber("stockQuantity", Integer.class);
 
     public final StringPath title = createString("title");
@@ -46,6 +50,8 @@ public class QProduct extends EntityPathBase<Product> {
     //inherited
     public final DateTimePath<java.util.Date> updatedAt = _super.updatedAt;
 
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
     public QProduct(String variable) {
         this(Product.class, forVariable(variable), INITS);
     }
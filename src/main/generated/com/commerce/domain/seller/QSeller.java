@@ -35,6 +35,8 @@ public class QSeller extends EntityPathBase<Seller> {
     //inherited
     public final DateTimePath<java.util.Date> updatedAt = _super.updatedAt;
 
+    public final NumberPath<Long> version = createNumber("version", Long.class);
+
     public QSeller(String variable) {
         super(Seller.class, forVariable(variable));
     }
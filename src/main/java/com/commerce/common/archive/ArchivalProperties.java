@@ -0,0 +1,32 @@
+package com.commerce.common.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.archival")
+public class ArchivalProperties {
+    private boolean enabled = false;
+    /**
+     * Delay between the end of one run and the start of the next.
+     */
+    private Duration interval = Duration.ofHours(1);
+    /**
+     * How long a soft-deleted row stays in its table, where it can still be restored by hand.
+     */
+    private Duration retention = Duration.ofDays(30);
+    /**
+     * Rows moved per transaction. Each chunk locks at most this many rows, for as long as one
+     * insert and one delete take.
+     */
+    private int chunkSize = 500;
+    private Duration pauseBetweenChunks = Duration.ofMillis(10);
+    /**
+     * How long archived rows are kept before they are purged for good; unset keeps them forever.
+     */
+    private Duration archiveRetention;
+}
@@ -0,0 +1,31 @@
+package com.commerce.common.archive;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * A soft-deleted row moved out of its table by {@link SoftDeleteArchiver}, with every column kept
+ * as JSON. Written with plain SQL; mapped only so the schema is generated with the others.
+ */
+@Table(indexes = @Index(name = "idx_archived_row_archived_at", columnList = "archived_at"))
+@Getter
+@NoArgsConstructor
+@Entity
+public class ArchivedRow {
+    @EmbeddedId
+    private ArchivedRowId id;
+
+    @Lob
+    private String payload;
+
+    private Date deletedAt;
+
+    private Date archivedAt;
+}
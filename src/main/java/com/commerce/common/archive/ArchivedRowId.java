@@ -0,0 +1,21 @@
+package com.commerce.common.archive;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedRowId implements Serializable {
+    @Column(length = 64)
+    private String tableName;
+
+    private Long rowId;
+}
@@ -0,0 +1,7 @@
+package com.commerce.common.archive;
+
+/**
+ * Published after a table's archival run moved at least one row.
+ */
+public record RowsArchived(String table, long rows) {
+}
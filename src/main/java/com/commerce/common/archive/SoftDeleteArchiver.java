@@ -0,0 +1,202 @@
+package com.commerce.common.archive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves rows soft-deleted longer than the retention into {@code archived_row}, one small
+ * transaction per chunk so live traffic never waits long on the locks. Rows still referenced by a
+ * foreign key stay where they are until the referencing rows are gone; tables are visited so that
+ * products go before their sellers. Rows deleted before {@code deleted_at} existed are stamped with
+ * the time of the first run and archived one retention later. Runs, pauses included, happen on a
+ * thread of their own so they never hold up the shared {@code @Scheduled} tasks.
+ */
+@Slf4j
+@Component
+public class SoftDeleteArchiver {
+    static final List<Target> TARGETS = List.of(
+            new Target("account", ""),
+            new Target("customer", "and not exists (select 1 from orders o where o.customer_id = t.id)"),
+            new Target("product", "and not exists (select 1 from order_line l where l.product_id = t.id) " +
+                    "and not exists (select 1 from product_stock_bucket b where b.product_id = t.id)"),
+            new Target("seller", "and not exists (select 1 from product p where p.seller_id = t.id)")
+    );
+
+    private static final String INSERT_SQL =
+            "insert into archived_row (table_name, row_id, payload, deleted_at, archived_at) values (?, ?, ?, ?, ?)";
+    private static final String PURGE_SQL =
+            "delete from archived_row where archived_at < ? limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchivalProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("soft-delete-archiver-"));
+
+    public SoftDeleteArchiver(JdbcTemplate jdbcTemplate, ArchivalProperties properties, ObjectMapper objectMapper,
+                              ApplicationEventPublisher applicationEventPublisher, MeterRegistry meterRegistry,
+                              PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void start() {
+        if (properties.isEnabled()) {
+            long interval = properties.getInterval().toMillis();
+            executor.scheduleWithFixedDelay(this::run, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public void run() {
+        try {
+            archive();
+            purge();
+        } catch (RuntimeException e) {
+            log.warn("Archival run failed, retrying on the next run", e);
+        }
+    }
+
+    /**
+     * Archives every table and returns the rows moved per table.
+     */
+    public Map<String, Long> archive() {
+        Map<String, Long> archived = new LinkedHashMap<>();
+        for (Target target : TARGETS) {
+            stampDeletedAt(target);
+            archived.put(target.table(), archive(target));
+        }
+        return archived;
+    }
+
+    /**
+     * Deletes archived rows older than the archive retention and returns how many.
+     */
+    public long purge() {
+        if (properties.getArchiveRetention() == null) {
+            return 0;
+        }
+        Timestamp archivedBefore = new Timestamp(System.currentTimeMillis() - properties.getArchiveRetention().toMillis());
+        long purged = 0;
+        int chunk;
+        do {
+            chunk = jdbcTemplate.update(PURGE_SQL, archivedBefore, properties.getChunkSize());
+            purged += chunk;
+            pause();
+        } while (chunk == properties.getChunkSize());
+        meterRegistry.counter("commerce.archival.purged.rows").increment(purged);
+        return purged;
+    }
+
+    private long archive(Target target) {
+        Timestamp deletedBefore = new Timestamp(System.currentTimeMillis() - properties.getRetention().toMillis());
+        String selectSql = "select * from " + target.table() + " t where t.deleted = true and t.deleted_at < ? " +
+                target.unreferenced() + " order by t.id limit ? for update";
+
+        long startedAt = System.nanoTime();
+        long archived = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(selectSql, deletedBefore, properties.getChunkSize());
+                if (rows.isEmpty()) {
+                    return 0;
+                }
+                Timestamp archivedAt = new Timestamp(System.currentTimeMillis());
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows.stream()
+                        .map(row -> new Object[]{target.table(), row.get("id"), toJson(row), row.get("deleted_at"), archivedAt})
+                        .toList());
+                List<Object> ids = rows.stream().map(row -> row.get("id")).toList();
+                jdbcTemplate.update("delete from " + target.table() + " where deleted = true and id in (" + placeholders(ids.size()) + ")",
+                        ids.toArray());
+                return rows.size();
+            });
+            archived += chunk;
+            pause();
+        } while (chunk == properties.getChunkSize());
+
+        long elapsedMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        meterRegistry.counter("commerce.archival.rows", "table", target.table()).increment(archived);
+        if (archived > 0) {
+            log.info("archived {} {} rows in {} ms ({} rows/s)", archived, target.table(), elapsedMillis, archived * 1000 / elapsedMillis);
+            applicationEventPublisher.publishEvent(new RowsArchived(target.table(), archived));
+        }
+        return archived;
+    }
+
+    private void stampDeletedAt(Target target) {
+        String selectSql = "select id from " + target.table() + " where deleted = true and deleted_at is null order by id limit ?";
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = jdbcTemplate.queryForList(selectSql, Long.class, properties.getChunkSize());
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                Object[] args = new Object[ids.size() + 1];
+                args[0] = new Timestamp(System.currentTimeMillis());
+                System.arraycopy(ids.toArray(), 0, args, 1, ids.size());
+                jdbcTemplate.update("update " + target.table() + " set deleted_at = ? where id in (" + placeholders(ids.size()) + ")", args);
+                return ids.size();
+            });
+        } while (chunk == properties.getChunkSize());
+    }
+
+    private String toJson(Map<String, Object> row) {
+        try {
+            return objectMapper.writeValueAsString(row);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unserializable row", e);
+        }
+    }
+
+    private void pause() {
+        if (properties.getPauseBetweenChunks().isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.getPauseBetweenChunks().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while archiving", e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    record Target(String table, String unreferenced) {
+    }
+}
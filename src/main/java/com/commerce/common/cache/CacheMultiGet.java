@@ -0,0 +1,54 @@
+package com.commerce.common.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Resolves many keys against a cache and loads only the misses, {@code chunkSize} keys per query.
+ * Loaded values are put back into the cache.
+ */
+public final class CacheMultiGet {
+    private CacheMultiGet() {
+    }
+
+    /**
+     * One element per requested key, in request order; null where the loader found nothing.
+     */
+    public static <K, V> List<V> getAll(Cache cache, List<K> keys, int chunkSize,
+                                        Function<List<K>, List<V>> loader, Function<V, K> keyOf) {
+        Map<K, V> found = new HashMap<>();
+        List<K> misses = new ArrayList<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            Cache.ValueWrapper cached = cache.get(key);
+            if (cached != null && cached.get() != null) {
+                found.put(key, castValue(cached.get()));
+            } else {
+                misses.add(key);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += chunkSize) {
+            for (V value : loader.apply(misses.subList(from, Math.min(from + chunkSize, misses.size())))) {
+                found.put(keyOf.apply(value), value);
+                cache.put(keyOf.apply(value), value);
+            }
+        }
+
+        List<V> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            values.add(found.get(key));
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V castValue(Object value) {
+        return (V) value;
+    }
+}
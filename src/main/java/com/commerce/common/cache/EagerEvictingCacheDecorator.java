@@ -0,0 +1,126 @@
+package com.commerce.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Evicts right away and once more after the surrounding transaction commits. The first eviction keeps
+ * the writing transaction from reading its own stale entry, the second drops whatever a concurrent
+ * reader loaded from the not yet committed row. When reads can come from a lagging replica, a third
+ * eviction runs once the replica lag bound has passed after the commit, dropping an entry a reader
+ * loaded from a replica that had not applied the write yet.
+ * <p>
+ * A reader that loaded the old row before the commit can still put it back after the evictions. Every
+ * eviction therefore bumps a generation, striped by key, that the thread records on a miss; a put whose
+ * key was evicted since its miss is dropped, and one that races an eviction is evicted again.
+ */
+public class EagerEvictingCacheDecorator extends TransactionAwareCacheDecorator {
+    private static final int STRIPES = 64;
+    private static final int MAX_TRACKED_MISSES = 1024;
+
+    private final Executor lagEvictions;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final ThreadLocal<Map<Object, Long>> misses = ThreadLocal.withInitial(HashMap::new);
+
+    public EagerEvictingCacheDecorator(Cache targetCache) {
+        this(targetCache, Duration.ZERO);
+    }
+
+    public EagerEvictingCacheDecorator(Cache targetCache, Duration replicaLag) {
+        super(targetCache);
+        this.lagEvictions = replicaLag.isZero() ? null
+                : CompletableFuture.delayedExecutor(replicaLag.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = super.get(key);
+        if (value == null) {
+            Map<Object, Long> missed = misses.get();
+            if (missed.size() >= MAX_TRACKED_MISSES) {
+                // Misses that never led to a put; forgetting them only lets those puts through unchecked.
+                missed.clear();
+            }
+            missed.put(key, generations.get(stripe(key)));
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Long missedAt = misses.get().remove(key);
+        afterCommit(() -> {
+            if (missedAt == null) {
+                getTargetCache().put(key, value);
+                return;
+            }
+            if (generations.get(stripe(key)) != missedAt) {
+                return;
+            }
+            getTargetCache().put(key, value);
+            if (generations.get(stripe(key)) != missedAt) {
+                getTargetCache().evict(key);
+            }
+        });
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictNow(key);
+        afterCommit(() -> evictNow(key));
+        afterLag(() -> evictNow(key));
+    }
+
+    @Override
+    public void clear() {
+        clearNow();
+        afterCommit(this::clearNow);
+        afterLag(this::clearNow);
+    }
+
+    private void evictNow(Object key) {
+        generations.incrementAndGet(stripe(key));
+        getTargetCache().evict(key);
+    }
+
+    private void clearNow() {
+        for (int i = 0; i < STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        getTargetCache().clear();
+    }
+
+    private static int stripe(Object key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % STRIPES;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void afterLag(Runnable eviction) {
+        if (lagEvictions == null) {
+            return;
+        }
+        afterCommit(() -> lagEvictions.execute(eviction));
+    }
+}
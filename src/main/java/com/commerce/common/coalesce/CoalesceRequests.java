@@ -0,0 +1,16 @@
+package com.commerce.common.coalesce;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Concurrent calls with equal arguments share one invocation. Meant for reads whose result is the
+ * same for every caller.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CoalesceRequests {
+    String value();
+}
@@ -0,0 +1,50 @@
+package com.commerce.common.coalesce;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs {@link CoalesceRequests} methods through a {@link SingleFlight} per name. Ordered inside the
+ * cache advice and outside the transaction advice: hits never get here, and concurrent misses,
+ * including ones that end in a not-found, share a single lookup and a single connection. The
+ * cached lookups therefore leave out {@code sync}, which would only serialize the same misses
+ * again. Calls inside a running transaction may see that transaction's own writes and are never
+ * shared.
+ */
+@Aspect
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+@Component
+public class RequestCoalescingAspect {
+    private final RequestCoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, SingleFlight<SimpleKey, Object>> flights = new ConcurrentHashMap<>();
+
+    @Around("@annotation(coalesceRequests)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, CoalesceRequests coalesceRequests) throws Throwable {
+        if (!properties.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String name = coalesceRequests.value();
+        SingleFlight<SimpleKey, Object> flight = flights.computeIfAbsent(name,
+                key -> new SingleFlight<>(key, properties.timeoutFor(key), meterRegistry));
+
+        Object[] args = joinPoint.getArgs();
+        Object[] elements = new Object[args.length + 1];
+        elements[0] = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        System.arraycopy(args, 0, elements, 1, args.length);
+        return flight.execute(new SimpleKey(elements), joinPoint::proceed);
+    }
+}
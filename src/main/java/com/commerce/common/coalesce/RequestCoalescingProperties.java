@@ -0,0 +1,22 @@
+package com.commerce.common.coalesce;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.coalescing")
+public class RequestCoalescingProperties {
+    private boolean enabled = true;
+    private Duration timeout = Duration.ofSeconds(2);
+    private Map<String, Duration> timeouts = new HashMap<>();
+
+    Duration timeoutFor(String name) {
+        return timeouts.getOrDefault(name, timeout);
+    }
+}
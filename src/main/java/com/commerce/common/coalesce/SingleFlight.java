@@ -0,0 +1,78 @@
+package com.commerce.common.coalesce;
+
+import com.commerce.exception.RequestCoalescingTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collapses concurrent loads of the same key: the first caller runs the loader, every caller that
+ * arrives while it is running waits for that result instead of loading again. Waiters give up after
+ * the timeout; the key is released as soon as the load finishes, so results are never reused by
+ * later calls.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final Duration timeout;
+
+    private final Counter leaders;
+    private final Counter collapsed;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.leaders = meterRegistry.counter("commerce.coalescing.requests", "name", name, "role", "leader");
+        this.collapsed = meterRegistry.counter("commerce.coalescing.requests", "name", name, "role", "collapsed");
+        this.timeouts = meterRegistry.counter("commerce.coalescing.timeouts", "name", name);
+        Gauge.builder("commerce.coalescing.in.flight", flights, ConcurrentHashMap::size)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Loader<V> loader) throws Throwable {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            collapsed.increment();
+            return await(running);
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.load();
+            flight.complete(value);
+            return value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> running) throws Throwable {
+        try {
+            return running.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new RequestCoalescingTimeoutException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws Throwable;
+    }
+}
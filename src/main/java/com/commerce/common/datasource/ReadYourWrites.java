@@ -0,0 +1,24 @@
+package com.commerce.common.datasource;
+
+/**
+ * Marks the current thread's reads as needing the primary, because the client it serves wrote
+ * recently and a replica may not have caught up yet.
+ */
+public final class ReadYourWrites {
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void pin() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED.remove();
+    }
+
+    public static boolean isPinned() {
+        return PINNED.get() != null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.commerce.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Keeps a client on the primary for a short window after it writes. A write request sets a cookie
+ * that expires with the window; while the client sends it back, its read-only transactions are not
+ * routed to replicas.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "commerce-recent-write";
+
+    private static final Set<String> READ_METHODS = Set.of(
+            HttpMethod.GET.name(), HttpMethod.HEAD.name(), HttpMethod.OPTIONS.name());
+
+    private final int windowSeconds;
+
+    public ReadYourWritesFilter(ReplicaRoutingProperties properties) {
+        this.windowSeconds = (int) Math.max(1, properties.getReadYourWritesWindow().toSeconds());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean write = !READ_METHODS.contains(request.getMethod());
+        if (write) {
+            Cookie cookie = new Cookie(COOKIE_NAME, "1");
+            cookie.setMaxAge(windowSeconds);
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+
+        if (!write && WebUtils.getCookie(request, COOKIE_NAME) == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReadYourWrites.pin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.unpin();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.commerce.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The replicas reads may be routed to. A replica only takes reads while its last health check
+ * succeeded and, when a lag query is configured, reported a lag within the threshold. Replicas
+ * start out unhealthy, so reads stay on the primary until the first check has passed.
+ */
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+    private final List<Replica> replicas;
+    private final ReplicaRoutingProperties properties;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPool(List<Replica> replicas, ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.properties = properties;
+        for (Replica replica : this.replicas) {
+            Gauge.builder("commerce.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.name())
+                    .register(meterRegistry);
+            Gauge.builder("commerce.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.name())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    /**
+     * A healthy replica, or null when none is available and the read has to go to the primary.
+     */
+    public Replica select() {
+        return switch (properties.getSelection()) {
+            case ROUND_ROBIN -> roundRobin();
+            case LEAST_LOADED -> leastLoaded();
+        };
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.datasource.routing.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy = check(replica);
+            if (healthy != replica.healthy) {
+                log.info("Replica {} is now {} (lag={}s)", replica.name(), healthy ? "healthy" : "unhealthy", replica.lagSeconds);
+            }
+            replica.healthy = healthy;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private Replica roundRobin() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private Replica leastLoaded() {
+        Replica selected = null;
+        int selectedLoad = Integer.MAX_VALUE;
+        for (Replica replica : replicas) {
+            if (!replica.healthy) {
+                continue;
+            }
+            int load = replica.load();
+            if (load < selectedLoad) {
+                selected = replica;
+                selectedLoad = load;
+            }
+        }
+        return selected;
+    }
+
+    private boolean check(Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection()) {
+            if (!connection.isValid((int) Math.max(1, properties.getValidationTimeout().toSeconds()))) {
+                return false;
+            }
+            if (!StringUtils.hasText(properties.getLagQuery())) {
+                replica.lagSeconds = 0;
+                return true;
+            }
+            Long lag = queryLag(connection);
+            replica.lagSeconds = lag == null ? -1 : lag;
+            return lag != null && lag <= properties.getMaxLag().toSeconds();
+        } catch (SQLException e) {
+            log.warn("Replica {} health check failed: {}", replica.name(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Null when the replica reports no lag, which is how MySQL says replication is not running.
+     */
+    private Long queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, properties.getValidationTimeout().toSeconds()));
+            try (ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long lag = StringUtils.hasText(properties.getLagColumn()) ? rs.getLong(properties.getLagColumn()) : rs.getLong(1);
+                return rs.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    public static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagSeconds;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean healthy() {
+            return healthy;
+        }
+
+        /**
+         * Connections in use plus threads waiting for one; zero for pools that do not report it.
+         */
+        int load() {
+            if (dataSource instanceof HikariDataSource hikariDataSource) {
+                HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+                if (pool != null) {
+                    return pool.getActiveConnections() + pool.getThreadsAwaitingConnection();
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.commerce.common.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary. The transaction
+ * manager marks a transaction read-only only after it has begun, so this has to sit behind a
+ * {@link LazyConnectionDataSourceProxy} that fetches the real connection on the first statement;
+ * see {@link #lazy(DataSource, ReplicaPool, MeterRegistry)}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final Counter primaryReads;
+    private final Counter fallbacks;
+    private final MeterRegistry meterRegistry;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaPool replicaPool, MeterRegistry meterRegistry) {
+        this.replicaPool = replicaPool;
+        this.meterRegistry = meterRegistry;
+        this.primaryReads = meterRegistry.counter("commerce.datasource.reads", "target", PRIMARY, "reason", "read-your-writes");
+        this.fallbacks = meterRegistry.counter("commerce.datasource.reads", "target", PRIMARY, "reason", "no-healthy-replica");
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaPool.replicas().forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    public static LazyConnectionDataSourceProxy lazy(DataSource primary, ReplicaPool replicaPool, MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicaPool, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (ReadYourWrites.isPinned()) {
+            primaryReads.increment();
+            return PRIMARY;
+        }
+        ReplicaPool.Replica replica = replicaPool.select();
+        if (replica == null) {
+            fallbacks.increment();
+            return PRIMARY;
+        }
+        meterRegistry.counter("commerce.datasource.reads", "target", replica.name(), "reason", "read-only").increment();
+        return replica.name();
+    }
+}
@@ -0,0 +1,50 @@
+package com.commerce.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.datasource.routing")
+public class ReplicaRoutingProperties {
+    private boolean enabled = false;
+    private Selection selection = Selection.ROUND_ROBIN;
+    private Duration maxLag = Duration.ofSeconds(1);
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration validationTimeout = Duration.ofSeconds(1);
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    /**
+     * Run on each replica to read its lag in seconds, e.g. {@code SHOW REPLICA STATUS} with
+     * {@code lag-column: Seconds_Behind_Source}. Without it replicas are only checked for reachability.
+     */
+    private String lagQuery;
+    private String lagColumn;
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * The longest a replica can be behind the primary and still serve reads: the lag threshold plus
+     * the time until the next health check notices it was crossed.
+     */
+    public Duration stalenessBound() {
+        return maxLag.plus(healthCheckInterval);
+    }
+
+    public enum Selection {
+        ROUND_ROBIN, LEAST_LOADED
+    }
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
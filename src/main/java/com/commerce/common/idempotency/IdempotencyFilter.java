@@ -0,0 +1,407 @@
+package com.commerce.common.idempotency;
+
+import com.commerce.common.response.CustomErrorResponse;
+import com.commerce.common.response.ErrorResponseWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes {@code POST} requests carrying an {@code Idempotency-Key} header safe to retry. The first
+ * request with a key executes and its status and body are stored; a repeat is answered with the
+ * stored response without executing, and a repeat arriving while the first is still running waits
+ * for it. Server errors and rejections free the key again, so those can be retried for real.
+ * <p>
+ * The body has to be fingerprinted, so a keyed request without a known length, above
+ * {@code max-fingerprinted-body} or in multipart form is rejected. Streamed responses (NDJSON,
+ * server-sent events) and responses above {@code max-stored-response} are written through as they
+ * are produced and not stored; their key is freed like a failure's.
+ */
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String CONFLICT_CODE = "9";
+    private static final List<String> STREAMING_TYPES = List.of(MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE);
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final MeterRegistry meterRegistry;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties,
+                             ErrorResponseWriter errorResponseWriter, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.errorResponseWriter = errorResponseWriter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            errorResponseWriter.write(response, HttpStatus.BAD_REQUEST, CustomErrorResponse.builder()
+                    .message("`" + HEADER + "` must be 1 to " + MAX_KEY_LENGTH + " characters")
+                    .field(HEADER)
+                    .code("2")
+                    .build());
+            return;
+        }
+
+        long contentLength = request.getContentLengthLong();
+        if (contentLength < 0 && request.getHeader(HttpHeaders.TRANSFER_ENCODING) != null) {
+            writeUnfingerprinted(response, HttpStatus.LENGTH_REQUIRED, "requests with `" + HEADER + "` need a `Content-Length`");
+            return;
+        }
+        if (contentLength > properties.getMaxFingerprintedBody().toBytes()) {
+            writeUnfingerprinted(response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "requests with `" + HEADER + "` can carry at most " + properties.getMaxFingerprintedBody().toBytes() + " bytes");
+            return;
+        }
+        String contentType = request.getContentType();
+        if (contentType != null && contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)) {
+            writeUnfingerprinted(response, HttpStatus.UNSUPPORTED_MEDIA_TYPE, "multipart requests can not carry `" + HEADER + "`");
+            return;
+        }
+
+        BufferedBodyRequest bufferedRequest = new BufferedBodyRequest(request, StreamUtils.copyToByteArray(request.getInputStream()));
+        String key = request.getMethod() + " " + request.getRequestURI() + " " + idempotencyKey;
+        String fingerprint = sha256(bufferedRequest.body);
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+
+        while (true) {
+            IdempotencyStore.Earlier earlier = store.claim(key, fingerprint);
+            if (earlier == null) {
+                execute(key, bufferedRequest, response, filterChain);
+                return;
+            }
+
+            if (!earlier.fingerprint().equals(fingerprint)) {
+                count("mismatched");
+                writeConflict(response, HttpStatus.UNPROCESSABLE_ENTITY, "`" + HEADER + "` was already used for a different request");
+                return;
+            }
+
+            IdempotentResponse earlierResponse;
+            try {
+                earlierResponse = earlier.await(Duration.ofNanos(deadline - System.nanoTime()));
+            } catch (TimeoutException e) {
+                count("in-progress");
+                writeConflict(response, HttpStatus.CONFLICT, "a request with this `" + HEADER + "` is still in progress");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(e);
+            }
+
+            if (earlierResponse != null) {
+                count("replayed");
+                replay(earlierResponse, response);
+                return;
+            }
+            // The earlier request failed and freed the key; claim it and execute this one.
+        }
+    }
+
+    private void execute(String key, HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        count("executed");
+        StoringResponse responseWrapper = new StoringResponse(response, properties.getMaxStoredResponse().toBytes());
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            int status = responseWrapper.getStatus();
+            if (!responseWrapper.storable()) {
+                count("unstored");
+            } else if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                store.complete(key, new IdempotentResponse(status, responseWrapper.getContentType(), responseWrapper.body()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.release(key);
+            }
+            responseWrapper.finish();
+        }
+    }
+
+    private static void replay(IdempotentResponse earlierResponse, HttpServletResponse response) throws IOException {
+        response.setStatus(earlierResponse.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (earlierResponse.contentType() != null) {
+            response.setContentType(earlierResponse.contentType());
+        }
+        byte[] body = earlierResponse.body() == null ? new byte[0] : earlierResponse.body();
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private void writeConflict(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        errorResponseWriter.write(response, status, CustomErrorResponse.builder()
+                .message(message)
+                .field(HEADER)
+                .code(CONFLICT_CODE)
+                .build());
+    }
+
+    private void writeUnfingerprinted(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        count("unfingerprinted");
+        errorResponseWriter.write(response, status, CustomErrorResponse.builder()
+                .message(message)
+                .field(HEADER)
+                .code("2")
+                .build());
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("commerce.idempotency.requests", "outcome", outcome).increment();
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    /**
+     * Holds the body back until the request is done so it can be stored, unless the response turns
+     * out to be a stream or outgrows the limit; from then on everything goes straight to the client.
+     */
+    private static final class StoringResponse extends HttpServletResponseWrapper {
+        private final long limit;
+        private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        private StoringResponse(HttpServletResponse response, long limit) {
+            super(response);
+            this.limit = limit;
+        }
+
+        boolean storable() {
+            return buffer != null;
+        }
+
+        byte[] body() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return buffer.toByteArray();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (buffer != null) {
+                byte[] body = buffer.toByteArray();
+                buffer = null;
+                getResponse().setContentLength(body.length);
+                getResponse().getOutputStream().write(body);
+            }
+            getResponse().flushBuffer();
+        }
+
+        private void passThrough() throws IOException {
+            byte[] body = buffer.toByteArray();
+            buffer = null;
+            getResponse().getOutputStream().write(body);
+        }
+
+        private boolean streaming() {
+            String contentType = getContentType();
+            return contentType != null && STREAMING_TYPES.stream().anyMatch(contentType::startsWith);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        write(new byte[]{(byte) b}, 0, 1);
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        if (buffer != null && (streaming() || buffer.size() + len > limit)) {
+                            passThrough();
+                        }
+                        if (buffer != null) {
+                            buffer.write(b, off, len);
+                        } else {
+                            getResponse().getOutputStream().write(b, off, len);
+                        }
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        if (buffer == null) {
+                            getResponse().getOutputStream().flush();
+                        }
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (writer == null) {
+                String encoding = getCharacterEncoding();
+                Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (buffer == null) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            if (buffer == null) {
+                super.setContentLength(len);
+            }
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (buffer == null) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            buffer = null;
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            buffer = null;
+            super.sendError(sc);
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (buffer != null) {
+                buffer.reset();
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (buffer != null) {
+                buffer.reset();
+            }
+            super.reset();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.commerce.common.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.idempotency")
+public class IdempotencyProperties {
+    private boolean enabled = true;
+    private Store store = Store.MEMORY;
+    private Duration ttl = Duration.ofHours(24);
+    /**
+     * Bounds the in-memory store by the bytes of the keys, fingerprints and stored bodies it holds.
+     */
+    private DataSize maximumWeight = DataSize.ofMegabytes(64);
+    /**
+     * Bounds the claims of the in-memory store that are still running, which are never evicted.
+     */
+    private int maxInFlight = 10_000;
+    /**
+     * How long a retry waits for the original request that is still running.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+    /**
+     * After this long an unfinished claim in the shared table is treated as abandoned by a node
+     * that died mid-request, and the next retry executes the request again.
+     */
+    private Duration inFlightTimeout = Duration.ofMinutes(1);
+    private Duration pollInterval = Duration.ofMillis(50);
+    /**
+     * Bodies up to this size are buffered and fingerprinted, so a key reused for a different
+     * request is rejected instead of answered with the earlier response.
+     */
+    private DataSize maxFingerprintedBody = DataSize.ofKilobytes(64);
+    /**
+     * Larger responses are sent without being stored, and a retry executes the request again.
+     */
+    private DataSize maxStoredResponse = DataSize.ofKilobytes(256);
+
+    public enum Store {
+        MEMORY, JDBC
+    }
+}
@@ -0,0 +1,38 @@
+package com.commerce.common.idempotency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Table behind {@link JdbcIdempotencyStore}; mapped only so the schema is generated with the others.
+ * A row without a status is a request still in flight.
+ */
+@Table(indexes = @Index(name = "idx_idempotency_record_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor
+@Entity
+public class IdempotencyRecord {
+    @Id
+    @Column(length = 512)
+    private String idempotencyKey;
+
+    @Column(length = 64)
+    private String fingerprint;
+
+    private Integer status;
+
+    private String contentType;
+
+    @Lob
+    private byte[] body;
+
+    private Long createdAt;
+
+    private Long expiresAt;
+}
@@ -0,0 +1,28 @@
+package com.commerce.common.idempotency;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+public interface IdempotencyStore {
+    /**
+     * Registers the key as in flight. Returns null when the key was free and the caller has to
+     * execute the request, otherwise the earlier request holding it.
+     */
+    Earlier claim(String key, String fingerprint);
+
+    void complete(String key, IdempotentResponse response);
+
+    /**
+     * Frees the key of a request that failed, so a retry executes it again.
+     */
+    void release(String key);
+
+    interface Earlier {
+        String fingerprint();
+
+        /**
+         * The earlier response, or null if the earlier request was released and the key is free again.
+         */
+        IdempotentResponse await(Duration timeout) throws InterruptedException, TimeoutException;
+    }
+}
@@ -0,0 +1,4 @@
+package com.commerce.common.idempotency;
+
+public record IdempotentResponse(int status, String contentType, byte[] body) {
+}
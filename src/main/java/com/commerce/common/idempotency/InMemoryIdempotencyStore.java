@@ -0,0 +1,97 @@
+package com.commerce.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keys of this node only. Claims still running are pinned in a map of their own, bounded by count, so weight eviction
+ * never frees a key that a retry is waiting on; completed responses move to a Caffeine map bounded by the bytes it
+ * holds that expires them after the TTL. Requests retried against another node are not deduplicated; use the JDBC
+ * store behind a load balancer.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private final ConcurrentMap<String, Entry> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, Entry> entries;
+    private final int maxInFlight;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaximumWeight().toBytes())
+                .weigher((String key, Entry entry) -> key.length() + entry.weight())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+        this.maxInFlight = properties.getMaxInFlight();
+    }
+
+    /**
+     * Once {@code max-in-flight} claims are running, further keys execute without being claimed,
+     * like responses too large to store.
+     */
+    @Override
+    public Earlier claim(String key, String fingerprint) {
+        Earlier[] earlier = new Earlier[1];
+        // Completion moves the entry under the same lock, so a key is never missing from both maps.
+        inFlight.compute(key, (k, running) -> {
+            if (running != null) {
+                earlier[0] = running;
+                return running;
+            }
+            earlier[0] = entries.getIfPresent(k);
+            return earlier[0] == null && inFlight.size() < maxInFlight ? new Entry(fingerprint) : null;
+        });
+        return earlier[0];
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        inFlight.computeIfPresent(key, (k, entry) -> {
+            entry.response.complete(response);
+            entries.put(k, entry);
+            return null;
+        });
+    }
+
+    @Override
+    public void release(String key) {
+        Entry entry = inFlight.remove(key);
+        if (entry != null) {
+            entry.response.complete(null);
+        }
+    }
+
+    private static final class Entry implements Earlier {
+        private final String fingerprint;
+        private final CompletableFuture<IdempotentResponse> response = new CompletableFuture<>();
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private int weight() {
+            IdempotentResponse completed = response.getNow(null);
+            return fingerprint.length() + (completed == null || completed.body() == null ? 0 : completed.body().length);
+        }
+
+        @Override
+        public String fingerprint() {
+            return fingerprint;
+        }
+
+        @Override
+        public IdempotentResponse await(Duration timeout) throws InterruptedException, TimeoutException {
+            try {
+                return response.get(Math.max(0, timeout.toNanos()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.commerce.common.idempotency;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Keys shared by every node through the {@code idempotency_record} table. Claiming is an insert
+ * guarded by the primary key; a retry that finds an unfinished row polls it until the original
+ * request stores its response or frees the key.
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final String INSERT_SQL =
+            "insert into idempotency_record (idempotency_key, fingerprint, created_at, expires_at) values (?, ?, ?, ?)";
+    private static final String TAKE_OVER_SQL =
+            "update idempotency_record set fingerprint = ?, status = null, content_type = null, body = null, created_at = ?, expires_at = ? " +
+            "where idempotency_key = ? and ((status is null and created_at < ?) or expires_at < ?)";
+    private static final String SELECT_SQL =
+            "select fingerprint, status, content_type, body from idempotency_record where idempotency_key = ?";
+    private static final String COMPLETE_SQL =
+            "update idempotency_record set status = ?, content_type = ?, body = ? where idempotency_key = ?";
+    private static final String RELEASE_SQL =
+            "delete from idempotency_record where idempotency_key = ? and status is null";
+    private static final String PURGE_SQL =
+            "delete from idempotency_record where expires_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Earlier claim(String key, String fingerprint) {
+        while (true) {
+            long now = System.currentTimeMillis();
+            long expiresAt = now + properties.getTtl().toMillis();
+            try {
+                jdbcTemplate.update(INSERT_SQL, key, fingerprint, now, expiresAt);
+                return null;
+            } catch (DuplicateKeyException e) {
+                long abandonedBefore = now - properties.getInFlightTimeout().toMillis();
+                if (jdbcTemplate.update(TAKE_OVER_SQL, fingerprint, now, expiresAt, key, abandonedBefore, now) == 1) {
+                    return null;
+                }
+            }
+
+            Row row = select(key);
+            if (row != null) {
+                return new Record(key, row.fingerprint);
+            }
+            // The holder released the key between the insert and the select; claim it again.
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        jdbcTemplate.update(COMPLETE_SQL, response.status(), response.contentType(), response.body(), key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update(RELEASE_SQL, key);
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.idempotency.purge-interval:PT5M}")
+    public void purgeExpired() {
+        jdbcTemplate.update(PURGE_SQL, System.currentTimeMillis());
+    }
+
+    private Row select(String key) {
+        List<Row> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            int status = rs.getInt(2);
+            IdempotentResponse response = rs.wasNull() ? null : new IdempotentResponse(status, rs.getString(3), rs.getBytes(4));
+            return new Row(rs.getString(1), response);
+        }, key);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private record Row(String fingerprint, IdempotentResponse response) {
+    }
+
+    private final class Record implements Earlier {
+        private final String key;
+        private final String fingerprint;
+
+        private Record(String key, String fingerprint) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public String fingerprint() {
+            return fingerprint;
+        }
+
+        @Override
+        public IdempotentResponse await(Duration timeout) throws InterruptedException, TimeoutException {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (true) {
+                Row row = select(key);
+                if (row == null || !fingerprint.equals(row.fingerprint)) {
+                    return null;
+                }
+                if (row.response != null) {
+                    return row.response;
+                }
+                if (System.nanoTime() >= deadline) {
+                    throw new TimeoutException();
+                }
+                Thread.sleep(properties.getPollInterval().toMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.commerce.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Counters for business events that request timers cannot show. Events that change data are
+ * counted once their transaction commits, so a rolled back or retried attempt is not counted twice.
+ */
+@Component
+public class DomainEventMetrics {
+    private final MeterRegistry meterRegistry;
+    private final Counter stockDecrements;
+    private final Counter stockDecrementedQuantity;
+
+    public DomainEventMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.stockDecrements = Counter.builder("commerce.product.stock.decrements")
+                .description("Committed stock decrements")
+                .register(meterRegistry);
+        this.stockDecrementedQuantity = Counter.builder("commerce.product.stock.decremented.quantity")
+                .description("Units removed from stock by committed decrements")
+                .register(meterRegistry);
+    }
+
+    public void stockDecremented(int quantity) {
+        afterCommit(() -> {
+            stockDecrements.increment();
+            stockDecrementedQuantity.increment(quantity);
+        });
+    }
+
+    public void uniquenessConflict(String entity, String field) {
+        meterRegistry.counter("commerce.uniqueness.conflicts", "entity", entity, "field", field).increment();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.commerce.common.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Hands relayed events to in-process {@code @EventListener} methods taking a {@link DomainEvent}.
+ * A {@code @TransactionalEventListener} runs only after the relay has deleted the batch.
+ */
+@RequiredArgsConstructor
+@Component
+public class ApplicationEventSink implements DomainEventSink {
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void deliver(List<DomainEvent> events) {
+        events.forEach(applicationEventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,11 @@
+package com.commerce.common.outbox;
+
+/**
+ * An event as delivered by {@link OutboxRelay}. Delivery is at least once: a batch whose delivery
+ * failed is delivered again, so consumers have to tolerate seeing an id twice.
+ */
+public record DomainEvent(Long id, String type, Long aggregateId, String payload, long occurredAt) {
+    public static final String ACCOUNT_CREATED = "account.created";
+    public static final String PRODUCT_STOCK_CHANGED = "product.stock-changed";
+    public static final String SELLER_DELETED = "seller.deleted";
+}
@@ -0,0 +1,13 @@
+package com.commerce.common.outbox;
+
+import java.util.List;
+
+/**
+ * Receives every relayed batch in id order. Runs inside the relay transaction: throwing keeps the
+ * batch in the outbox, and its events are then delivered one at a time so only the failing ones stay
+ * behind. Delivery is at least once; an event that keeps failing is dropped from relaying after
+ * {@code commerce.outbox.max-attempts} tries.
+ */
+public interface DomainEventSink {
+    void deliver(List<DomainEvent> events);
+}
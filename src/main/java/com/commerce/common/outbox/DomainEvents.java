@@ -0,0 +1,32 @@
+package com.commerce.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes events to the outbox in the caller's transaction, so an event exists exactly when the
+ * change it describes was committed. Delivery happens later on {@link OutboxRelay}.
+ */
+@RequiredArgsConstructor
+@Component
+public class DomainEvents {
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String type, Long aggregateId, Object payload) {
+        outboxEventRepository.save(new OutboxEvent(type, aggregateId, serialize(payload), System.currentTimeMillis()));
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return payload == null ? null : objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unserializable event payload", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.commerce.common.outbox;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * An event written in the transaction of the change it describes and deleted once relayed.
+ */
+@Table(name = "outbox_event")
+@NoArgsConstructor
+@Getter
+@Entity
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String type;
+
+    private Long aggregateId;
+
+    @Column(length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private Long createdAt;
+
+    /**
+     * Failed deliveries so far; the relay stops picking the event up at {@code max-attempts}.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    OutboxEvent(String type, Long aggregateId, String payload, long createdAt) {
+        this.type = type;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    DomainEvent toDomainEvent() {
+        return new DomainEvent(id, type, aggregateId, payload, createdAt);
+    }
+}
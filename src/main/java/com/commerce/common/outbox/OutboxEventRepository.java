@@ -0,0 +1,34 @@
+package com.commerce.common.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * The oldest events below {@code maxAttempts} not locked by another relay. A lock timeout of -2
+     * is Hibernate's {@code SKIP LOCKED}; dialects without it fall back to a plain {@code FOR UPDATE}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.attempts < :maxAttempts order by e.id")
+    List<OutboxEvent> findRelayBatch(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.id = :id and e.attempts < :maxAttempts")
+    Optional<OutboxEvent> findRelayEvent(@Param("id") Long id, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = e.attempts + 1 where e.id = :id")
+    void recordFailedAttempt(@Param("id") Long id);
+}
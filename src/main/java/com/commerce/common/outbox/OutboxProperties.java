@@ -0,0 +1,27 @@
+package com.commerce.common.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.outbox")
+public class OutboxProperties {
+    /**
+     * Off on nodes that should only write events, when another node relays them.
+     */
+    private boolean relayEnabled = true;
+    private int batchSize = 500;
+    /**
+     * Caps how many full batches one poll relays before yielding to the next tick.
+     */
+    private int maxBatchesPerPoll = 20;
+    private Duration pollInterval = Duration.ofMillis(100);
+    /**
+     * Failed deliveries after which an event is left in the outbox as a dead letter and no longer relayed.
+     */
+    private int maxAttempts = 5;
+}
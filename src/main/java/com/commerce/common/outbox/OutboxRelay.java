@@ -0,0 +1,161 @@
+package com.commerce.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves events from the outbox to the sinks. Each batch is locked with {@code SKIP LOCKED}, delivered
+ * and deleted in one transaction, so several nodes can relay side by side without handing out an
+ * event twice. A full batch is followed by the next one right away, up to {@code max-batches-per-poll};
+ * the poll interval applies once the outbox is drained or the cap is hit. The relay runs on its own
+ * thread so a backlog never holds up the shared {@code @Scheduled} tasks.
+ * <p>
+ * When a sink fails, the batch is rolled back and its events are relayed again one per transaction.
+ * Each event that still fails has its attempts counted in a transaction of its own, and after
+ * {@code max-attempts} it stays in the outbox as a dead letter instead of blocking the events behind it.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "commerce.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<DomainEventSink> sinks;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter relayed;
+    private final Counter failures;
+    private final Counter deadLettered;
+    private final Timer lag;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-relay-"));
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, List<DomainEventSink> sinks, OutboxProperties properties,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.sinks = sinks;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayed = Counter.builder("commerce.outbox.relayed")
+                .description("Events delivered to every sink and removed from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder("commerce.outbox.failures")
+                .description("Batches left in the outbox because a sink failed")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("commerce.outbox.dead.lettered")
+                .description("Events left in the outbox after failing max-attempts deliveries")
+                .register(meterRegistry);
+        this.lag = Timer.builder("commerce.outbox.lag")
+                .description("Time from writing an event to relaying it")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        long interval = properties.getPollInterval().toNanos();
+        executor.scheduleWithFixedDelay(this::relay, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public void relay() {
+        try {
+            for (int batches = 1; batches < properties.getMaxBatchesPerPoll(); batches++) {
+                if (relayBatch() < properties.getBatchSize()) {
+                    return;
+                }
+            }
+            relayBatch();
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox relay failed, retrying on the next poll", e);
+        }
+    }
+
+    /**
+     * Relays the oldest batch and returns how many events it held.
+     */
+    public int relayBatch() {
+        try {
+            return record(transactionTemplate.execute(status -> {
+                List<DomainEvent> batch = outboxEventRepository.findRelayBatch(properties.getMaxAttempts(), PageRequest.ofSize(properties.getBatchSize())).stream()
+                        .map(OutboxEvent::toDomainEvent)
+                        .toList();
+                if (batch.isEmpty()) {
+                    return batch;
+                }
+                sinks.forEach(sink -> sink.deliver(batch));
+                outboxEventRepository.deleteAllByIdInBatch(batch.stream().map(DomainEvent::id).toList());
+                return batch;
+            }));
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Outbox batch failed, relaying its events one at a time", e);
+            return relayOneAtATime();
+        }
+    }
+
+    private int relayOneAtATime() {
+        List<Long> ids = transactionTemplate.execute(status ->
+                outboxEventRepository.findRelayBatch(properties.getMaxAttempts(), PageRequest.ofSize(properties.getBatchSize())).stream()
+                        .map(OutboxEvent::getId)
+                        .toList());
+        for (Long id : ids) {
+            try {
+                record(transactionTemplate.execute(status -> outboxEventRepository.findRelayEvent(id, properties.getMaxAttempts())
+                        .map(event -> {
+                            List<DomainEvent> single = List.of(event.toDomainEvent());
+                            sinks.forEach(sink -> sink.deliver(single));
+                            outboxEventRepository.deleteAllByIdInBatch(List.of(id));
+                            return single;
+                        })
+                        .orElse(List.of())));
+            } catch (RuntimeException e) {
+                recordFailedAttempt(id, e);
+            }
+        }
+        return ids.size();
+    }
+
+    private void recordFailedAttempt(Long id, RuntimeException cause) {
+        OutboxEvent event = transactionTemplate.execute(status -> {
+            outboxEventRepository.recordFailedAttempt(id);
+            return outboxEventRepository.findById(id).orElse(null);
+        });
+        if (event == null) {
+            return;
+        }
+        if (event.getAttempts() >= properties.getMaxAttempts()) {
+            deadLettered.increment();
+            log.error("Outbox event {} ({}) failed {} deliveries and is no longer relayed", id, event.getType(), event.getAttempts(), cause);
+        } else {
+            log.warn("Outbox event {} ({}) failed delivery {} of {}", id, event.getType(), event.getAttempts(), properties.getMaxAttempts(), cause);
+        }
+    }
+
+    private int record(List<DomainEvent> events) {
+        long now = System.currentTimeMillis();
+        events.forEach(event -> lag.record(now - event.occurredAt(), TimeUnit.MILLISECONDS));
+        relayed.increment(events.size());
+        return events.size();
+    }
+}
@@ -0,0 +1,79 @@
+package com.commerce.common.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes {@link CustomErrorResponse} bodies straight to the servlet output stream with the
+ * application's {@link ObjectMapper}. Errors whose body never changes are encoded once and the
+ * same bytes are written for every response.
+ */
+@Component
+public class ErrorResponseWriter {
+    public static final String NOT_FOUND_CODE = "6";
+    public static final String UNAUTHENTICATED_CODE = "7";
+
+    private final ObjectMapper objectMapper;
+    private final byte[] notFound;
+    private final byte[] unauthenticated;
+    private final ConcurrentHashMap<String, byte[]> duplicated = new ConcurrentHashMap<>();
+
+    public ErrorResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.notFound = encode(CustomErrorResponse.builder()
+                .message("not found")
+                .code(NOT_FOUND_CODE)
+                .build());
+        this.unauthenticated = encode(CustomErrorResponse.builder()
+                .message("로그인이 필요합니다.")
+                .code(UNAUTHENTICATED_CODE)
+                .build());
+    }
+
+    public void writeNotFound(HttpServletResponse response) throws IOException {
+        write(response, HttpStatus.NOT_FOUND, notFound);
+    }
+
+    public void writeUnauthenticated(HttpServletResponse response) throws IOException {
+        write(response, HttpStatus.UNAUTHORIZED, unauthenticated);
+    }
+
+    /**
+     * Field names come from the code, never from the request, so this cache stays small.
+     */
+    public void writeDuplicated(HttpServletResponse response, String field) throws IOException {
+        byte[] body = duplicated.computeIfAbsent(field, key -> encode(CustomErrorResponse.builder()
+                .field(key)
+                .message(key + " duplicated")
+                .code("1")
+                .build()));
+        write(response, HttpStatus.CONFLICT, body);
+    }
+
+    public void write(HttpServletResponse response, HttpStatus status, CustomErrorResponse errorResponse) throws IOException {
+        write(response, status, encode(errorResponse));
+    }
+
+    private static void write(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private byte[] encode(CustomErrorResponse errorResponse) {
+        try {
+            return objectMapper.writeValueAsBytes(errorResponse);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.commerce.common.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Re-runs a {@link RetryOnConflict} method when its transaction loses an optimistic lock.
+ * Ordered ahead of the transaction advice so every attempt gets a fresh transaction;
+ * calls that join an already running transaction are not retried.
+ */
+@Slf4j
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Component
+public class OptimisticLockRetryAspect {
+    private final OptimisticLockRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        OptimisticLockRetryProperties.Policy policy = properties.policyFor(retryOnConflict.operation());
+        Tags tags = Tags.of("entity", retryOnConflict.entity(), "operation", retryOnConflict.operation());
+        meterRegistry.counter("commerce.optimistic.lock.calls", tags).increment();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                meterRegistry.counter("commerce.optimistic.lock.conflicts", tags).increment();
+
+                if (attempt >= policy.getMaxAttempts()) {
+                    meterRegistry.counter("commerce.optimistic.lock.exhausted", tags).increment();
+                    log.warn("{} {} gave up after {} conflicting attempts", retryOnConflict.entity(), retryOnConflict.operation(), attempt);
+                    throw e;
+                }
+
+                meterRegistry.counter("commerce.optimistic.lock.retries", tags).increment();
+                Thread.sleep(backoffMillis(policy, attempt));
+            }
+        }
+    }
+
+    private static long backoffMillis(OptimisticLockRetryProperties.Policy policy, int attempt) {
+        double ceiling = policy.getInitialBackoff().toMillis() * Math.pow(policy.getMultiplier(), attempt - 1);
+        long bounded = (long) Math.min(ceiling, policy.getMaxBackoff().toMillis());
+        return bounded <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bounded + 1);
+    }
+}
@@ -0,0 +1,30 @@
+package com.commerce.common.retry;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.retry")
+public class OptimisticLockRetryProperties {
+    private Policy defaults = new Policy();
+    private Map<String, Policy> operations = new HashMap<>();
+
+    Policy policyFor(String operation) {
+        return operations.getOrDefault(operation, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(10);
+        private Duration maxBackoff = Duration.ofMillis(200);
+        private double multiplier = 2.0;
+    }
+}
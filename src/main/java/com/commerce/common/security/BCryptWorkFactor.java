@@ -0,0 +1,50 @@
+package com.commerce.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the highest BCrypt strength whose hash still fits the target latency on this machine.
+ * Every strength step doubles the cost, so the next step is only measured when the current one
+ * leaves at least half of the budget.
+ */
+@Slf4j
+public final class BCryptWorkFactor {
+    private static final String SAMPLE = "calibration-sample";
+
+    private BCryptWorkFactor() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        long target = targetLatency.toNanos();
+        int strength = minStrength;
+        long elapsed = measure(strength);
+
+        while (strength < maxStrength && elapsed * 2 <= target) {
+            long next = measure(strength + 1);
+            if (next > target) {
+                break;
+            }
+            strength++;
+            elapsed = next;
+        }
+
+        log.info("BCrypt strength {} selected ({} ms per hash, target {} ms)",
+                strength, Duration.ofNanos(elapsed).toMillis(), targetLatency.toMillis());
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        // The first round pays for class loading and JIT warm-up, keep the faster one.
+        for (int i = 0; i < 2; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+        return best;
+    }
+}
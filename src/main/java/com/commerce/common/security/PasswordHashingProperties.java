@@ -0,0 +1,22 @@
+package com.commerce.common.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.password.hashing")
+public class PasswordHashingProperties {
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = Runtime.getRuntime().availableProcessors() * 4;
+    private Duration targetLatency = Duration.ofMillis(100);
+    private int minStrength = 10;
+    private int maxStrength = 16;
+    /**
+     * Fixed BCrypt strength; calibrated against {@link #targetLatency} on startup when unset.
+     */
+    private Integer strength;
+}
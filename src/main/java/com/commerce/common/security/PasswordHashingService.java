@@ -0,0 +1,148 @@
+package com.commerce.common.security;
+
+import com.commerce.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs password hashing on a dedicated pool sized to the CPU count, so request threads only wait
+ * for the result. The queue is bounded; once it is full new work is rejected with
+ * {@link PasswordHashingRejectedException} instead of piling up behind a login storm.
+ */
+@Service
+public class PasswordHashingService {
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final int bulkParallelism;
+    private final String unknownAccountHash;
+
+    private final Timer hashWait;
+    private final Timer hashExecution;
+    private final Timer matchWait;
+    private final Timer matchExecution;
+    private final Counter rejections;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(),
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.bulkParallelism = Math.max(1, properties.getThreads() / 2);
+        this.unknownAccountHash = passwordEncoder.encode(UUID.randomUUID().toString());
+
+        new ExecutorServiceMetrics(executor, "password-hashing", Tags.empty()).bindTo(meterRegistry);
+        this.hashWait = meterRegistry.timer("commerce.password.hashing.wait", "operation", "hash");
+        this.hashExecution = meterRegistry.timer("commerce.password.hashing.execution", "operation", "hash");
+        this.matchWait = meterRegistry.timer("commerce.password.hashing.wait", "operation", "matches");
+        this.matchExecution = meterRegistry.timer("commerce.password.hashing.execution", "operation", "matches");
+        this.rejections = meterRegistry.counter("commerce.password.hashing.rejections");
+    }
+
+    public String hash(String rawPassword) {
+        return await(submit(() -> passwordEncoder.encode(rawPassword), hashWait, hashExecution));
+    }
+
+    /**
+     * Hashes a batch for bulk imports. At most half of the pool works on one batch at a time,
+     * leaving the rest of the pool and the whole queue to interactive sign-ups and logins.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        Semaphore permits = new Semaphore(bulkParallelism);
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                permits.acquire();
+                try {
+                    futures.add(submit(() -> {
+                        try {
+                            return passwordEncoder.encode(rawPassword);
+                        } finally {
+                            permits.release();
+                        }
+                    }, hashWait, hashExecution));
+                } catch (PasswordHashingRejectedException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing passwords", e);
+        }
+
+        List<String> hashes = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            hashes.add(await(future));
+        }
+        return hashes;
+    }
+
+    /**
+     * A missing hash is checked against a throwaway one, so unknown usernames take as long as wrong passwords.
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        String hash = encodedPassword == null ? unknownAccountHash : encodedPassword;
+        boolean matches = await(submit(() -> passwordEncoder.matches(rawPassword, hash), matchWait, matchExecution));
+        return matches && encodedPassword != null;
+    }
+
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> Future<T> submit(Callable<T> task, Timer wait, Timer execution) {
+        long queuedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                wait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return execution.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new PasswordHashingRejectedException();
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
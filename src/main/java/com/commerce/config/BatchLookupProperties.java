@@ -0,0 +1,13 @@
+package com.commerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.lookup")
+public class BatchLookupProperties {
+    private int chunkSize = 500;
+    private int maxIds = 1000;
+}
@@ -0,0 +1,55 @@
+package com.commerce.config;
+
+import com.commerce.common.cache.EagerEvictingCacheDecorator;
+import com.commerce.common.datasource.ReplicaRoutingProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read-through caches for single entity lookups by id. The cache advice runs outside request
+ * coalescing and the transaction advice, so a hit never opens a transaction or borrows a connection.
+ */
+@Slf4j
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 2)
+@Configuration
+public class CacheConfig {
+    public static final String ACCOUNTS = "accounts";
+    public static final String SELLERS = "sellers";
+    public static final String CUSTOMERS = "customers";
+    public static final String PRODUCTS = "products";
+
+    @Bean
+    CacheManager cacheManager(EntityCacheProperties properties, ReplicaRoutingProperties replicaRoutingProperties) {
+        Duration replicaLag = replicaRoutingProperties.isEnabled() ? replicaRoutingProperties.stalenessBound() : Duration.ZERO;
+        SimpleCacheManager cacheManager = new SimpleCacheManager() {
+            @Override
+            protected Cache decorateCache(Cache cache) {
+                return new EagerEvictingCacheDecorator(cache, replicaLag);
+            }
+        };
+        cacheManager.setCaches(List.of(ACCOUNTS, SELLERS, CUSTOMERS, PRODUCTS).stream()
+                .map(name -> caffeineCache(name, properties.specFor(name)))
+                .toList());
+        return cacheManager;
+    }
+
+    private static CaffeineCache caffeineCache(String name, EntityCacheProperties.Spec spec) {
+        log.debug("Cache : {} (maximumSize={}, ttl={})", name, spec.getMaximumSize(), spec.getTtl());
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .maximumSize(spec.getMaximumSize())
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build(), false);
+    }
+}
@@ -0,0 +1,28 @@
+package com.commerce.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.cache")
+public class EntityCacheProperties {
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = new HashMap<>();
+
+    Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,39 @@
+package com.commerce.config;
+
+import com.commerce.common.idempotency.IdempotencyFilter;
+import com.commerce.common.idempotency.IdempotencyProperties;
+import com.commerce.common.idempotency.IdempotencyStore;
+import com.commerce.common.idempotency.InMemoryIdempotencyStore;
+import com.commerce.common.idempotency.JdbcIdempotencyStore;
+import com.commerce.common.response.ErrorResponseWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@code Idempotency-Key} handling for {@code POST} requests. {@code commerce.idempotency.store=jdbc}
+ * shares keys between nodes through the {@code idempotency_record} table; the default keeps them in memory.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "commerce.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfiguration {
+    @Bean
+    @ConditionalOnProperty(prefix = "commerce.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+    IdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "commerce.idempotency", name = "store", havingValue = "jdbc")
+    IdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        return new JdbcIdempotencyStore(jdbcTemplate, properties);
+    }
+
+    @Bean
+    IdempotencyFilter idempotencyFilter(IdempotencyStore idempotencyStore, IdempotencyProperties properties,
+                                        ErrorResponseWriter errorResponseWriter, MeterRegistry meterRegistry) {
+        return new IdempotencyFilter(idempotencyStore, properties, errorResponseWriter, meterRegistry);
+    }
+}
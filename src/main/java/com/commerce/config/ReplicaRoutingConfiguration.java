@@ -0,0 +1,67 @@
+package com.commerce.config;
+
+import com.commerce.common.datasource.ReadYourWritesFilter;
+import com.commerce.common.datasource.ReplicaPool;
+import com.commerce.common.datasource.ReplicaRoutingDataSource;
+import com.commerce.common.datasource.ReplicaRoutingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * {@code commerce.datasource.routing.enabled=true} sends {@code @Transactional(readOnly = true)} work
+ * to the configured replicas. The primary pool keeps its {@code spring.datasource} settings; each
+ * replica gets its own Hikari pool with the primary's driver.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "commerce.datasource.routing", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    ReplicaPool replicaPool(DataSourceProperties dataSourceProperties, ReplicaRoutingProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicaPool(properties.getReplicas().stream()
+                .map(replica -> {
+                    log.debug("Replica : {} ({})", replica.getName(), replica.getUrl());
+                    HikariDataSource dataSource = new HikariDataSource();
+                    dataSource.setPoolName(replica.getName());
+                    dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+                    dataSource.setJdbcUrl(replica.getUrl());
+                    dataSource.setUsername(replica.getUsername());
+                    dataSource.setPassword(replica.getPassword());
+                    dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+                    dataSource.setReadOnly(true);
+                    dataSource.setMetricRegistry(meterRegistry);
+                    return new ReplicaPool.Replica(replica.getName(), dataSource);
+                })
+                .toList(), properties, meterRegistry);
+    }
+
+    @Primary
+    @Bean
+    DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool, MeterRegistry meterRegistry) {
+        return ReplicaRoutingDataSource.lazy(primaryDataSource, replicaPool, meterRegistry);
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingProperties properties) {
+        return new ReadYourWritesFilter(properties);
+    }
+}
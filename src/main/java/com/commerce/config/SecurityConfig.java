@@ -1,9 +1,18 @@
 package com.commerce.config;
 
+import com.commerce.common.response.ErrorResponseWriter;
+import com.commerce.common.security.BCryptWorkFactor;
+import com.commerce.common.security.PasswordHashingProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -11,36 +20,53 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-import com.commerce.util.CustomResponseUtil;
 
 @Slf4j
 @Configuration
 public class SecurityConfig {
     @Bean
-    PasswordEncoder passwordEncoder() {
-        log.debug("Password Encoder : BCryptPasswordEncoder");
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        int strength = properties.getStrength() != null
+                ? properties.getStrength()
+                : BCryptWorkFactor.calibrate(properties.getTargetLatency(), properties.getMinStrength(), properties.getMaxStrength());
+        log.debug("Password Encoder : BCryptPasswordEncoder({})", strength);
+        return new BCryptPasswordEncoder(strength);
     }
 
+    /**
+     * Actuator endpoints get their own chain with HTTP basic against the {@code spring.security.user}
+     * account. Health stays open for load balancers; metrics and every other endpoint need the
+     * {@code ACTUATOR} role. In production they are also served on a separate management port.
+     */
     @Bean
-    SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .httpBasic(Customizer.withDefaults())
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .anyRequest().hasRole("ACTUATOR"))
+                .build();
+    }
+
+    @Bean
+    SecurityFilterChain filterChain(HttpSecurity http, ErrorResponseWriter errorResponseWriter) throws Exception {
         log.debug("Filter Chain");
         return http
-                .headers().frameOptions().disable().and()
-                .csrf().disable()
-                .cors().configurationSource(null)
-                .and()
-                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
-                .and()
-                .formLogin().disable()
-                .httpBasic().disable()
-                .exceptionHandling().authenticationEntryPoint((request, response, authenticationException) -> {
-                    CustomResponseUtil.unAuthentication(response, "로그인이 필요합니다.");
-                })
-                .and()
-                .authorizeHttpRequests()
-                .anyRequest().permitAll()
-                .and().build();
+                .headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::disable))
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(cors -> cors.configurationSource(null))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .formLogin(AbstractHttpConfigurer::disable)
+                .httpBasic(AbstractHttpConfigurer::disable)
+                .exceptionHandling(exceptionHandling -> exceptionHandling.authenticationEntryPoint((request, response, authenticationException) ->
+                        errorResponseWriter.writeUnauthenticated(response)))
+                .authorizeHttpRequests(authorize -> authorize
+                        .anyRequest().permitAll())
+                .build();
     }
 
     @Bean
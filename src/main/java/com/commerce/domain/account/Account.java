@@ -7,22 +7,30 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Where;
 
-@Where(clause = "deleted is false")
+import java.util.Date;
+
+@Table(
+        indexes = @Index(name = "idx_account_deleted_id", columnList = "deleted, id"),
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_account_username", columnNames = "username"),
+                @UniqueConstraint(name = "uk_account_email", columnNames = "email"),
+                @UniqueConstraint(name = "uk_account_phone_number", columnNames = "phone_number")
+        })
+@Where(clause = "deleted = false")
+@EntityListeners(AccountIdentifierListener.class)
 @Getter
 @Entity
 @NoArgsConstructor
 public class Account extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_seq")
+    @SequenceGenerator(name = "account_seq", sequenceName = "account_seq", allocationSize = 50)
     private Long id;
 
-    @Column(unique = true)
     private String username;
 
-    @Column(unique = true)
     private String email;
 
-    @Column(unique = true)
     private String phoneNumber;
 
     private String password;
@@ -31,6 +39,11 @@ public class Account extends BaseEntity {
 
     private Boolean deleted = false;
 
+    private Date deletedAt;
+
+    @Version
+    private Long version;
+
     @Builder
     Account(String email, String username, String phoneNumber, String password) {
         this.email = email;
@@ -70,5 +83,6 @@ public class Account extends BaseEntity {
 
     void delete() {
         this.deleted = true;
+        this.deletedAt = new Date();
     }
 }
@@ -0,0 +1,12 @@
+package com.commerce.domain.account;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.account.bulk")
+public class AccountBulkProperties {
+    private int chunkSize = 1000;
+}
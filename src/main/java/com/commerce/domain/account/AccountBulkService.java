@@ -0,0 +1,298 @@
+package com.commerce.domain.account;
+
+import com.commerce.common.outbox.DomainEvent;
+import com.commerce.common.outbox.DomainEvents;
+import com.commerce.domain.account.dto.BulkCreateAccountResult;
+import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.common.security.PasswordHashingService;
+import com.commerce.exception.PasswordHashingRejectedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Creates accounts from an NDJSON stream chunk by chunk. Each chunk is checked for
+ * duplicates with a single query, inserted in one JDBC batch and answered with one
+ * result line per input line, so memory use depends on the chunk size only. The status line is
+ * committed with the first chunk, so a chunk that fails as a whole is answered with a
+ * {@code FAILED} line per row instead of cutting the stream short.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AccountBulkService {
+    private final AccountRepository accountRepository;
+    private final AccountIdentifierFilter accountIdentifierFilter;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final AccountBulkProperties properties;
+    private final DomainEvents domainEvents;
+
+    public void createAccounts(InputStream input, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<Row> chunk = new ArrayList<>(properties.getChunkSize());
+        long lineNumber = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            chunk.add(parse(lineNumber, line));
+            if (chunk.size() == properties.getChunkSize()) {
+                processChunkOrFail(chunk);
+                write(chunk, output);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            processChunkOrFail(chunk);
+            write(chunk, output);
+        }
+    }
+
+    private Row parse(long line, String json) {
+        CreateAccountDto createAccountDto;
+        try {
+            createAccountDto = objectMapper.readValue(json, CreateAccountDto.class);
+        } catch (JsonProcessingException e) {
+            return Row.rejected(invalid(line, null, "malformed json"));
+        }
+
+        Set<ConstraintViolation<CreateAccountDto>> violations = validator.validate(createAccountDto);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<CreateAccountDto> violation = violations.iterator().next();
+            String field = violation.getPropertyPath().toString();
+            return Row.rejected(invalid(line, field, "`" + field + "` " + violation.getMessage()));
+        }
+
+        return new Row(line, createAccountDto);
+    }
+
+    private void processChunkOrFail(List<Row> rows) {
+        try {
+            processChunk(rows);
+        } catch (PasswordHashingRejectedException e) {
+            fail(rows, "password hashing is overloaded, retry this line later");
+        } catch (RuntimeException e) {
+            log.warn("bulk account chunk starting at line {} failed", rows.get(0).line, e);
+            fail(rows, "could not be stored, retry this line later");
+        }
+    }
+
+    private static void fail(List<Row> rows, String message) {
+        for (Row row : rows) {
+            if (row.result == null) {
+                row.result = BulkCreateAccountResult.builder()
+                        .line(row.line)
+                        .status(BulkCreateAccountResult.Status.FAILED)
+                        .message(message)
+                        .build();
+            }
+        }
+    }
+
+    private void processChunk(List<Row> rows) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+
+        for (Row row : rows) {
+            if (row.result != null) {
+                continue;
+            }
+
+            String field = duplicatedField(row.createAccountDto, usernames, emails, phoneNumbers);
+            if (field != null) {
+                row.result = duplicated(row.line, field);
+                continue;
+            }
+
+            usernames.add(row.createAccountDto.getUsername());
+            emails.add(row.createAccountDto.getEmail());
+            phoneNumbers.add(row.createAccountDto.getPhoneNumber());
+        }
+
+        List<Row> possibleDuplicates = rows.stream()
+                .filter(row -> row.result == null)
+                .filter(row -> accountIdentifierFilter.mightContainAny(
+                        row.createAccountDto.getUsername(),
+                        row.createAccountDto.getEmail(),
+                        row.createAccountDto.getPhoneNumber()))
+                .toList();
+
+        if (!possibleDuplicates.isEmpty()) {
+            rejectExisting(possibleDuplicates, accountRepository.findIdentifiersIn(
+                    possibleDuplicates.stream().map(row -> row.createAccountDto.getUsername()).toList(),
+                    possibleDuplicates.stream().map(row -> row.createAccountDto.getEmail()).toList(),
+                    possibleDuplicates.stream().map(row -> row.createAccountDto.getPhoneNumber()).toList()));
+        }
+
+        insert(rows.stream().filter(row -> row.result == null).toList());
+    }
+
+    private void rejectExisting(List<Row> rows, List<AccountIdentifiers> existingAccounts) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        Set<String> phoneNumbers = new HashSet<>();
+        for (AccountIdentifiers existingAccount : existingAccounts) {
+            usernames.add(existingAccount.getUsername());
+            emails.add(existingAccount.getEmail());
+            phoneNumbers.add(existingAccount.getPhoneNumber());
+        }
+
+        for (Row row : rows) {
+            String field = duplicatedField(row.createAccountDto, usernames, emails, phoneNumbers);
+            if (field != null) {
+                row.result = duplicated(row.line, field);
+            } else {
+                accountIdentifierFilter.recordFalsePositive();
+            }
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> passwordHashes = passwordHashingService.hashAll(rows.stream().map(row -> row.createAccountDto.getPassword()).toList());
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).passwordHash = passwordHashes.get(i);
+        }
+
+        try {
+            List<Account> accounts = transactionTemplate.execute(status -> {
+                List<Account> saved = accountRepository.saveAll(rows.stream().map(AccountBulkService::toAccount).toList());
+                accountRepository.flush();
+                saved.forEach(this::publishCreated);
+                return saved;
+            });
+
+            for (int i = 0; i < rows.size(); i++) {
+                rows.get(i).result = created(rows.get(i).line, accounts.get(i).getId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Something the chunk query cannot see (a soft-deleted or concurrently created account) collided; isolate it row by row.
+            rows.forEach(this::insertOne);
+        }
+    }
+
+    private void insertOne(Row row) {
+        try {
+            Account account = transactionTemplate.execute(status -> {
+                Account saved = accountRepository.saveAndFlush(toAccount(row));
+                publishCreated(saved);
+                return saved;
+            });
+            row.result = created(row.line, account.getId());
+        } catch (DataIntegrityViolationException e) {
+            row.result = BulkCreateAccountResult.builder()
+                    .line(row.line)
+                    .status(BulkCreateAccountResult.Status.DUPLICATED)
+                    .message("conflicts with an existing account")
+                    .build();
+        }
+    }
+
+    private void publishCreated(Account account) {
+        domainEvents.publish(DomainEvent.ACCOUNT_CREATED, account.getId(), Map.of("username", account.getUsername()));
+    }
+
+    private void write(List<Row> rows, OutputStream output) throws IOException {
+        for (Row row : rows) {
+            output.write(objectMapper.writeValueAsBytes(row.result));
+            output.write('\n');
+        }
+        output.flush();
+    }
+
+    private static Account toAccount(Row row) {
+        return Account.builder()
+                .email(row.createAccountDto.getEmail())
+                .username(row.createAccountDto.getUsername())
+                .phoneNumber(row.createAccountDto.getPhoneNumber())
+                .password(row.passwordHash)
+                .build();
+    }
+
+    private static String duplicatedField(CreateAccountDto createAccountDto, Set<String> usernames, Set<String> emails, Set<String> phoneNumbers) {
+        if (usernames.contains(createAccountDto.getUsername())) {
+            return "username";
+        }
+        if (emails.contains(createAccountDto.getEmail())) {
+            return "email";
+        }
+        if (phoneNumbers.contains(createAccountDto.getPhoneNumber())) {
+            return "phoneNumber";
+        }
+        return null;
+    }
+
+    private static BulkCreateAccountResult created(long line, Long accountId) {
+        return BulkCreateAccountResult.builder()
+                .line(line)
+                .status(BulkCreateAccountResult.Status.CREATED)
+                .accountId(accountId)
+                .build();
+    }
+
+    private static BulkCreateAccountResult duplicated(long line, String field) {
+        return BulkCreateAccountResult.builder()
+                .line(line)
+                .status(BulkCreateAccountResult.Status.DUPLICATED)
+                .field(field)
+                .message(field + " duplicated")
+                .build();
+    }
+
+    private static BulkCreateAccountResult invalid(long line, String field, String message) {
+        return BulkCreateAccountResult.builder()
+                .line(line)
+                .status(BulkCreateAccountResult.Status.INVALID)
+                .field(field)
+                .message(message)
+                .build();
+    }
+
+    private static class Row {
+        private final long line;
+        private final CreateAccountDto createAccountDto;
+        private String passwordHash;
+        private BulkCreateAccountResult result;
+
+        Row(long line, CreateAccountDto createAccountDto) {
+            this.line = line;
+            this.createAccountDto = createAccountDto;
+        }
+
+        static Row rejected(BulkCreateAccountResult result) {
+            Row row = new Row(result.getLine(), null);
+            row.result = result;
+            return row;
+        }
+    }
+}
@@ -1,23 +1,32 @@
 package com.commerce.domain.account;
 
+import com.commerce.domain.account.dto.AccountDto;
 import com.commerce.domain.account.dto.CreateAccountDto;
 import com.commerce.domain.account.dto.CreateAccountResponse;
 import com.commerce.domain.account.dto.FindAccountResponse;
+import com.commerce.domain.account.dto.LoginAccountDto;
+import com.commerce.domain.account.dto.LoginAccountResponse;
 import com.commerce.domain.account.dto.UpdateAccountDto;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RequestMapping("accounts")
 @RestController
 @RequiredArgsConstructor
 public class AccountController {
     private final AccountService accountService;
+    private final AccountBulkService accountBulkService;
 
     @GetMapping("{id}")
     public FindAccountResponse findAccount(@PathVariable("id") Long accountId) {
-        Account account = accountService.findAccountById(accountId);
+        AccountDto account = accountService.findAccountById(accountId);
         return FindAccountResponse.builder()
                 .email(account.getEmail())
                 .username(account.getUsername())
@@ -33,6 +42,21 @@ public class AccountController {
                 .build();
     }
 
+    @PostMapping(value = "bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void createAccounts(InputStream body, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        accountBulkService.createAccounts(body, response.getOutputStream());
+    }
+
+    @PostMapping("login")
+    public LoginAccountResponse login(@RequestBody @Valid LoginAccountDto loginAccountDto) {
+        Long accountId = accountService.login(loginAccountDto);
+        return LoginAccountResponse.builder()
+                .accountId(accountId)
+                .build();
+    }
+
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PatchMapping("{id}")
     public void  updateAccount(@PathVariable("id") Long accountId, @RequestBody UpdateAccountDto updateAccountDto) {
@@ -0,0 +1,191 @@
+package com.commerce.domain.account;
+
+import com.commerce.common.archive.RowsArchived;
+import com.commerce.common.filter.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bloom filters over the unique columns of {@link Account}. A definite miss on every column
+ * means no account, deleted or not, holds any of the values, so the duplicate query can be skipped.
+ * Archived accounts free their values, so archival triggers a rebuild that forgets them.
+ * <p>
+ * Accounts are recorded at persist time, before they commit, so a rebuild's scan can pass an
+ * account that commits later. Such an account was recorded into the filter being replaced, which
+ * is therefore still consulted for {@code rebuild-grace-period} after the swap.
+ * Until the first scan of the table completes every check answers "might exist".
+ */
+@Slf4j
+@Component
+public class AccountIdentifierFilter {
+    private static final String SCAN_SQL =
+            "select id, username, email, phone_number from account where id > ? order by id limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountIdentifierFilterProperties properties;
+
+    private final Counter definiteMisses;
+    private final Counter possibleHits;
+    private final Counter falsePositives;
+
+    private volatile Filters current;
+    private volatile Filters previous;
+    private volatile long previousUntil;
+    private volatile Filters rebuilding;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public AccountIdentifierFilter(JdbcTemplate jdbcTemplate, AccountIdentifierFilterProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.current = new Filters(properties);
+
+        this.definiteMisses = meterRegistry.counter("commerce.account.identifier.filter.checks", "result", "definite-miss");
+        this.possibleHits = meterRegistry.counter("commerce.account.identifier.filter.checks", "result", "possible-hit");
+        this.falsePositives = meterRegistry.counter("commerce.account.identifier.filter.false.positives");
+        Gauge.builder("commerce.account.identifier.filter.bytes", this, filter -> filter.current.byteSize())
+                .register(meterRegistry);
+        Gauge.builder("commerce.account.identifier.filter.expected.fpp", this, filter -> filter.current.expectedFalsePositiveProbability())
+                .register(meterRegistry);
+    }
+
+    public boolean mightContainAny(String username, String email, String phoneNumber) {
+        Filters filters = current;
+        Filters replaced = replaced();
+        boolean mightContain = !filters.ready
+                || filters.mightContainAny(username, email, phoneNumber)
+                || replaced != null && replaced.mightContainAny(username, email, phoneNumber);
+
+        (mightContain ? possibleHits : definiteMisses).increment();
+        return mightContain;
+    }
+
+    public boolean mightContainPhoneNumber(String phoneNumber) {
+        Filters filters = current;
+        Filters replaced = replaced();
+        boolean mightContain = !filters.ready
+                || filters.phoneNumbers.mightContain(phoneNumber)
+                || replaced != null && replaced.phoneNumbers.mightContain(phoneNumber);
+
+        (mightContain ? possibleHits : definiteMisses).increment();
+        return mightContain;
+    }
+
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    public void record(Account account) {
+        current.put(account.getUsername(), account.getEmail(), account.getPhoneNumber());
+
+        Filters next = rebuilding;
+        if (next != null) {
+            next.put(account.getUsername(), account.getEmail(), account.getPhoneNumber());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    @EventListener
+    public void accountsArchived(RowsArchived rowsArchived) {
+        if ("account".equals(rowsArchived.table()) && properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        // A lock rather than synchronized: the scan blocks on JDBC and must not pin a virtual thread's carrier.
+        rebuildLock.lock();
+        try {
+            Filters next = new Filters(properties);
+            rebuilding = next;
+            long lastId = 0;
+            long scanned = 0;
+            int page;
+            do {
+                long[] pageLastId = {lastId};
+                page = jdbcTemplate.query(SCAN_SQL, (rs, rowNum) -> {
+                    next.put(rs.getString("username"), rs.getString("email"), rs.getString("phone_number"));
+                    pageLastId[0] = rs.getLong("id");
+                    return Boolean.TRUE;
+                }, lastId, properties.getScanPageSize()).size();
+                lastId = pageLastId[0];
+                scanned += page;
+            } while (page == properties.getScanPageSize());
+
+            next.ready = true;
+            previousUntil = System.currentTimeMillis() + properties.getRebuildGracePeriod().toMillis();
+            previous = current;
+            current = next;
+            log.info("account identifier filter rebuilt from {} accounts, {} bytes", scanned, next.byteSize());
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    private Filters replaced() {
+        Filters replaced = previous;
+        if (replaced != null && System.currentTimeMillis() >= previousUntil) {
+            previous = null;
+            return null;
+        }
+        return replaced;
+    }
+
+    public long byteSize() {
+        return current.byteSize();
+    }
+
+    public double expectedFalsePositiveProbability() {
+        return current.expectedFalsePositiveProbability();
+    }
+
+    public boolean isReady() {
+        return current.ready;
+    }
+
+    private static class Filters {
+        private final BloomFilter usernames;
+        private final BloomFilter emails;
+        private final BloomFilter phoneNumbers;
+        private volatile boolean ready;
+
+        Filters(AccountIdentifierFilterProperties properties) {
+            this.usernames = BloomFilter.create(properties.getExpectedInsertions(), properties.getFalsePositiveProbability());
+            this.emails = BloomFilter.create(properties.getExpectedInsertions(), properties.getFalsePositiveProbability());
+            this.phoneNumbers = BloomFilter.create(properties.getExpectedInsertions(), properties.getFalsePositiveProbability());
+        }
+
+        boolean mightContainAny(String username, String email, String phoneNumber) {
+            return usernames.mightContain(username) || emails.mightContain(email) || phoneNumbers.mightContain(phoneNumber);
+        }
+
+        void put(String username, String email, String phoneNumber) {
+            usernames.put(username);
+            emails.put(email);
+            phoneNumbers.put(phoneNumber);
+        }
+
+        long byteSize() {
+            return usernames.byteSize() + emails.byteSize() + phoneNumbers.byteSize();
+        }
+
+        double expectedFalsePositiveProbability() {
+            return Math.max(usernames.expectedFalsePositiveProbability(),
+                    Math.max(emails.expectedFalsePositiveProbability(), phoneNumbers.expectedFalsePositiveProbability()));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.commerce.domain.account;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Component
+@Endpoint(id = "accountIdentifierFilter")
+public class AccountIdentifierFilterEndpoint {
+    private final AccountIdentifierFilter accountIdentifierFilter;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "ready", accountIdentifierFilter.isReady(),
+                "bytes", accountIdentifierFilter.byteSize(),
+                "expectedFalsePositiveProbability", accountIdentifierFilter.expectedFalsePositiveProbability()
+        );
+    }
+
+    @WriteOperation
+    public void rebuild() {
+        accountIdentifierFilter.rebuild();
+    }
+}
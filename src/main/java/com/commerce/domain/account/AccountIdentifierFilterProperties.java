@@ -0,0 +1,22 @@
+package com.commerce.domain.account;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.account.identifier-filter")
+public class AccountIdentifierFilterProperties {
+    private boolean enabled = true;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveProbability = 0.01;
+    private int scanPageSize = 10_000;
+    /**
+     * How long the replaced filter is still consulted after a rebuild. Covers accounts recorded
+     * before the rebuild started whose transaction committed after the scan passed their id.
+     */
+    private Duration rebuildGracePeriod = Duration.ofMinutes(1);
+}
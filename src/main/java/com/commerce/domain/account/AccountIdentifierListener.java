@@ -0,0 +1,16 @@
+package com.commerce.domain.account;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class AccountIdentifierListener {
+    private final AccountIdentifierFilter accountIdentifierFilter;
+
+    @PrePersist
+    @PreUpdate
+    void record(Account account) {
+        accountIdentifierFilter.record(account);
+    }
+}
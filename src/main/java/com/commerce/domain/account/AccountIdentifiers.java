@@ -0,0 +1,9 @@
+package com.commerce.domain.account;
+
+public interface AccountIdentifiers {
+    String getUsername();
+
+    String getEmail();
+
+    String getPhoneNumber();
+}
@@ -1,10 +1,21 @@
 package com.commerce.domain.account;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface AccountRepository extends JpaRepository<Account, Long> {
     Optional<Account> findAccountByUsernameOrEmailOrPhoneNumber(String username, String email, String phoneNumber);
+    Optional<Account> findAccountByUsername(String username);
     Optional<Account> findAccountByPhoneNumberAndIdIsNot(String phoneNumber, Long id);
+
+    @Query("select a.username as username, a.email as email, a.phoneNumber as phoneNumber from Account a " +
+            "where a.username in :usernames or a.email in :emails or a.phoneNumber in :phoneNumbers")
+    List<AccountIdentifiers> findIdentifiersIn(@Param("usernames") Collection<String> usernames,
+                                               @Param("emails") Collection<String> emails,
+                                               @Param("phoneNumbers") Collection<String> phoneNumbers);
 }
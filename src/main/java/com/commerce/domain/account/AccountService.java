@@ -1,58 +1,71 @@
 package com.commerce.domain.account;
 
+import com.commerce.common.coalesce.CoalesceRequests;
+import com.commerce.common.retry.RetryOnConflict;
+import com.commerce.common.security.PasswordHashingService;
+import com.commerce.config.CacheConfig;
+import com.commerce.domain.account.dto.AccountDto;
 import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.domain.account.dto.LoginAccountDto;
 import com.commerce.domain.account.dto.UpdateAccountDto;
-import com.commerce.exception.UniqueConstraintViolationException;
-import jakarta.persistence.NoResultException;
+import com.commerce.exception.AuthenticationFailedException;
+import com.commerce.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Objects;
+import java.util.Optional;
 
-@Transactional
+/**
+ * Hashes and verifies passwords outside any transaction and hands the database work to
+ * {@link AccountTransactions}, so a connection is never held for the length of a BCrypt round.
+ */
 @RequiredArgsConstructor
 @Service
 public class AccountService {
     private final AccountRepository accountRepository;
+    private final AccountTransactions accountTransactions;
+    private final PasswordHashingService passwordHashingService;
 
-    Account findAccountById(Long accountId) {
-        return accountRepository.findById(accountId).orElseThrow(NoResultException::new);
+    @Cacheable(cacheNames = CacheConfig.ACCOUNTS)
+    @CoalesceRequests("account")
+    @Transactional(readOnly = true)
+    public AccountDto findAccountById(Long accountId) {
+        return accountRepository.findById(accountId).map(AccountDto::from).orElseThrow(NotFoundException::account);
     }
 
-    Long createAccount(CreateAccountDto createAccountDto) {
-        accountRepository.findAccountByUsernameOrEmailOrPhoneNumber(
-                createAccountDto.getUsername(),
-                createAccountDto.getEmail(),
-                createAccountDto.getPhoneNumber()
-        ).ifPresent(duplicatedAccount -> {
-            String field = Objects.equals(duplicatedAccount.getUsername(), createAccountDto.getUsername()) ? "username" :
-                    Objects.equals(duplicatedAccount.getEmail(), createAccountDto.getEmail()) ?  "email" : "phoneNumber";
-            throw new UniqueConstraintViolationException(field);
-        });
-
-        Account createAccount = Account.builder()
-                .email(createAccountDto.getEmail())
-                .username(createAccountDto.getUsername())
-                .password(createAccountDto.getPassword())
-                .build();
-        Account account = accountRepository.save(createAccount);
-        return account.getId();
+    public Long createAccount(CreateAccountDto createAccountDto) {
+        return accountTransactions.insert(createAccountDto, passwordHashingService.hash(createAccountDto.getPassword()));
     }
 
-    void updateAccount(Long accountId, UpdateAccountDto updateAccountDto) {
-        Account account = accountRepository.findById(accountId).orElseThrow(NoResultException::new);
-         accountRepository.findAccountByPhoneNumberAndIdIsNot(updateAccountDto.getPhoneNumber(), accountId)
-                .ifPresent((duplicatedPhoneNumberAccount) ->  {
-                    throw new UniqueConstraintViolationException("phoneNumber");
-                });
-        account.setPhoneNumber(updateAccountDto.getPhoneNumber());
-        account.setPassword(updateAccountDto.getPassword());
-        accountRepository.save(account);
+    @CacheEvict(cacheNames = CacheConfig.ACCOUNTS, key = "#accountId")
+    public void updateAccount(Long accountId, UpdateAccountDto updateAccountDto) {
+        String passwordHash = updateAccountDto.getPassword() == null ? null : passwordHashingService.hash(updateAccountDto.getPassword());
+        accountTransactions.update(accountId, updateAccountDto.getPhoneNumber(), passwordHash);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.ACCOUNTS, key = "#result")
+    public Long login(LoginAccountDto loginAccountDto) {
+        Optional<Account> account = accountTransactions.findAccountByUsername(loginAccountDto.getUsername());
+        String encodedPassword = account.map(Account::getPassword).orElse(null);
+        if (!passwordHashingService.matches(loginAccountDto.getPassword(), encodedPassword)) {
+            throw new AuthenticationFailedException();
+        }
+
+        Long accountId = account.get().getId();
+        if (passwordHashingService.needsRehash(encodedPassword)) {
+            accountTransactions.rehash(accountId, encodedPassword, passwordHashingService.hash(loginAccountDto.getPassword()));
+        }
+        return accountId;
     }
 
-    void deleteAccountById(Long accountId) {
-        Account account = accountRepository.findById(accountId).orElseThrow(NoResultException::new);
+    @CacheEvict(cacheNames = CacheConfig.ACCOUNTS, key = "#accountId")
+    @RetryOnConflict(entity = "account", operation = "delete-account")
+    @Transactional
+    public void deleteAccountById(Long accountId) {
+        Account account = accountRepository.findById(accountId).orElseThrow(NotFoundException::account);
         account.delete();
         accountRepository.save(account);
     }
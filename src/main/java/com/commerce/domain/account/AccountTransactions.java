@@ -0,0 +1,98 @@
+package com.commerce.domain.account;
+
+import com.commerce.common.metrics.DomainEventMetrics;
+import com.commerce.common.outbox.DomainEvent;
+import com.commerce.common.outbox.DomainEvents;
+import com.commerce.common.retry.RetryOnConflict;
+import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.exception.NotFoundException;
+import com.commerce.exception.UniqueConstraintViolationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The database side of {@link AccountService}. Passwords arrive here already hashed, so none of
+ * these transactions holds a connection while BCrypt runs.
+ */
+@RequiredArgsConstructor
+@Component
+class AccountTransactions {
+    private final AccountRepository accountRepository;
+    private final AccountIdentifierFilter accountIdentifierFilter;
+    private final DomainEventMetrics domainEventMetrics;
+    private final DomainEvents domainEvents;
+
+    @Transactional
+    public Long insert(CreateAccountDto createAccountDto, String passwordHash) {
+        if (accountIdentifierFilter.mightContainAny(
+                createAccountDto.getUsername(),
+                createAccountDto.getEmail(),
+                createAccountDto.getPhoneNumber())) {
+            accountRepository.findAccountByUsernameOrEmailOrPhoneNumber(
+                    createAccountDto.getUsername(),
+                    createAccountDto.getEmail(),
+                    createAccountDto.getPhoneNumber()
+            ).ifPresent(duplicatedAccount -> {
+                String field = Objects.equals(duplicatedAccount.getUsername(), createAccountDto.getUsername()) ? "username" :
+                        Objects.equals(duplicatedAccount.getEmail(), createAccountDto.getEmail()) ?  "email" : "phoneNumber";
+                throw uniquenessConflict(field);
+            });
+            accountIdentifierFilter.recordFalsePositive();
+        }
+
+        Account createAccount = Account.builder()
+                .email(createAccountDto.getEmail())
+                .username(createAccountDto.getUsername())
+                .password(passwordHash)
+                .build();
+        Account account = accountRepository.save(createAccount);
+        domainEvents.publish(DomainEvent.ACCOUNT_CREATED, account.getId(), Map.of("username", account.getUsername()));
+        return account.getId();
+    }
+
+    @Transactional
+    @RetryOnConflict(entity = "account", operation = "update-account")
+    public void update(Long accountId, String phoneNumber, String passwordHash) {
+        Account account = accountRepository.findById(accountId).orElseThrow(NotFoundException::account);
+        if (accountIdentifierFilter.mightContainPhoneNumber(phoneNumber)) {
+            accountRepository.findAccountByPhoneNumberAndIdIsNot(phoneNumber, accountId)
+                    .ifPresent((duplicatedPhoneNumberAccount) -> {
+                        throw uniquenessConflict("phoneNumber");
+                    });
+        }
+        account.setPhoneNumber(phoneNumber);
+        account.setPassword(passwordHash);
+        accountRepository.save(account);
+    }
+
+    /**
+     * Reads the credentials in a read-write transaction, so a login sees a password changed a moment
+     * ago even when reads are routed to replicas.
+     */
+    @Transactional
+    public Optional<Account> findAccountByUsername(String username) {
+        return accountRepository.findAccountByUsername(username);
+    }
+
+    /**
+     * Replaces the hash a login verified against with one of the current cost, unless the password
+     * was changed in the meantime.
+     */
+    @Transactional
+    @RetryOnConflict(entity = "account", operation = "login")
+    public void rehash(Long accountId, String verifiedHash, String passwordHash) {
+        accountRepository.findById(accountId)
+                .filter(account -> Objects.equals(account.getPassword(), verifiedHash))
+                .ifPresent(account -> account.setPassword(passwordHash));
+    }
+
+    private UniqueConstraintViolationException uniquenessConflict(String field) {
+        domainEventMetrics.uniquenessConflict("account", field);
+        return new UniqueConstraintViolationException(field);
+    }
+}
@@ -0,0 +1,26 @@
+package com.commerce.domain.account.dto;
+
+import com.commerce.domain.account.Account;
+import lombok.Getter;
+
+/**
+ * What the account cache holds: a detached copy without the password hash.
+ */
+@Getter
+public class AccountDto {
+    private final Long id;
+    private final String username;
+    private final String email;
+    private final String phoneNumber;
+
+    public AccountDto(Long id, String username, String email, String phoneNumber) {
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+    }
+
+    public static AccountDto from(Account account) {
+        return new AccountDto(account.getId(), account.getUsername(), account.getEmail(), account.getPhoneNumber());
+    }
+}
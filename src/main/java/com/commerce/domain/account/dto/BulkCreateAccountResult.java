@@ -0,0 +1,26 @@
+package com.commerce.domain.account.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@Getter
+public class BulkCreateAccountResult {
+    private long line;
+    private Status status;
+    private Long accountId;
+    private String field;
+    private String message;
+
+    public enum Status {
+        CREATED,
+        DUPLICATED,
+        INVALID,
+        /**
+         * The line was valid but its chunk could not be processed; sending it again may succeed.
+         */
+        FAILED
+    }
+}
@@ -0,0 +1,21 @@
+package com.commerce.domain.account.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class LoginAccountDto {
+    @NotEmpty
+    private String username;
+    @NotEmpty
+    private String password;
+
+    @Builder
+    public LoginAccountDto(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+}
@@ -0,0 +1,10 @@
+package com.commerce.domain.account.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class LoginAccountResponse {
+    private Long accountId;
+}
@@ -2,19 +2,28 @@ package com.commerce.domain.customer;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Where;
 
-@Where(clause = "deleted is false")
+import java.util.Date;
+
+@Table(indexes = @Index(name = "idx_customer_deleted_id", columnList = "deleted, id"))
+@Where(clause = "deleted = false")
 @Getter
 @NoArgsConstructor
 @Entity
 public class Customer {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_seq")
+    @SequenceGenerator(name = "customer_seq", sequenceName = "customer_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -23,6 +32,11 @@ public class Customer {
 
     private Boolean deleted = false;
 
+    private Date deletedAt;
+
+    @Version
+    private Long version;
+
     @Builder
     public Customer(String name, String address) {
         this.name = name;
@@ -39,5 +53,6 @@ public class Customer {
 
     public void delete() {
         this.deleted = true;
+        this.deletedAt = new Date();
     }
 }
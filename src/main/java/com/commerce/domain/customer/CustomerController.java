@@ -2,13 +2,19 @@ package com.commerce.domain.customer;
 
 import com.commerce.domain.customer.dto.CreateCustomerDto;
 import com.commerce.domain.customer.dto.CreateCustomerResponse;
+import com.commerce.domain.customer.dto.CustomerDto;
+import com.commerce.domain.customer.dto.CustomerLookup;
 import com.commerce.domain.customer.dto.FindCustomerResponse;
+import com.commerce.domain.customer.dto.FindCustomersResponse;
 import com.commerce.domain.customer.dto.UpdateCustomerDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 @RequestMapping("customers")
 @RequiredArgsConstructor
 @RestController
@@ -18,7 +24,7 @@ public class CustomerController {
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("{id}")
     FindCustomerResponse findCustomerById(@PathVariable("id") Long customerId) {
-        Customer customer = customerService.findCustomerById(customerId);
+        CustomerDto customer = customerService.findCustomerById(customerId);
 
         return FindCustomerResponse.builder()
                 .name(customer.getName())
@@ -26,6 +32,18 @@ public class CustomerController {
                 .build();
     }
 
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(params = "ids")
+    FindCustomersResponse findCustomers(@RequestParam("ids") List<Long> customerIds) {
+        List<CustomerDto> customers = customerService.findCustomersByIds(customerIds);
+
+        return FindCustomersResponse.builder()
+                .customers(IntStream.range(0, customerIds.size())
+                        .mapToObj(i -> toLookup(customerIds.get(i), customers.get(i)))
+                        .toList())
+                .build();
+    }
+
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
     CreateCustomerResponse createCustomer(@RequestBody @Valid CreateCustomerDto createCustomerDto) {
@@ -47,4 +65,19 @@ public class CustomerController {
     void deleteCustomerById(@PathVariable("id") Long customerId) {
         customerService.deleteCustomerById(customerId);
     }
+
+    private static CustomerLookup toLookup(Long id, CustomerDto customer) {
+        if (customer == null) {
+            return CustomerLookup.builder()
+                    .id(id)
+                    .found(false)
+                    .build();
+        }
+        return CustomerLookup.builder()
+                .id(id)
+                .found(true)
+                .name(customer.getName())
+                .address(customer.getAddress())
+                .build();
+    }
 }
@@ -1,21 +1,58 @@
 package com.commerce.domain.customer;
 
+import com.commerce.common.cache.CacheMultiGet;
+import com.commerce.common.coalesce.CoalesceRequests;
+import com.commerce.common.retry.RetryOnConflict;
+import com.commerce.config.BatchLookupProperties;
+import com.commerce.config.CacheConfig;
 import com.commerce.domain.customer.dto.CreateCustomerDto;
+import com.commerce.domain.customer.dto.CustomerDto;
 import com.commerce.domain.customer.dto.UpdateCustomerDto;
 import com.commerce.domain.seller.Seller;
 import com.commerce.domain.seller.dto.CreateSellerDto;
 import com.commerce.domain.seller.dto.UpdateSellerDto;
-import jakarta.persistence.NoResultException;
+import com.commerce.exception.NotFoundException;
+import com.commerce.exception.InvalidIdsException;
+import com.commerce.exception.TooManyIdsException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+@Transactional
 @RequiredArgsConstructor
 @Service
 public class CustomerService {
     private final CustomerRepository customerRepository;
+    private final CacheManager cacheManager;
+    private final BatchLookupProperties batchLookupProperties;
+
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS)
+    @CoalesceRequests("customer")
+    @Transactional(readOnly = true)
+    public CustomerDto findCustomerById(Long id) {
+        return customerRepository.findById(id).map(CustomerDto::from).orElseThrow(NotFoundException::customer);
+    }
 
-    public Customer findCustomerById(Long id) {
-        return customerRepository.findById(id).orElseThrow(NoResultException::new);
+    /**
+     * One customer per id in request order, null for ids that do not exist. Cached customers are not
+     * queried; without an outer transaction a fully cached request never borrows a connection.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<CustomerDto> findCustomersByIds(List<Long> ids) {
+        if (ids.size() > batchLookupProperties.getMaxIds()) {
+            throw new TooManyIdsException(batchLookupProperties.getMaxIds());
+        }
+        if (ids.contains(null)) {
+            throw new InvalidIdsException();
+        }
+        return CacheMultiGet.getAll(cacheManager.getCache(CacheConfig.CUSTOMERS), ids, batchLookupProperties.getChunkSize(),
+                chunk -> customerRepository.findAllById(chunk).stream().map(CustomerDto::from).toList(), CustomerDto::getId);
     }
 
     public Long createCustomer(CreateCustomerDto createCustomerDto) {
@@ -27,8 +64,10 @@ public class CustomerService {
         return customerRepository.save(customer).getId();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
+    @RetryOnConflict(entity = "customer", operation = "update-customer")
     public void updateCustomer(Long id, UpdateCustomerDto updateCustomerDto) {
-        Customer customer = customerRepository.findById(id).orElseThrow(NoResultException::new);
+        Customer customer = customerRepository.findById(id).orElseThrow(NotFoundException::customer);
 
         if (updateCustomerDto.getName() != null) {
             customer.setName(updateCustomerDto.getName());
@@ -41,8 +80,10 @@ public class CustomerService {
         customerRepository.save(customer);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS, key = "#id")
+    @RetryOnConflict(entity = "customer", operation = "delete-customer")
     public void deleteCustomerById(Long id) {
-        Customer customer = customerRepository.findById(id).orElseThrow(NoResultException::new);
+        Customer customer = customerRepository.findById(id).orElseThrow(NotFoundException::customer);
         customer.delete();
     }
 }
@@ -0,0 +1,24 @@
+package com.commerce.domain.customer.dto;
+
+import com.commerce.domain.customer.Customer;
+import lombok.Getter;
+
+/**
+ * What the customer cache holds: a detached copy, safe to share between requests.
+ */
+@Getter
+public class CustomerDto {
+    private final Long id;
+    private final String name;
+    private final String address;
+
+    public CustomerDto(Long id, String name, String address) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+    }
+
+    public static CustomerDto from(Customer customer) {
+        return new CustomerDto(customer.getId(), customer.getName(), customer.getAddress());
+    }
+}
@@ -0,0 +1,12 @@
+package com.commerce.domain.customer.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class FindCustomersResponse {
+    private List<CustomerLookup> customers;
+}
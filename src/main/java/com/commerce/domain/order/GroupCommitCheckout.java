@@ -0,0 +1,249 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.customer.CustomerRepository;
+import com.commerce.domain.product.ProductRepository;
+import com.commerce.exception.CheckoutRejectedException;
+import com.commerce.exception.InsufficientStockException;
+import com.commerce.exception.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single-product checkouts for {@code commerce.order.checkout.mode=group-commit}. Checkouts queue
+ * per product; one worker at a time drains a product's queue in batches, and a batch costs one
+ * locking read, one stock update and one insert batch in a single transaction, however many
+ * callers it holds. Stock is handed out in arrival order; a checkout that no longer fits completes
+ * with {@link InsufficientStockException} while the rest of its batch still succeeds. A batch whose
+ * transaction fails for another reason, e.g. the foreign key of a customer deleted after it queued,
+ * is committed again one checkout per transaction, so only the checkout at fault fails.
+ */
+@Component
+public class GroupCommitCheckout {
+    private static final String LOCK_PRODUCT_SQL =
+            "select price, stock_quantity from product where id = ? and deleted = false and split_inventory = false for update";
+    private static final String DECREASE_STOCK_SQL =
+            "update product set stock_quantity = stock_quantity - ?, version = version + 1 where id = ? and stock_quantity >= ?";
+
+    private final OrderRepository orderRepository;
+    private final OrderLineRepository orderLineRepository;
+    private final CustomerRepository customerRepository;
+    private final ProductRepository productRepository;
+    private final OrderStockChanges orderStockChanges;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderCheckoutProperties properties;
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final DistributionSummary batchSizes;
+    private final Counter soldOut;
+    private final Counter rejections;
+    private final Counter failedBatches;
+
+    public GroupCommitCheckout(OrderRepository orderRepository, OrderLineRepository orderLineRepository,
+                               CustomerRepository customerRepository, ProductRepository productRepository,
+                               OrderStockChanges orderStockChanges, JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate, OrderCheckoutProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.orderLineRepository = orderLineRepository;
+        this.customerRepository = customerRepository;
+        this.productRepository = productRepository;
+        this.orderStockChanges = orderStockChanges;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.executor = new ScheduledThreadPoolExecutor(properties.getWorkers(), new CustomizableThreadFactory("checkout-"));
+        this.executor.setRemoveOnCancelPolicy(true);
+
+        this.batchSizes = DistributionSummary.builder("commerce.order.checkout.batch.size")
+                .description("Checkouts committed together")
+                .register(meterRegistry);
+        this.soldOut = meterRegistry.counter("commerce.order.checkout.sold.out");
+        this.rejections = meterRegistry.counter("commerce.order.checkout.rejections");
+        this.failedBatches = meterRegistry.counter("commerce.order.checkout.batch.failures");
+    }
+
+    /**
+     * Completes with the id of the placed order, or with {@link InsufficientStockException} when
+     * the product sold out before this checkout's turn. Cancelling the future withdraws the checkout
+     * only while it is still queued; once a worker has taken it into a batch, {@code cancel} returns
+     * false and the future completes with the batch's outcome.
+     */
+    public CompletableFuture<Long> checkout(Long customerId, Long productId, int quantity) {
+        Lane lane = lanes.computeIfAbsent(productId, Lane::new);
+        int queued = lane.size.incrementAndGet();
+        if (queued > properties.getMaxQueuedPerProduct()) {
+            lane.size.decrementAndGet();
+            rejections.increment();
+            throw new CheckoutRejectedException();
+        }
+
+        Checkout checkout = new Checkout(customerId, quantity);
+        lane.queue.add(checkout);
+        if (queued == properties.getMaxBatchSize()) {
+            executor.execute(() -> drain(lane));
+        } else if (lane.scheduled.compareAndSet(false, true)) {
+            schedule(lane);
+        }
+        return checkout.future;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void schedule(Lane lane) {
+        executor.schedule(() -> drain(lane), properties.getMaxDelay().toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void drain(Lane lane) {
+        if (!lane.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Checkout> batch;
+            while (!(batch = poll(lane)).isEmpty()) {
+                batchSizes.record(batch.size());
+                commit(lane.productId, batch);
+            }
+        } finally {
+            lane.draining.set(false);
+            lane.scheduled.set(false);
+            if (!lane.queue.isEmpty() && lane.scheduled.compareAndSet(false, true)) {
+                schedule(lane);
+            }
+        }
+    }
+
+    private List<Checkout> poll(Lane lane) {
+        List<Checkout> batch = new ArrayList<>(Math.min(lane.size.get(), properties.getMaxBatchSize()));
+        Checkout checkout;
+        while (batch.size() < properties.getMaxBatchSize() && (checkout = lane.queue.poll()) != null) {
+            lane.size.decrementAndGet();
+            if (checkout.future.claim()) {
+                batch.add(checkout);
+            }
+        }
+        return batch;
+    }
+
+    private void commit(Long productId, List<Checkout> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                batch.forEach(checkout -> checkout.order = null);
+                List<int[]> rows = jdbcTemplate.query(LOCK_PRODUCT_SQL,
+                        (rs, rowNum) -> new int[]{rs.getInt(1), rs.getInt(2)}, productId);
+                if (rows.isEmpty()) {
+                    throw NotFoundException.product();
+                }
+                int price = rows.get(0)[0];
+                int available = rows.get(0)[1];
+
+                int total = 0;
+                List<Order> orders = new ArrayList<>();
+                List<OrderLine> lines = new ArrayList<>();
+                for (Checkout checkout : batch) {
+                    if (checkout.quantity > available - total) {
+                        continue;
+                    }
+                    total += checkout.quantity;
+                    checkout.order = Order.builder()
+                            .customer(customerRepository.getReferenceById(checkout.customerId))
+                            .totalPrice((long) price * checkout.quantity)
+                            .build();
+                    orders.add(checkout.order);
+                    lines.add(OrderLine.builder()
+                            .order(checkout.order)
+                            .product(productRepository.getReferenceById(productId))
+                            .quantity(checkout.quantity)
+                            .price(price)
+                            .build());
+                }
+                if (total == 0) {
+                    return;
+                }
+
+                jdbcTemplate.update(DECREASE_STOCK_SQL, total, productId, total);
+                orderRepository.saveAll(orders);
+                orderLineRepository.saveAll(lines);
+                orderLineRepository.flush();
+                orderStockChanges.decreased(productId, total);
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() > 1 && !(e instanceof NotFoundException)) {
+                failedBatches.increment();
+                batch.forEach(checkout -> commit(productId, List.of(checkout)));
+                return;
+            }
+            // Every waiter rethrows on its own request thread, so none of them may share the instance.
+            batch.forEach(checkout -> checkout.future.completeExceptionally(
+                    e instanceof NotFoundException ? NotFoundException.product() : new IllegalStateException("Group commit failed", e)));
+            return;
+        }
+
+        for (Checkout checkout : batch) {
+            if (checkout.order != null) {
+                checkout.future.complete(checkout.order.getId());
+            } else {
+                soldOut.increment();
+                checkout.future.completeExceptionally(new InsufficientStockException(productId));
+            }
+        }
+    }
+
+    private static final class Lane {
+        private final Long productId;
+        private final ConcurrentLinkedQueue<Checkout> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Lane(Long productId) {
+            this.productId = productId;
+        }
+    }
+
+    private static final class Checkout {
+        private final Long customerId;
+        private final int quantity;
+        private final CheckoutFuture future = new CheckoutFuture();
+        private Order order;
+
+        private Checkout(Long customerId, int quantity) {
+            this.customerId = customerId;
+            this.quantity = quantity;
+        }
+    }
+
+    private static final class CheckoutFuture extends CompletableFuture<Long> {
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return claimed.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+}
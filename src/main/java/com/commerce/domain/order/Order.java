@@ -0,0 +1,35 @@
+package com.commerce.domain.order;
+
+import com.commerce.common.entity.BaseEntity;
+import com.commerce.domain.customer.Customer;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Table(name = "orders", indexes = @Index(name = "idx_orders_customer_id", columnList = "customer_id"))
+@NoArgsConstructor
+@Getter
+@Entity
+public class Order extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Customer customer;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    private Long totalPrice;
+
+    @Builder
+    public Order(Customer customer, Long totalPrice) {
+        this.customer = customer;
+        this.totalPrice = totalPrice;
+        this.status = OrderStatus.PLACED;
+    }
+}
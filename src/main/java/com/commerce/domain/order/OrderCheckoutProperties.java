@@ -0,0 +1,30 @@
+package com.commerce.domain.order;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.order.checkout")
+public class OrderCheckoutProperties {
+    private Mode mode = Mode.PER_REQUEST;
+    /**
+     * How long the first checkout of an idle product waits for others to join its batch.
+     */
+    private Duration maxDelay = Duration.ofMillis(5);
+    /**
+     * How long a group-commit caller waits past {@code max-delay} for its batch. A checkout still
+     * queued by then is withdrawn and rejected; one already being committed gets as long again.
+     */
+    private Duration maxWait = Duration.ofSeconds(2);
+    private int maxBatchSize = 200;
+    private int maxQueuedPerProduct = 10_000;
+    private int workers = 4;
+
+    public enum Mode {
+        PER_REQUEST, GROUP_COMMIT, RESERVATION
+    }
+}
@@ -0,0 +1,32 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.order.dto.FindOrderResponse;
+import com.commerce.domain.order.dto.PlaceOrderDto;
+import com.commerce.domain.order.dto.PlaceOrderResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RequestMapping("orders")
+@RequiredArgsConstructor
+@RestController
+public class OrderController {
+    private final OrderService orderService;
+
+    @ResponseStatus(HttpStatus.CREATED)
+    @PostMapping
+    PlaceOrderResponse placeOrder(@RequestBody @Valid PlaceOrderDto placeOrderDto) {
+        Long orderId = orderService.placeOrder(placeOrderDto);
+
+        return PlaceOrderResponse.builder()
+                .orderId(orderId)
+                .build();
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("{id}")
+    FindOrderResponse findOrderById(@PathVariable("id") Long orderId) {
+        return orderService.findOrderById(orderId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.product.Product;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Table(indexes = {
+        @Index(name = "idx_order_line_order_id", columnList = "order_id"),
+        @Index(name = "idx_order_line_product_id", columnList = "product_id")
+})
+@NoArgsConstructor
+@Getter
+@Entity
+public class OrderLine {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_line_seq")
+    @SequenceGenerator(name = "order_line_seq", sequenceName = "order_line_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Order order;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Product product;
+
+    private Integer quantity;
+
+    private Integer price;
+
+    @Builder
+    public OrderLine(Order order, Product product, Integer quantity, Integer price) {
+        this.order = order;
+        this.product = product;
+        this.quantity = quantity;
+        this.price = price;
+    }
+}
@@ -0,0 +1,9 @@
+package com.commerce.domain.order;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OrderLineRepository extends JpaRepository<OrderLine, Long> {
+    List<OrderLine> findByOrderIdOrderByIdAsc(Long orderId);
+}
@@ -0,0 +1,263 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.customer.CustomerRepository;
+import com.commerce.domain.customer.CustomerService;
+import com.commerce.domain.order.dto.FindOrderResponse;
+import com.commerce.domain.order.dto.OrderLineDto;
+import com.commerce.domain.order.dto.OrderLineResponse;
+import com.commerce.domain.order.dto.PlaceOrderDto;
+import com.commerce.domain.product.ProductRepository;
+import com.commerce.domain.product.ProductStockBucketService;
+import com.commerce.domain.product.StockReservation;
+import com.commerce.domain.product.StockReservationEngine;
+import com.commerce.exception.CheckoutRejectedException;
+import com.commerce.exception.InsufficientStockException;
+import com.commerce.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Places an order in one short transaction. Prices are read first, then stock is decremented with
+ * one conditional update per product, sent as a single JDBC batch in product id order, and only then
+ * are the order and its lines inserted. Every order takes its product row locks in the same order
+ * and takes no other lock on those rows before them, so two carts sharing products wait on each
+ * other instead of deadlocking. The order matters on MySQL: inserting an order line checks its
+ * product foreign key with a shared lock on the product row, and two orders that hold that shared
+ * lock and then both ask for the exclusive one deadlock. Decremented first, the row is already held
+ * exclusively when the line is inserted. Products with split inventory are decremented through
+ * {@link ProductStockBucketService} right after the batch, again in product id order; they lock
+ * bucket rows only, so the shared locks their lines take on the product row never need upgrading. Single-product checkouts of products
+ * that are not split go through {@link GroupCommitCheckout} instead when group commit is enabled.
+ * <p>
+ * In the reservation mode, orders without split products take their stock from
+ * {@link StockReservationEngine} instead: every line is reserved before the order is inserted, and
+ * the reservations are confirmed for the order after it commits, so the product rows are not written
+ * on the request path at all. An order whose reservations expired before confirming, or were refused
+ * when the engine flushed them, is cancelled by {@link ReservedOrderCancellation}.
+ */
+@RequiredArgsConstructor
+@Service
+public class OrderService {
+    private static final String DECREASE_STOCK_SQL =
+            "update product set stock_quantity = stock_quantity - ?, version = version + 1 " +
+            "where id = ? and stock_quantity >= ? and deleted = false and split_inventory = false";
+    private static final String IS_SPLIT_SQL =
+            "select split_inventory from product where id = ? and deleted = false";
+
+    private final OrderRepository orderRepository;
+    private final OrderLineRepository orderLineRepository;
+    private final CustomerService customerService;
+    private final CustomerRepository customerRepository;
+    private final ProductRepository productRepository;
+    private final ProductStockBucketService productStockBucketService;
+    private final OrderStockChanges orderStockChanges;
+    private final StockReservationEngine stockReservationEngine;
+    private final ReservedOrderCancellation reservedOrderCancellation;
+    private final GroupCommitCheckout groupCommitCheckout;
+    private final OrderCheckoutProperties orderCheckoutProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public Long placeOrder(PlaceOrderDto placeOrderDto) {
+        Long customerId = customerService.findCustomerById(placeOrderDto.getCustomerId()).getId();
+
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (OrderLineDto line : placeOrderDto.getLines()) {
+            quantities.merge(line.getProductId(), line.getQuantity(), Math::addExact);
+        }
+
+        if (orderCheckoutProperties.getMode() == OrderCheckoutProperties.Mode.GROUP_COMMIT && quantities.size() == 1
+                && !isSplit(quantities.firstKey())) {
+            Long productId = quantities.firstKey();
+            return await(groupCommitCheckout.checkout(customerId, productId, quantities.get(productId)));
+        }
+        if (orderCheckoutProperties.getMode() == OrderCheckoutProperties.Mode.RESERVATION) {
+            Map<Long, ProductRow> products = findExistingProducts(quantities.keySet());
+            if (products.values().stream().noneMatch(ProductRow::split)) {
+                return placeReserved(customerId, quantities, products);
+            }
+        }
+        return transactionTemplate.execute(status -> place(customerId, quantities));
+    }
+
+    @Transactional(readOnly = true)
+    public FindOrderResponse findOrderById(Long orderId) {
+        Order order = orderRepository.findById(orderId).orElseThrow(NotFoundException::order);
+        List<OrderLineResponse> lines = orderLineRepository.findByOrderIdOrderByIdAsc(orderId).stream()
+                .map(line -> OrderLineResponse.builder()
+                        .productId(line.getProduct().getId())
+                        .quantity(line.getQuantity())
+                        .price(line.getPrice())
+                        .build())
+                .toList();
+
+        return FindOrderResponse.builder()
+                .orderId(order.getId())
+                .customerId(order.getCustomer().getId())
+                .status(order.getStatus())
+                .totalPrice(order.getTotalPrice())
+                .lines(lines)
+                .build();
+    }
+
+    private Long place(Long customerId, SortedMap<Long, Integer> quantities) {
+        Map<Long, ProductRow> products = findExistingProducts(quantities.keySet());
+
+        SortedMap<Long, Integer> splitQuantities = new TreeMap<>();
+        SortedMap<Long, Integer> rowQuantities = new TreeMap<>();
+        quantities.forEach((productId, quantity) ->
+                (products.get(productId).split() ? splitQuantities : rowQuantities).put(productId, quantity));
+        if (!rowQuantities.isEmpty()) {
+            decreaseStock(rowQuantities);
+        }
+        splitQuantities.forEach(this::decreaseSplitStock);
+        // After the decrements: the foreign key checks of the lines must not lock the product rows first.
+        return insertOrder(customerId, quantities, products);
+    }
+
+    private Long placeReserved(Long customerId, SortedMap<Long, Integer> quantities, Map<Long, ProductRow> products) {
+        List<Long> reservationIds = new ArrayList<>(quantities.size());
+        try {
+            for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+                StockReservation reservation = stockReservationEngine.reserve(entry.getKey(), entry.getValue())
+                        .orElseThrow(() -> new InsufficientStockException(entry.getKey()));
+                reservationIds.add(reservation.getId());
+            }
+
+            Long orderId = transactionTemplate.execute(status -> insertOrder(customerId, quantities, products));
+            try {
+                stockReservationEngine.confirm(reservationIds, orderId);
+            } catch (IllegalStateException e) {
+                reservedOrderCancellation.cancel(orderId);
+                throw new InsufficientStockException(quantities.firstKey());
+            }
+            return orderId;
+        } finally {
+            // Confirmed reservations are gone from the engine, so this only releases the ones left over.
+            reservationIds.forEach(stockReservationEngine::cancel);
+        }
+    }
+
+    private Long insertOrder(Long customerId, SortedMap<Long, Integer> quantities, Map<Long, ProductRow> products) {
+        long totalPrice = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            totalPrice += (long) products.get(entry.getKey()).price() * entry.getValue();
+        }
+
+        Order order = orderRepository.save(Order.builder()
+                .customer(customerRepository.getReferenceById(customerId))
+                .totalPrice(totalPrice)
+                .build());
+        List<OrderLine> lines = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            lines.add(OrderLine.builder()
+                    .order(order)
+                    .product(productRepository.getReferenceById(entry.getKey()))
+                    .quantity(entry.getValue())
+                    .price(products.get(entry.getKey()).price())
+                    .build());
+        }
+        orderLineRepository.saveAll(lines);
+        orderLineRepository.flush();
+        return order.getId();
+    }
+
+    private Map<Long, ProductRow> findExistingProducts(Collection<Long> productIds) {
+        Map<Long, ProductRow> products = findProducts(productIds);
+        if (products.size() != productIds.size()) {
+            throw NotFoundException.product();
+        }
+        return products;
+    }
+
+    private Map<Long, ProductRow> findProducts(Iterable<Long> productIds) {
+        List<Long> ids = new ArrayList<>();
+        productIds.forEach(ids::add);
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+
+        Map<Long, ProductRow> products = new HashMap<>();
+        jdbcTemplate.query("select id, price, split_inventory from product where deleted = false and id in (" + placeholders + ")",
+                rs -> { products.put(rs.getLong(1), new ProductRow(rs.getInt(2), rs.getBoolean(3))); },
+                ids.toArray());
+        return products;
+    }
+
+    private boolean isSplit(Long productId) {
+        List<Boolean> split = jdbcTemplate.queryForList(IS_SPLIT_SQL, Boolean.class, productId);
+        return !split.isEmpty() && Boolean.TRUE.equals(split.get(0));
+    }
+
+    private void decreaseSplitStock(Long productId, Integer quantity) {
+        try {
+            productStockBucketService.decreaseQuantity(productId, quantity);
+        } catch (IllegalStateException e) {
+            throw new InsufficientStockException(productId);
+        }
+        orderStockChanges.decreased(productId, quantity);
+    }
+
+    private void decreaseStock(SortedMap<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        List<Object[]> batch = new ArrayList<>(quantities.size());
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            batch.add(new Object[]{entry.getValue(), entry.getKey(), entry.getValue()});
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, batch);
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                throw new InsufficientStockException(productIds.get(i));
+            }
+        }
+
+        quantities.forEach(orderStockChanges::decreased);
+    }
+
+    private record ProductRow(int price, boolean split) {
+    }
+
+    /**
+     * Waits out the batch delay plus {@code max-wait}. A checkout still queued by then is withdrawn
+     * and rejected like a full queue; one already in a committing batch gets one more {@code max-wait}
+     * for its transaction to finish.
+     */
+    private Long await(Future<Long> future) {
+        long timeout = orderCheckoutProperties.getMaxDelay().plus(orderCheckoutProperties.getMaxWait()).toNanos();
+        try {
+            try {
+                return future.get(timeout, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (future.cancel(false)) {
+                    throw new CheckoutRejectedException();
+                }
+                return future.get(orderCheckoutProperties.getMaxWait().toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for checkout", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Checkout commit did not finish in time", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
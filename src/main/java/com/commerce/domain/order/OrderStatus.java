@@ -0,0 +1,5 @@
+package com.commerce.domain.order;
+
+public enum OrderStatus {
+    PLACED, CANCELLED
+}
@@ -0,0 +1,33 @@
+package com.commerce.domain.order;
+
+import com.commerce.common.metrics.DomainEventMetrics;
+import com.commerce.common.outbox.DomainEvent;
+import com.commerce.common.outbox.DomainEvents;
+import com.commerce.config.CacheConfig;
+import com.commerce.domain.product.StockReservationEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * What has to follow a stock decrement written with plain SQL: the cached product is dropped, the
+ * node's reservation counter gives up the sold units after commit, the decrement is counted once the
+ * transaction commits and a stock-changed event is written to the outbox.
+ */
+@RequiredArgsConstructor
+@Component
+class OrderStockChanges {
+    private final CacheManager cacheManager;
+    private final StockReservationEngine stockReservationEngine;
+    private final DomainEventMetrics domainEventMetrics;
+    private final DomainEvents domainEvents;
+
+    void decreased(Long productId, int quantity) {
+        cacheManager.getCache(CacheConfig.PRODUCTS).evict(productId);
+        domainEventMetrics.stockDecremented(quantity);
+        domainEvents.publish(DomainEvent.PRODUCT_STOCK_CHANGED, productId, Map.of("delta", -quantity));
+        stockReservationEngine.reconcile(productId, quantity);
+    }
+}
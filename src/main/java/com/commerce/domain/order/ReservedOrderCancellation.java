@@ -0,0 +1,36 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.product.StockReservationRefused;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cancels an order placed on reserved stock that the stock never reached: its reservations expired
+ * before it was confirmed, or the database refused them when they were flushed. The order keeps its
+ * lines; only the status changes, so it is never shipped.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+class ReservedOrderCancellation {
+    private static final String CANCEL_ORDER_SQL =
+            "update orders set status = 'CANCELLED', updated_at = current_timestamp where id = ? and status = 'PLACED'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    void cancel(Long orderId) {
+        if (jdbcTemplate.update(CANCEL_ORDER_SQL, orderId) != 0) {
+            log.warn("order {} cancelled, its reserved stock was not available", orderId);
+        }
+    }
+
+    @EventListener
+    public void on(StockReservationRefused refused) {
+        if (refused.orderId() != null) {
+            cancel(refused.orderId());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.commerce.domain.order.dto;
+
+import com.commerce.domain.order.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class FindOrderResponse {
+    Long orderId;
+    Long customerId;
+    OrderStatus status;
+    Long totalPrice;
+    List<OrderLineResponse> lines;
+}
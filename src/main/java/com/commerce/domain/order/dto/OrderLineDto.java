@@ -0,0 +1,25 @@
+package com.commerce.domain.order.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class OrderLineDto {
+    @NotNull
+    private Long productId;
+    @Max(10_000)
+    @Positive
+    @NotNull
+    private Integer quantity;
+
+    @Builder
+    public OrderLineDto(Long productId, Integer quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,12 @@
+package com.commerce.domain.order.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class OrderLineResponse {
+    Long productId;
+    Integer quantity;
+    Integer price;
+}
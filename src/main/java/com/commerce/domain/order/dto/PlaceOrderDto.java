@@ -0,0 +1,27 @@
+package com.commerce.domain.order.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+public class PlaceOrderDto {
+    @NotNull
+    private Long customerId;
+    @Size(max = 100)
+    @NotEmpty
+    private List<@Valid @NotNull OrderLineDto> lines;
+
+    @Builder
+    public PlaceOrderDto(Long customerId, List<OrderLineDto> lines) {
+        this.customerId = customerId;
+        this.lines = lines;
+    }
+}
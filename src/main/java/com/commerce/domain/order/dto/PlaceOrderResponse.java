@@ -0,0 +1,10 @@
+package com.commerce.domain.order.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class PlaceOrderResponse {
+    Long orderId;
+}
@@ -6,16 +6,25 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Formula;
 
+import java.util.Date;
 
+
+@Table(indexes = {
+        @Index(name = "idx_product_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_product_seller_created_at_id", columnList = "seller_id, created_at, id"),
+        @Index(name = "idx_product_deleted_id", columnList = "deleted, id")
+})
 @NoArgsConstructor
 @Getter
 @Entity
 public class Product extends BaseEntity {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn
     private Seller seller;
     private String title;
@@ -24,8 +33,18 @@ public class Product extends BaseEntity {
     private Integer price;
     private Integer stockQuantity;
 
+    private Boolean splitInventory = false;
+
+    @Formula("(case when split_inventory then (select coalesce(sum(b.quantity), 0) from product_stock_bucket b where b.product_id = id) else stock_quantity end)")
+    private Integer availableQuantity;
+
     private Boolean deleted = false;
 
+    private Date deletedAt;
+
+    @Version
+    private Long version;
+
     @Builder
     public Product(Seller seller, String title, String description, String image, Integer price, Integer stockQuantity) {
 
@@ -41,6 +60,13 @@ public class Product extends BaseEntity {
         this.stockQuantity = stockQuantity;
     }
 
+    public Integer getStockQuantity() {
+        if (Boolean.TRUE.equals(splitInventory)) {
+            return availableQuantity;
+        }
+        return stockQuantity;
+    }
+
     public void setTitle(String title) {
         this.title = title;
     }
@@ -58,19 +84,39 @@ public class Product extends BaseEntity {
     }
 
     public void setStockQuantity(Integer stockQuantity) {
+        if (Boolean.TRUE.equals(splitInventory)) {
+            throw new IllegalStateException("stockQuantity of split inventory is managed by buckets");
+        }
         this.stockQuantity = stockQuantity;
     }
 
     public void delete() {
         this.deleted = true;
+        this.deletedAt = new Date();
     }
 
     public void decreaseQuantity(Integer quantity) {
 
+        if (Boolean.TRUE.equals(splitInventory)) {
+            throw new IllegalStateException("stockQuantity of split inventory is managed by buckets");
+        }
+
         if (this.stockQuantity - quantity < 0) {
            throw new IllegalStateException("stockQuantity is Insufficient");
         }
 
         this.stockQuantity -= quantity;
     }
+
+    Integer splitInventory() {
+        if (Boolean.TRUE.equals(splitInventory)) {
+            throw new IllegalStateException("inventory is already split");
+        }
+
+        Integer quantity = this.stockQuantity;
+        this.splitInventory = true;
+        this.stockQuantity = 0;
+        this.availableQuantity = quantity;
+        return quantity;
+    }
 }
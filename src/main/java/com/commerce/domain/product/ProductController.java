@@ -0,0 +1,85 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.FindProductResponse;
+import com.commerce.domain.product.dto.FindProductsResponse;
+import com.commerce.domain.product.dto.ProductImportJobResponse;
+import com.commerce.domain.product.dto.SearchProductsResponse;
+import com.commerce.domain.product.dto.SplitInventoryDto;
+import com.commerce.domain.product.dto.SuggestProductsResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RequiredArgsConstructor
+@RestController
+public class ProductController {
+    private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductStockBucketService productStockBucketService;
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("products")
+    FindProductsResponse findProducts(@RequestParam(value = "cursor", required = false) String cursor,
+                                      @RequestParam(value = "size", defaultValue = "20") int size) {
+        return productService.findProducts(null, cursor, size);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("products/search")
+    SearchProductsResponse searchProducts(@RequestParam("q") String query,
+                                          @RequestParam(value = "minPrice", required = false) Integer minPrice,
+                                          @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+                                          @RequestParam(value = "sellerId", required = false) Long sellerId,
+                                          @RequestParam(value = "size", defaultValue = "20") int size) {
+        return productService.searchProducts(query, minPrice, maxPrice, sellerId, size);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("products/search/suggestions")
+    SuggestProductsResponse suggestProducts(@RequestParam("prefix") String prefix,
+                                            @RequestParam(value = "size", defaultValue = "10") int size) {
+        return productService.suggestProducts(prefix, size);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("products/{id}")
+    FindProductResponse findProduct(@PathVariable("id") Long productId) {
+        return productService.findProductByProductId(productId);
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("sellers/{id}/products")
+    FindProductsResponse findSellerProducts(@PathVariable("id") Long sellerId,
+                                            @RequestParam(value = "cursor", required = false) String cursor,
+                                            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return productService.findProducts(sellerId, cursor, size);
+    }
+
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping(value = "sellers/{id}/products/imports", consumes = {ProductImportFormat.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    ProductImportJobResponse importProducts(@PathVariable("id") Long sellerId,
+                                            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                            InputStream body) throws IOException {
+        return productImportService.submit(sellerId, ProductImportFormat.of(contentType), body);
+    }
+
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PutMapping("sellers/{id}/products/{productId}/stock-buckets")
+    void splitInventory(@PathVariable("id") Long sellerId,
+                        @PathVariable("productId") Long productId,
+                        @RequestBody @Valid SplitInventoryDto splitInventoryDto) {
+        productStockBucketService.splitInventory(sellerId, productId, splitInventoryDto.getBucketCount());
+    }
+
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping("products/imports/{jobId}")
+    ProductImportJobResponse findImportJob(@PathVariable("jobId") String jobId) {
+        return productImportService.findJob(jobId);
+    }
+}
@@ -0,0 +1,35 @@
+package com.commerce.domain.product;
+
+import com.commerce.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Position after the last product of a page in {@code (createdAt desc, id desc)} order,
+ * handed to clients as an opaque URL-safe token.
+ */
+record ProductCursor(Date createdAt, Long id) {
+    private static final char SEPARATOR = ':';
+
+    String encode() {
+        String raw = createdAt.getTime() + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static ProductCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException();
+            }
+            return new ProductCursor(
+                    new Date(Long.parseLong(raw.substring(0, separator))),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.commerce.domain.product;
+
+record ProductDocument(Long id, Long sellerId, String title, String description, Integer price) {
+    static ProductDocument of(Product product) {
+        return new ProductDocument(
+                product.getId(),
+                product.getSeller() == null ? null : product.getSeller().getId(),
+                product.getTitle(),
+                product.getDescription(),
+                product.getPrice());
+    }
+}
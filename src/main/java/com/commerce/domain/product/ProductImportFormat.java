@@ -0,0 +1,24 @@
+package com.commerce.domain.product;
+
+import org.springframework.http.MediaType;
+
+public enum ProductImportFormat {
+    CSV(".csv"),
+    NDJSON(".ndjson");
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final String extension;
+
+    ProductImportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    String extension() {
+        return extension;
+    }
+
+    static ProductImportFormat of(MediaType contentType) {
+        return MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ? NDJSON : CSV;
+    }
+}
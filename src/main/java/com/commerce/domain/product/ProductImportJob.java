@@ -0,0 +1,85 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.ProductImportError;
+import com.commerce.domain.product.dto.ProductImportJobResponse;
+import com.commerce.domain.product.dto.ProductImportJobResponse.Status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import, written by the worker and read by status requests. Only the first
+ * {@code maxReportedErrors} row errors are kept; the rest are counted.
+ */
+class ProductImportJob {
+    private final String id;
+    private final Long sellerId;
+    private final ProductImportFormat format;
+    private final int maxReportedErrors;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<ProductImportError> errors = new ArrayList<>();
+
+    ProductImportJob(String id, Long sellerId, ProductImportFormat format, int maxReportedErrors) {
+        this.id = id;
+        this.sellerId = sellerId;
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Long getSellerId() {
+        return sellerId;
+    }
+
+    ProductImportFormat getFormat() {
+        return format;
+    }
+
+    void start() {
+        status = Status.RUNNING;
+    }
+
+    void complete() {
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        status = Status.FAILED;
+    }
+
+    void imported(int rows) {
+        importedRows.addAndGet(rows);
+        processedRows.addAndGet(rows);
+    }
+
+    synchronized void rejected(ProductImportError error) {
+        failedRows.incrementAndGet();
+        processedRows.incrementAndGet();
+        if (errors.size() < maxReportedErrors) {
+            errors.add(error);
+        }
+    }
+
+    synchronized ProductImportJobResponse toResponse() {
+        return ProductImportJobResponse.builder()
+                .id(id)
+                .sellerId(sellerId)
+                .status(status)
+                .processedRows(processedRows.get())
+                .importedRows(importedRows.get())
+                .failedRows(failedRows.get())
+                .errors(List.copyOf(errors))
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.commerce.domain.product;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.product.import")
+public class ProductImportProperties {
+    private int concurrentJobs = 2;
+    private int queueCapacity = 8;
+    private int chunkSize = 1000;
+    private int flushSize = 100;
+    private int validationParallelism = Runtime.getRuntime().availableProcessors();
+    private int maxReportedErrors = 100;
+    private int maxRetainedJobs = 1000;
+    private Duration retention = Duration.ofHours(1);
+}
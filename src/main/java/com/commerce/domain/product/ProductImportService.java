@@ -0,0 +1,338 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.CreateProductDto;
+import com.commerce.domain.product.dto.ProductImportError;
+import com.commerce.domain.product.dto.ProductImportJobResponse;
+import com.commerce.domain.seller.Seller;
+import com.commerce.domain.seller.SellerRepository;
+import com.commerce.exception.NotFoundException;
+import com.commerce.exception.ProductImportRejectedException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Imports a seller's catalog from a CSV or NDJSON upload in the background. The upload is spooled
+ * to a temporary file and read back chunk by chunk: each chunk is parsed and validated in parallel,
+ * then persisted in one transaction with a flush and clear every {@code flushSize} products so the
+ * inserts go out as JDBC batches. Memory use depends on the chunk size, not on the file size.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+    private static final List<String> CSV_COLUMNS = List.of("title", "description", "image", "price", "stockQuantity");
+
+    private final SellerRepository sellerRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ProductImportProperties properties;
+
+    private final ThreadPoolExecutor executor;
+    private final ForkJoinPool validationPool;
+    private final Cache<String, ProductImportJob> jobs;
+
+    public ProductImportService(SellerRepository sellerRepository, ProductSearchIndex productSearchIndex, EntityManager entityManager,
+                                TransactionTemplate transactionTemplate, Validator validator, ObjectMapper objectMapper,
+                                ProductImportProperties properties, MeterRegistry meterRegistry) {
+        this.sellerRepository = sellerRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        this.executor = new ThreadPoolExecutor(
+                properties.getConcurrentJobs(), properties.getConcurrentJobs(),
+                0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("product-import-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.validationPool = new ForkJoinPool(properties.getValidationParallelism());
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxRetainedJobs())
+                .expireAfterWrite(properties.getRetention())
+                .build();
+
+        new ExecutorServiceMetrics(executor, "product-import", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    public ProductImportJobResponse submit(Long sellerId, ProductImportFormat format, InputStream body) throws IOException {
+        if (!sellerRepository.existsById(sellerId)) {
+            throw NotFoundException.seller();
+        }
+
+        Path file = Files.createTempFile("product-import-", format.extension());
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        ProductImportJob job = new ProductImportJob(UUID.randomUUID().toString(), sellerId, format, properties.getMaxReportedErrors());
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, file));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            Files.deleteIfExists(file);
+            throw new ProductImportRejectedException();
+        }
+        return job.toResponse();
+    }
+
+    public ProductImportJobResponse findJob(String jobId) {
+        ProductImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw NotFoundException.importJob();
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        validationPool.shutdownNow();
+    }
+
+    private void run(ProductImportJob job, Path file) {
+        job.start();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            RowReader rows = job.getFormat() == ProductImportFormat.CSV ? csvRows(reader) : ndjsonRows(reader);
+            List<Row> chunk = new ArrayList<>(properties.getChunkSize());
+            Row row;
+            while ((row = rows.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == properties.getChunkSize()) {
+                    processChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk);
+            }
+            job.complete();
+        } catch (Exception e) {
+            log.warn("product import {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("could not delete {}", file, e);
+            }
+        }
+    }
+
+    private void processChunk(ProductImportJob job, List<Row> chunk) {
+        validationPool.submit(() -> chunk.parallelStream().forEach(this::parse)).join();
+
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (row.error != null) {
+                job.rejected(row.error);
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(job.getSellerId(), valid));
+            job.imported(valid.size());
+        } catch (DataAccessException e) {
+            log.warn("product import {} could not save a chunk", job.getId(), e);
+            valid.forEach(row -> job.rejected(error(row.line, null, "could not be saved")));
+        }
+    }
+
+    private void persist(Long sellerId, List<Row> rows) {
+        Seller seller = entityManager.getReference(Seller.class, sellerId);
+        int pending = 0;
+        for (Row row : rows) {
+            Product product = Product.builder()
+                    .seller(seller)
+                    .title(row.createProductDto.getTitle())
+                    .description(row.createProductDto.getDescription())
+                    .image(row.createProductDto.getImage())
+                    .price(row.createProductDto.getPrice())
+                    .stockQuantity(row.createProductDto.getStockQuantity())
+                    .build();
+            entityManager.persist(product);
+            productSearchIndex.index(product);
+
+            if (++pending == properties.getFlushSize()) {
+                entityManager.flush();
+                entityManager.clear();
+                seller = entityManager.getReference(Seller.class, sellerId);
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void parse(Row row) {
+        if (row.error != null) {
+            return;
+        }
+
+        CreateProductDto createProductDto;
+        try {
+            createProductDto = row.json != null ? objectMapper.readValue(row.json, CreateProductDto.class) : fromCsv(row.fields);
+        } catch (JsonProcessingException e) {
+            row.error = error(row.line, null, "malformed json");
+            return;
+        } catch (NumberFormatException e) {
+            row.error = error(row.line, null, "malformed number");
+            return;
+        }
+
+        Set<ConstraintViolation<CreateProductDto>> violations = validator.validate(createProductDto);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<CreateProductDto> violation = violations.iterator().next();
+            String field = violation.getPropertyPath().toString();
+            row.error = error(row.line, field, "`" + field + "` " + violation.getMessage());
+            return;
+        }
+        row.createProductDto = createProductDto;
+    }
+
+    private static CreateProductDto fromCsv(Map<String, String> fields) {
+        return CreateProductDto.builder()
+                .title(fields.get("title"))
+                .description(fields.get("description"))
+                .image(fields.get("image"))
+                .price(integer(fields.get("price")))
+                .stockQuantity(integer(fields.get("stockQuantity")))
+                .build();
+    }
+
+    private static Integer integer(String value) {
+        return value == null || value.isBlank() ? null : Integer.valueOf(value.trim());
+    }
+
+    private RowReader csvRows(BufferedReader reader) throws IOException {
+        ProductCsvReader csv = new ProductCsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return () -> null;
+        }
+        List<String> columns = header.stream().map(String::trim).toList();
+        if (!columns.containsAll(List.of("title", "price", "stockQuantity"))) {
+            throw new IllegalArgumentException("csv header must contain title, price and stockQuantity");
+        }
+
+        return () -> {
+            List<String> record;
+            do {
+                record = csv.next();
+            } while (record != null && record.size() == 1 && record.get(0).isBlank());
+            if (record == null) {
+                return null;
+            }
+            if (record.size() != columns.size()) {
+                return Row.rejected(error(csv.recordLine(), null, "expected " + columns.size() + " columns but found " + record.size()));
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < columns.size(); i++) {
+                if (CSV_COLUMNS.contains(columns.get(i))) {
+                    fields.put(columns.get(i), record.get(i));
+                }
+            }
+            return Row.csv(csv.recordLine(), fields);
+        };
+    }
+
+    private static RowReader ndjsonRows(BufferedReader reader) {
+        long[] lineNumber = {0};
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+                lineNumber[0]++;
+            } while (line != null && line.isBlank());
+            return line == null ? null : Row.json(lineNumber[0], line);
+        };
+    }
+
+    private static ProductImportError error(long line, String field, String message) {
+        return ProductImportError.builder()
+                .line(line)
+                .field(field)
+                .message(message)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        Row next() throws IOException;
+    }
+
+    private static class Row {
+        private final long line;
+        private final String json;
+        private final Map<String, String> fields;
+        private CreateProductDto createProductDto;
+        private ProductImportError error;
+
+        private Row(long line, String json, Map<String, String> fields) {
+            this.line = line;
+            this.json = json;
+            this.fields = fields;
+        }
+
+        static Row json(long line, String json) {
+            return new Row(line, json, null);
+        }
+
+        static Row csv(long line, Map<String, String> fields) {
+            return new Row(line, null, fields);
+        }
+
+        static Row rejected(ProductImportError error) {
+            Row row = new Row(error.getLine(), null, null);
+            row.error = error;
+            return row;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.ProductSearchHit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over product titles and descriptions, ranked with BM25. Documents get dense
+ * numbers in insertion order, so every posting list stays sorted and queries intersect them with
+ * forward-only cursors. Replacing or removing a product only tombstones its old number; once the
+ * tombstones outnumber the live documents, the index is compacted in place and renumbered.
+ */
+class ProductInvertedIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final long NO_SELLER = -1L;
+    private static final int SUGGESTION_SCAN_LIMIT = 1_000;
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 1_024;
+
+    private final float titleBoost;
+    private final int descriptionLimit;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final TreeMap<String, Integer> titleWords = new TreeMap<>();
+    private final Map<Long, Integer> documentNumbers = new HashMap<>();
+    private final BitSet removed = new BitSet();
+
+    private long[] productIds = new long[1024];
+    private long[] sellerIds = new long[1024];
+    private int[] prices = new int[1024];
+    private float[] lengths = new float[1024];
+    private String[] titles = new String[1024];
+    private int documentCount;
+    private int liveCount;
+    private int tombstones;
+    private double totalLength;
+
+    ProductInvertedIndex(float titleBoost, int descriptionLimit) {
+        this.titleBoost = titleBoost;
+        this.descriptionLimit = descriptionLimit;
+    }
+
+    void put(ProductDocument document) {
+        Map<String, Float> frequencies = new HashMap<>();
+        for (String term : ProductTokenizer.terms(document.title())) {
+            frequencies.merge(term, titleBoost, Float::sum);
+        }
+        for (String term : ProductTokenizer.terms(truncate(document.description()))) {
+            frequencies.merge(term, 1f, Float::sum);
+        }
+        float length = 0;
+        for (float frequency : frequencies.values()) {
+            length += frequency;
+        }
+
+        lock.writeLock().lock();
+        try {
+            remove0(document.id());
+
+            int number = documentCount++;
+            ensureCapacity(documentCount);
+            productIds[number] = document.id();
+            sellerIds[number] = document.sellerId() == null ? NO_SELLER : document.sellerId();
+            prices[number] = document.price() == null ? 0 : document.price();
+            lengths[number] = length;
+            titles[number] = document.title();
+
+            for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(number, entry.getValue());
+            }
+            for (String word : new LinkedHashSet<>(ProductTokenizer.words(document.title()))) {
+                titleWords.merge(word, 1, Integer::sum);
+            }
+
+            documentNumbers.put(document.id(), number);
+            liveCount++;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            remove0(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Products matching every term of the query, best BM25 score first.
+     */
+    List<ProductSearchHit> search(String query, ProductSearchFilter filter, int size) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(ProductTokenizer.queryTerms(query)));
+        if (terms.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            float[] idfs = new float[terms.size()];
+            for (int i = 0; i < terms.size(); i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(list -> list.size));
+            for (int i = 0; i < lists.length; i++) {
+                idfs[i] = idf(lists[i].size);
+            }
+
+            float averageLength = (float) (totalLength / Math.max(1, liveCount));
+            int[] cursors = new int[lists.length];
+            PriorityQueue<Scored> top = new PriorityQueue<>(size + 1, Comparator.comparingDouble(Scored::score));
+
+            Postings driver = lists[0];
+            candidates:
+            for (int i = 0; i < driver.size; i++) {
+                int number = driver.documents[i];
+                if (removed.get(number) || (filter != null && !filter.matches(sellerIds[number], prices[number]))) {
+                    continue;
+                }
+
+                float norm = K1 * (1 - B + B * lengths[number] / averageLength);
+                float score = idfs[0] * bm25(driver.frequencies[i], norm);
+                for (int j = 1; j < lists.length; j++) {
+                    int position = lists[j].advance(cursors[j], number);
+                    cursors[j] = position;
+                    if (position == lists[j].size || lists[j].documents[position] != number) {
+                        continue candidates;
+                    }
+                    score += idfs[j] * bm25(lists[j].frequencies[position], norm);
+                }
+
+                top.add(new Scored(number, score));
+                if (top.size() > size) {
+                    top.poll();
+                }
+            }
+
+            ProductSearchHit[] hits = new ProductSearchHit[top.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                Scored scored = top.poll();
+                long sellerId = sellerIds[scored.number()];
+                hits[i] = new ProductSearchHit(
+                        productIds[scored.number()],
+                        sellerId == NO_SELLER ? null : sellerId,
+                        titles[scored.number()],
+                        prices[scored.number()],
+                        scored.score());
+            }
+            return List.of(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Title words starting with the prefix, the ones used by the most products first.
+     */
+    List<String> suggest(String prefix, int size) {
+        List<String> words = ProductTokenizer.words(prefix);
+        if (words.size() != 1 || size <= 0) {
+            return List.of();
+        }
+        String start = words.get(0);
+
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> matches = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> entry : titleWords.subMap(start, true, start + Character.MAX_VALUE, false).entrySet()) {
+                matches.put(entry.getKey(), entry.getValue());
+                if (matches.size() == SUGGESTION_SCAN_LIMIT) {
+                    break;
+                }
+            }
+            return matches.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(size)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int tombstones() {
+        lock.readLock().lock();
+        try {
+            return tombstones;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void remove0(Long productId) {
+        Integer number = documentNumbers.remove(productId);
+        if (number == null) {
+            return;
+        }
+
+        removed.set(number);
+        tombstones++;
+        liveCount--;
+        totalLength -= lengths[number];
+        for (String word : new LinkedHashSet<>(ProductTokenizer.words(titles[number]))) {
+            titleWords.computeIfPresent(word, (key, count) -> count == 1 ? null : count - 1);
+        }
+        titles[number] = null;
+
+        if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones >= liveCount) {
+            compact();
+        }
+    }
+
+    /**
+     * Drops tombstoned documents from the posting lists and renumbers the live ones, keeping their order.
+     */
+    private void compact() {
+        int[] renumbered = new int[documentCount];
+        int live = 0;
+        for (int number = 0; number < documentCount; number++) {
+            if (removed.get(number)) {
+                renumbered[number] = -1;
+                continue;
+            }
+            productIds[live] = productIds[number];
+            sellerIds[live] = sellerIds[number];
+            prices[live] = prices[number];
+            lengths[live] = lengths[number];
+            titles[live] = titles[number];
+            renumbered[number] = live++;
+        }
+        Arrays.fill(titles, live, documentCount, null);
+
+        postings.values().removeIf(list -> list.retain(renumbered) == 0);
+        documentNumbers.replaceAll((productId, number) -> renumbered[number]);
+        removed.clear();
+        documentCount = live;
+        tombstones = 0;
+    }
+
+    private float idf(int postingCount) {
+        // Posting lists still hold tombstoned documents until the next compaction.
+        int documentFrequency = Math.min(postingCount, liveCount);
+        return (float) Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static float bm25(float frequency, float norm) {
+        return frequency * (K1 + 1) / (frequency + norm);
+    }
+
+    private String truncate(String description) {
+        if (description == null || description.length() <= descriptionLimit) {
+            return description;
+        }
+        return description.substring(0, descriptionLimit);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= productIds.length) {
+            return;
+        }
+        int grown = Math.max(capacity, productIds.length * 2);
+        productIds = Arrays.copyOf(productIds, grown);
+        sellerIds = Arrays.copyOf(sellerIds, grown);
+        prices = Arrays.copyOf(prices, grown);
+        lengths = Arrays.copyOf(lengths, grown);
+        titles = Arrays.copyOf(titles, grown);
+    }
+
+    private record Scored(int number, float score) {
+    }
+
+    private static class Postings {
+        private int[] documents = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        void add(int document, float frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        /**
+         * Keeps the documents that have a new number, renumbered, and returns how many are left.
+         */
+        int retain(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int number = renumbered[documents[i]];
+                if (number >= 0) {
+                    documents[kept] = number;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+
+        /**
+         * First position at or after {@code from} whose document is not below {@code document}.
+         */
+        int advance(int from, int document) {
+            int step = 1;
+            int low = from;
+            int high = from;
+            while (high < size && documents[high] < document) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            high = Math.min(high, size);
+            int index = Arrays.binarySearch(documents, low, high, document);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
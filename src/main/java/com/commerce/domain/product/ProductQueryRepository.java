@@ -0,0 +1,70 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.FindProductResponse;
+import com.commerce.domain.product.dto.ProductSummaryDto;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static com.commerce.domain.product.QProduct.product;
+
+@RequiredArgsConstructor
+@Repository
+public class ProductQueryRepository {
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * {@code availableQuantity} already falls back to {@code stock_quantity} for products that are not split.
+     */
+    Optional<FindProductResponse> findProduct(Long productId) {
+        return Optional.ofNullable(queryFactory
+                .select(Projections.constructor(FindProductResponse.class,
+                        product.id,
+                        product.seller.id,
+                        product.title,
+                        product.description,
+                        product.image,
+                        product.price,
+                        product.availableQuantity))
+                .from(product)
+                .where(product.id.eq(productId))
+                .fetchOne());
+    }
+
+    /**
+     * Seeks past {@code after} instead of skipping rows, so every page reads at most {@code limit}
+     * index entries. {@code product.seller.id} resolves to the foreign key column without a join.
+     */
+    List<ProductSummaryDto> findProductSummaries(Long sellerId, ProductCursor after, int limit) {
+        return queryFactory
+                .select(Projections.constructor(ProductSummaryDto.class,
+                        product.id,
+                        product.seller.id,
+                        product.title,
+                        product.image,
+                        product.price,
+                        product.createdAt))
+                .from(product)
+                .where(product.deleted.isFalse(), sellerIdEq(sellerId), after(after))
+                .orderBy(product.createdAt.desc(), product.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private static BooleanExpression sellerIdEq(Long sellerId) {
+        return sellerId == null ? null : product.seller.id.eq(sellerId);
+    }
+
+    private static BooleanExpression after(ProductCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return product.createdAt.lt(cursor.createdAt())
+                .or(product.createdAt.eq(cursor.createdAt()).and(product.id.lt(cursor.id())));
+    }
+}
@@ -0,0 +1,9 @@
+package com.commerce.domain.product;
+
+record ProductSearchFilter(Integer minPrice, Integer maxPrice, Long sellerId) {
+    boolean matches(long sellerId, int price) {
+        return (minPrice == null || price >= minPrice)
+                && (maxPrice == null || price <= maxPrice)
+                && (this.sellerId == null || this.sellerId == sellerId);
+    }
+}
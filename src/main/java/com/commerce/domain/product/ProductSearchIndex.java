@@ -0,0 +1,133 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.ProductSearchHit;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Full-text search over the catalog without a LIKE scan of the product table. Writes through
+ * {@link ProductService} are indexed once their transaction commits; the whole index is rebuilt
+ * from a keyset scan of the table at startup. Until that scan completes, products saved before
+ * this instance started are not found.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+    private static final String SCAN_SQL = "select id, seller_id, title, description, price from product " +
+            "where deleted = false and id > ? order by id limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductSearchProperties properties;
+
+    private volatile ProductInvertedIndex current;
+    private volatile ProductInvertedIndex rebuilding;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public ProductSearchIndex(JdbcTemplate jdbcTemplate, ProductSearchProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.current = newIndex();
+
+        Gauge.builder("commerce.product.search.documents", this, index -> index.current.size())
+                .register(meterRegistry);
+    }
+
+    public void index(Product product) {
+        ProductDocument document = ProductDocument.of(product);
+        afterCommit(() -> {
+            current.put(document);
+
+            ProductInvertedIndex next = rebuilding;
+            if (next != null) {
+                next.put(document);
+            }
+        });
+    }
+
+    public void remove(Long productId) {
+        afterCommit(() -> {
+            current.remove(productId);
+
+            ProductInvertedIndex next = rebuilding;
+            if (next != null) {
+                next.remove(productId);
+            }
+        });
+    }
+
+    List<ProductSearchHit> search(String query, ProductSearchFilter filter, int size) {
+        return current.search(query, filter, size);
+    }
+
+    List<String> suggest(String prefix, int size) {
+        return current.suggest(prefix, size);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            ProductInvertedIndex next = newIndex();
+            rebuilding = next;
+            long lastId = 0;
+            long scanned = 0;
+            int page;
+            do {
+                long[] pageLastId = {lastId};
+                page = jdbcTemplate.query(SCAN_SQL, (rs, rowNum) -> {
+                    long sellerId = rs.getLong("seller_id");
+                    boolean noSeller = rs.wasNull();
+                    next.put(new ProductDocument(
+                            rs.getLong("id"),
+                            noSeller ? null : sellerId,
+                            rs.getString("title"),
+                            rs.getString("description"),
+                            rs.getInt("price")));
+                    pageLastId[0] = rs.getLong("id");
+                    return Boolean.TRUE;
+                }, lastId, properties.getScanPageSize()).size();
+                lastId = pageLastId[0];
+                scanned += page;
+            } while (page == properties.getScanPageSize());
+
+            current = next;
+            log.info("product search index rebuilt from {} products", scanned);
+        } finally {
+            rebuilding = null;
+            rebuildLock.unlock();
+        }
+    }
+
+    private ProductInvertedIndex newIndex() {
+        return new ProductInvertedIndex(properties.getTitleBoost(), properties.getDescriptionLimit());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
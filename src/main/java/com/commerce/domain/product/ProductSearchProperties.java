@@ -0,0 +1,15 @@
+package com.commerce.domain.product;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.product.search")
+public class ProductSearchProperties {
+    private boolean enabled = true;
+    private int scanPageSize = 10_000;
+    private float titleBoost = 2.0f;
+    private int descriptionLimit = 500;
+}
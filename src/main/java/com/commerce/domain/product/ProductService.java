@@ -1,22 +1,45 @@
 package com.commerce.domain.product;
 
+import com.commerce.common.coalesce.CoalesceRequests;
+import com.commerce.common.metrics.DomainEventMetrics;
+import com.commerce.common.outbox.DomainEvent;
+import com.commerce.common.outbox.DomainEvents;
+import com.commerce.common.retry.RetryOnConflict;
+import com.commerce.config.CacheConfig;
 import com.commerce.domain.product.dto.CreateProductDto;
+import com.commerce.domain.product.dto.FindProductResponse;
+import com.commerce.domain.product.dto.FindProductsResponse;
+import com.commerce.domain.product.dto.ProductSummaryDto;
+import com.commerce.domain.product.dto.SearchProductsResponse;
+import com.commerce.domain.product.dto.SuggestProductsResponse;
 import com.commerce.domain.seller.Seller;
 import com.commerce.domain.seller.SellerRepository;
-import jakarta.persistence.NoResultException;
+import com.commerce.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 public class ProductService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
+    private final ProductQueryRepository productQueryRepository;
     private final SellerRepository sellerRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final DomainEventMetrics domainEventMetrics;
+    private final DomainEvents domainEvents;
+    private final StockReservationEngine stockReservationEngine;
 
     Long createProduct(Long sellerId, CreateProductDto createProductDto) {
-        Seller seller = sellerRepository.findById(sellerId).orElseThrow(NoResultException::new);
+        Seller seller = sellerRepository.findById(sellerId).orElseThrow(NotFoundException::seller);
 
         Product product = Product.builder()
                 .seller(seller)
@@ -28,12 +51,64 @@ public class ProductService {
                 .build();
 
         productRepository.save(product);
-
+        productSearchIndex.index(product);
 
         return product.getId();
     }
 
-    Product findProductByProductId(Long productId) {
-        return productRepository.findById(productId).orElseThrow(NoResultException::new);
+    @Cacheable(cacheNames = CacheConfig.PRODUCTS)
+    @CoalesceRequests("product")
+    @Transactional(readOnly = true)
+    public FindProductResponse findProductByProductId(Long productId) {
+        return productQueryRepository.findProduct(productId).orElseThrow(NotFoundException::product);
+    }
+
+    @Transactional(readOnly = true)
+    public FindProductsResponse findProducts(Long sellerId, String cursor, int size) {
+        if (sellerId != null && !sellerRepository.existsById(sellerId)) {
+            throw NotFoundException.seller();
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ProductCursor after = cursor == null ? null : ProductCursor.decode(cursor);
+        List<ProductSummaryDto> rows = productQueryRepository.findProductSummaries(sellerId, after, limit + 1);
+
+        if (rows.size() <= limit) {
+            return FindProductsResponse.builder()
+                    .products(rows)
+                    .build();
+        }
+
+        List<ProductSummaryDto> products = rows.subList(0, limit);
+        ProductSummaryDto last = products.get(limit - 1);
+        return FindProductsResponse.builder()
+                .products(products)
+                .nextCursor(new ProductCursor(last.getCreatedAt(), last.getId()).encode())
+                .build();
+    }
+
+    public SearchProductsResponse searchProducts(String query, Integer minPrice, Integer maxPrice, Long sellerId, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return SearchProductsResponse.builder()
+                .products(productSearchIndex.search(query, new ProductSearchFilter(minPrice, maxPrice, sellerId), limit))
+                .build();
+    }
+
+    public SuggestProductsResponse suggestProducts(String prefix, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return SuggestProductsResponse.builder()
+                .suggestions(productSearchIndex.suggest(prefix, limit))
+                .build();
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS, key = "#productId")
+    @Transactional
+    @RetryOnConflict(entity = "product", operation = "decrease-stock")
+    public void decreaseStockQuantity(Long productId, Integer quantity) {
+        Product product = productRepository.findById(productId).orElseThrow(NotFoundException::product);
+        product.decreaseQuantity(quantity);
+        domainEventMetrics.stockDecremented(quantity);
+        stockReservationEngine.reconcile(productId, quantity);
+        domainEvents.publish(DomainEvent.PRODUCT_STOCK_CHANGED, productId, Map.of("delta", -quantity));
     }
 }
@@ -0,0 +1,42 @@
+package com.commerce.domain.product;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_product_stock_bucket_product_id_bucket_index", columnNames = {"product_id", "bucket_index"}))
+@Getter
+@NoArgsConstructor
+@Entity
+public class ProductStockBucket {
+    @Id
+    @GeneratedValue
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(nullable = false)
+    private Product product;
+
+    private Integer bucketIndex;
+
+    private Integer quantity;
+
+    ProductStockBucket(Product product, Integer bucketIndex, Integer quantity) {
+        this.product = product;
+        this.bucketIndex = bucketIndex;
+        this.quantity = quantity;
+    }
+
+    int take(int wanted) {
+        int taken = Math.min(this.quantity, wanted);
+        this.quantity -= taken;
+        return taken;
+    }
+
+    void setQuantity(Integer quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("quantity must not be negative");
+        }
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,27 @@
+package com.commerce.domain.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductStockBucketRepository extends JpaRepository<ProductStockBucket, Long> {
+    @Query(value = "select * from product_stock_bucket where product_id = :productId and quantity >= :quantity " +
+            "order by case when bucket_index >= :startIndex then 0 else 1 end, bucket_index " +
+            "limit 1 for update skip locked", nativeQuery = true)
+    Optional<ProductStockBucket> lockAvailableBucket(@Param("productId") Long productId,
+                                                     @Param("quantity") Integer quantity,
+                                                     @Param("startIndex") Integer startIndex);
+
+    @Query(value = "select * from product_stock_bucket where product_id = :productId order by bucket_index for update",
+            nativeQuery = true)
+    List<ProductStockBucket> lockAllBuckets(@Param("productId") Long productId);
+
+    @Query("select b.product.id from ProductStockBucket b group by b.product.id " +
+            "having min(b.quantity) = 0 and sum(b.quantity) >= count(b)")
+    List<Long> findProductIdsToRebalance();
+
+    long countByProductId(Long productId);
+}
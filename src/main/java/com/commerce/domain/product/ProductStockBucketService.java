@@ -0,0 +1,151 @@
+package com.commerce.domain.product;
+
+import com.commerce.config.CacheConfig;
+import com.commerce.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Transactional
+@RequiredArgsConstructor
+@Service
+public class ProductStockBucketService {
+    private final ProductRepository productRepository;
+    private final ProductStockBucketRepository productStockBucketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Moves the product's stock into {@code bucketCount} bucket rows, or spreads the stock of an
+     * already split product over a new number of buckets.
+     */
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS, key = "#productId")
+    public void splitInventory(Long productId, int bucketCount) {
+        split(productRepository.findById(productId).orElseThrow(NotFoundException::product), bucketCount);
+    }
+
+    /**
+     * {@link #splitInventory(Long, int)} for a seller's own product; products of other sellers are not found.
+     */
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS, key = "#productId")
+    public void splitInventory(Long sellerId, Long productId, int bucketCount) {
+        Product product = productRepository.findById(productId)
+                .filter(found -> found.getSeller() != null && found.getSeller().getId().equals(sellerId))
+                .orElseThrow(NotFoundException::product);
+        split(product, bucketCount);
+    }
+
+    private void split(Product product, int bucketCount) {
+        if (bucketCount <= 0) {
+            throw new IllegalArgumentException("bucketCount must be bigger than 0");
+        }
+        if (Boolean.TRUE.equals(product.getSplitInventory())) {
+            resize(product, bucketCount);
+            return;
+        }
+
+        int quantity = product.splitInventory();
+
+        List<ProductStockBucket> buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ProductStockBucket(product, i, share(quantity, bucketCount, i)));
+        }
+
+        productStockBucketRepository.saveAll(buckets);
+    }
+
+    /**
+     * Keeps the buckets whose index is still in range, so no insert reuses the index of a row that
+     * is being deleted, and spreads the locked total over the new count.
+     */
+    private void resize(Product product, int bucketCount) {
+        List<ProductStockBucket> buckets = productStockBucketRepository.lockAllBuckets(product.getId());
+        int total = buckets.stream().mapToInt(ProductStockBucket::getQuantity).sum();
+
+        if (buckets.size() > bucketCount) {
+            productStockBucketRepository.deleteAllInBatch(buckets.subList(bucketCount, buckets.size()));
+        }
+        List<ProductStockBucket> added = new ArrayList<>();
+        for (int i = 0; i < bucketCount; i++) {
+            if (i < buckets.size()) {
+                buckets.get(i).setQuantity(share(total, bucketCount, i));
+            } else {
+                added.add(new ProductStockBucket(product, i, share(total, bucketCount, i)));
+            }
+        }
+        productStockBucketRepository.saveAll(added);
+    }
+
+    /**
+     * Takes {@code quantity} units from the product's buckets. The stock-changed event is left to the
+     * caller, which publishes it once for the whole decrement like it does for unsplit products.
+     */
+    @CacheEvict(cacheNames = CacheConfig.PRODUCTS, key = "#productId")
+    public void decreaseQuantity(Long productId, Integer quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be bigger than 0");
+        }
+
+        // Read on every call: another node may have split or resized the product since the last one.
+        int bucketCount = (int) productStockBucketRepository.countByProductId(productId);
+        if (bucketCount == 0) {
+            throw new IllegalStateException("inventory is not split");
+        }
+
+        int startIndex = ThreadLocalRandom.current().nextInt(bucketCount);
+        ProductStockBucket bucket = productStockBucketRepository.lockAvailableBucket(productId, quantity, startIndex)
+                .orElse(null);
+
+        if (bucket != null) {
+            bucket.take(quantity);
+            return;
+        }
+
+        // No single unlocked bucket can cover the quantity: wait for all of them and take across buckets.
+        List<ProductStockBucket> buckets = productStockBucketRepository.lockAllBuckets(productId);
+        int total = buckets.stream().mapToInt(ProductStockBucket::getQuantity).sum();
+        if (total < quantity) {
+            throw new IllegalStateException("stockQuantity is Insufficient");
+        }
+
+        int remaining = quantity;
+        for (ProductStockBucket lockedBucket : buckets) {
+            remaining -= lockedBucket.take(remaining);
+            if (remaining == 0) {
+                break;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.stock.bucket.rebalance-interval:PT5S}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebalance() {
+        for (Long productId : productStockBucketRepository.findProductIdsToRebalance()) {
+            transactionTemplate.executeWithoutResult(status -> rebalance(productId));
+        }
+    }
+
+    void rebalance(Long productId) {
+        List<ProductStockBucket> buckets = productStockBucketRepository.lockAllBuckets(productId);
+        int total = buckets.stream().mapToInt(ProductStockBucket::getQuantity).sum();
+
+        for (int i = 0; i < buckets.size(); i++) {
+            buckets.get(i).setQuantity(share(total, buckets.size(), i));
+        }
+
+        log.debug("rebalanced {} stock buckets of product {}", buckets.size(), productId);
+    }
+
+    private static int share(int total, int bucketCount, int index) {
+        return total / bucketCount + (index < total % bucketCount ? 1 : 0);
+    }
+}
@@ -0,0 +1,91 @@
+package com.commerce.domain.product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into lower-cased words on anything that is not a letter or digit. Words containing
+ * Hangul are indexed as overlapping bigrams, since Korean product names glue nouns together
+ * ("나이키운동화") and a query for one of them must still match. Their Hangul syllables are indexed
+ * on their own as well, so a one-syllable query ("신") finds them too.
+ */
+final class ProductTokenizer {
+    private ProductTokenizer() {
+    }
+
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        String lowerCase = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean letterOrDigit = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (letterOrDigit && start < 0) {
+                start = i;
+            } else if (!letterOrDigit && start >= 0) {
+                words.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Terms a document is indexed under.
+     */
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() < 2 || !containsHangul(word)) {
+                terms.add(word);
+                continue;
+            }
+            addBigrams(word, terms);
+            for (int i = 0; i < word.length(); i++) {
+                if (isHangul(word.charAt(i))) {
+                    terms.add(word.substring(i, i + 1));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Terms a query has to match. Longer Hangul words are looked up by their bigrams only, which
+     * already imply the syllables.
+     */
+    static List<String> queryTerms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String word : words(text)) {
+            if (word.length() < 2 || !containsHangul(word)) {
+                terms.add(word);
+                continue;
+            }
+            addBigrams(word, terms);
+        }
+        return terms;
+    }
+
+    private static void addBigrams(String word, List<String> terms) {
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            terms.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean containsHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (isHangul(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,22 @@
+package com.commerce.domain.product;
+
+import lombok.Getter;
+
+@Getter
+public class StockReservation {
+    private final Long id;
+    private final Long productId;
+    private final int quantity;
+    private final long expiresAt;
+
+    StockReservation(Long id, Long productId, int quantity, long expiresAt) {
+        this.id = id;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+}
@@ -0,0 +1,266 @@
+package com.commerce.domain.product;
+
+import com.commerce.common.outbox.DomainEvent;
+import com.commerce.common.outbox.DomainEvents;
+import com.commerce.config.CacheConfig;
+import com.commerce.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out time-limited stock reservations from in-memory striped counters and
+ * writes confirmed quantities back to {@code product.stock_quantity} in batches.
+ * <p>
+ * Orders use it in the {@code reservation} checkout mode: the lines are reserved here, the order is
+ * inserted, and the reservations are confirmed for it once it commits. The SQL decrements of
+ * {@link ProductService} and the other checkout modes report their committed decrements through
+ * {@link #reconcile}, which takes the units out of a loaded counter so they are not handed out again.
+ * A confirmed reservation the database refuses at flush time (because another path sold the units
+ * between its commit and its reconcile) is not retried: it is logged and published once as a
+ * {@link StockReservationRefused}, and the order it was confirmed for is cancelled. Stock raised
+ * outside the engine is only seen after a restart, so counters can be low but not high.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StockReservationEngine {
+    private static final String DECREASE_STOCK_SQL =
+            "update product set stock_quantity = stock_quantity - ?, version = version + 1 where id = ? and stock_quantity >= ?";
+    private static final String LOAD_STOCK_SQL =
+            "select stock_quantity, split_inventory from product where id = ? and deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StockReservationProperties properties;
+    private final CacheManager cacheManager;
+    private final DomainEvents domainEvents;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final Map<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    private final Map<Long, ConcurrentLinkedQueue<Confirmed>> confirmed = new ConcurrentHashMap<>();
+    private final Map<Long, StockReservation> reservations = new ConcurrentHashMap<>();
+    private final AtomicLong reservationSequence = new AtomicLong();
+
+    public Optional<StockReservation> reserve(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be bigger than 0");
+        }
+
+        StripedStockCounter counter = counters.computeIfAbsent(productId, this::loadCounter);
+        if (!counter.tryAcquire(quantity)) {
+            return Optional.empty();
+        }
+
+        long expiresAt = System.currentTimeMillis() + properties.getTtl().toMillis();
+        StockReservation reservation = new StockReservation(reservationSequence.incrementAndGet(), productId, quantity, expiresAt);
+        reservations.put(reservation.getId(), reservation);
+        return Optional.of(reservation);
+    }
+
+    public void confirm(Long reservationId) {
+        confirm(List.of(reservationId), null);
+    }
+
+    /**
+     * Queues the reserved units of all {@code reservationIds} for the next flush, or none of them:
+     * if one is expired or unknown the others are released and an {@link IllegalStateException} is
+     * thrown. {@code orderId} is handed back in a {@link StockReservationRefused} if the database
+     * refuses them.
+     */
+    public void confirm(Collection<Long> reservationIds, Long orderId) {
+        List<StockReservation> taken = new ArrayList<>(reservationIds.size());
+        for (Long reservationId : reservationIds) {
+            StockReservation reservation = reservations.remove(reservationId);
+            if (reservation == null) {
+                taken.forEach(this::release);
+                throw new IllegalStateException("reservation is expired or unknown");
+            }
+            taken.add(reservation);
+        }
+
+        for (StockReservation reservation : taken) {
+            confirmed.computeIfAbsent(reservation.getProductId(), id -> new ConcurrentLinkedQueue<>())
+                    .add(new Confirmed(reservation, orderId));
+        }
+    }
+
+    public void cancel(Long reservationId) {
+        StockReservation reservation = reservations.remove(reservationId);
+        if (reservation != null) {
+            release(reservation);
+        }
+    }
+
+    public long available(Long productId) {
+        return counters.computeIfAbsent(productId, this::loadCounter).available();
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.stock.reservation.sweep-interval:PT1S}")
+    public void releaseExpiredReservations() {
+        long now = System.currentTimeMillis();
+        Iterator<StockReservation> iterator = reservations.values().iterator();
+        while (iterator.hasNext()) {
+            StockReservation reservation = iterator.next();
+            if (reservation.isExpired(now) && reservations.remove(reservation.getId(), reservation)) {
+                release(reservation);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${commerce.stock.reservation.flush-interval:PT0.2S}")
+    public void flush() {
+        SortedMap<Long, List<Confirmed>> batch = new TreeMap<>();
+        confirmed.forEach((productId, queue) -> {
+            List<Confirmed> drained = new ArrayList<>();
+            for (Confirmed next = queue.poll(); next != null; next = queue.poll()) {
+                drained.add(next);
+            }
+            if (!drained.isEmpty()) {
+                batch.put(productId, drained);
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Confirmed> refused = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                refused.clear();
+                List<Long> productIds = new ArrayList<>(batch.keySet());
+                int[] updated = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, productIds.stream()
+                        .map(productId -> {
+                            long quantity = total(batch.get(productId));
+                            return new Object[]{quantity, productId, quantity};
+                        })
+                        .toList());
+                for (int i = 0; i < updated.length; i++) {
+                    Long productId = productIds.get(i);
+                    // The sum did not fit; write the reservations one by one so only the ones that overrun are refused.
+                    long applied = updated[i] != 0 ? total(batch.get(productId)) : applyEach(productId, batch.get(productId), refused);
+                    if (applied > 0) {
+                        domainEvents.publish(DomainEvent.PRODUCT_STOCK_CHANGED, productId, Map.of("delta", -applied));
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // Nothing was written; the same reservations are tried again on the next flush.
+            batch.forEach((productId, drained) -> confirmed.computeIfAbsent(productId, id -> new ConcurrentLinkedQueue<>()).addAll(drained));
+            throw e;
+        }
+
+        Cache products = cacheManager.getCache(CacheConfig.PRODUCTS);
+        batch.keySet().forEach(products::evict);
+        refused.forEach(this::refuse);
+    }
+
+    /**
+     * Takes {@code quantity} units decreased outside the engine out of the product's counter once
+     * the current transaction commits. Products that were never loaded here are left alone; their
+     * counter reads the decreased stock when it is first loaded.
+     */
+    public void reconcile(Long productId, long quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            drain(productId, quantity);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                drain(productId, quantity);
+            }
+        });
+    }
+
+    private void release(StockReservation reservation) {
+        counters.computeIfAbsent(reservation.getProductId(), this::loadCounter).release(reservation.getQuantity());
+    }
+
+    private long applyEach(Long productId, List<Confirmed> drained, List<Confirmed> refused) {
+        long applied = 0;
+        for (Confirmed next : drained) {
+            int quantity = next.reservation().getQuantity();
+            if (jdbcTemplate.update(DECREASE_STOCK_SQL, quantity, productId, quantity) == 0) {
+                refused.add(next);
+            } else {
+                applied += quantity;
+            }
+        }
+        return applied;
+    }
+
+    private void refuse(Confirmed refused) {
+        StockReservation reservation = refused.reservation();
+        log.error("stock flush of {} units refused for product {}, compensating order {}",
+                reservation.getQuantity(), reservation.getProductId(), refused.orderId());
+        applicationEventPublisher.publishEvent(
+                new StockReservationRefused(reservation.getProductId(), reservation.getQuantity(), refused.orderId()));
+    }
+
+    private void drain(Long productId, long quantity) {
+        StripedStockCounter counter = counters.get(productId);
+        if (counter != null && counter.drain(quantity) < quantity) {
+            log.warn("product {} was decreased by {} units outside the engine while they were reserved here", productId, quantity);
+        }
+    }
+
+    /**
+     * Starts from the stored stock minus what this node has already handed out, held or confirmed
+     * but not yet flushed. The stock is read in a read-write transaction, so it comes from the
+     * primary even when reads are routed to replicas.
+     */
+    private StripedStockCounter loadCounter(Long productId) {
+        long stock = transactionTemplate.execute(status -> {
+            List<Long> rows = jdbcTemplate.query(LOAD_STOCK_SQL, (rs, rowNum) -> {
+                if (rs.getBoolean(2)) {
+                    throw new IllegalStateException("stock of split inventory is decreased through ProductStockBucketService");
+                }
+                return rs.getLong(1);
+            }, productId);
+            if (rows.isEmpty()) {
+                throw NotFoundException.product();
+            }
+            return rows.get(0);
+        });
+        long held = reservations.values().stream()
+                .filter(reservation -> reservation.getProductId().equals(productId))
+                .mapToLong(StockReservation::getQuantity)
+                .sum();
+        ConcurrentLinkedQueue<Confirmed> pending = confirmed.get(productId);
+        long available = stock - held - (pending == null ? 0 : total(pending));
+        return new StripedStockCounter(Math.max(0, available), properties.getStripes());
+    }
+
+    private static long total(Iterable<Confirmed> confirmations) {
+        long total = 0;
+        for (Confirmed next : confirmations) {
+            total += next.reservation().getQuantity();
+        }
+        return total;
+    }
+
+    private record Confirmed(StockReservation reservation, Long orderId) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.commerce.domain.product;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties("commerce.stock.reservation")
+public class StockReservationProperties {
+    private Duration ttl = Duration.ofMinutes(10);
+    private int stripes = Runtime.getRuntime().availableProcessors();
+}
@@ -0,0 +1,9 @@
+package com.commerce.domain.product;
+
+/**
+ * A confirmed reservation the database refused at flush time, because another write path sold the
+ * units first. Published once per reservation; {@code orderId} is what the reservation was confirmed
+ * for, so the owner can undo it.
+ */
+public record StockReservationRefused(Long productId, int quantity, Long orderId) {
+}
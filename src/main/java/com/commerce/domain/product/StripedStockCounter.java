@@ -0,0 +1,121 @@
+package com.commerce.domain.product;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Available stock of a single product split across independent CAS stripes.
+ * A thread decrements its home stripe first and only touches the others when
+ * the home stripe runs dry, so concurrent buyers rarely contend on one word.
+ * No stripe is ever decremented below zero.
+ */
+class StripedStockCounter {
+    private static final int MAX_ACQUIRE_ATTEMPTS = 3;
+
+    private final AtomicLong[] stripes;
+    private final int mask;
+
+    StripedStockCounter(long available, int stripeCount) {
+        if (available < 0) {
+            throw new IllegalArgumentException("available must not be negative");
+        }
+
+        int size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new AtomicLong[size];
+        this.mask = size - 1;
+
+        long share = available / size;
+        long remainder = available % size;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new AtomicLong(share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    boolean tryAcquire(long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be bigger than 0");
+        }
+
+        for (int attempt = 0; attempt < MAX_ACQUIRE_ATTEMPTS; attempt++) {
+            if (tryAcquireOnce(quantity)) {
+                return true;
+            }
+
+            if (available() < quantity) {
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    void release(long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be bigger than 0");
+        }
+
+        stripes[homeIndex()].addAndGet(quantity);
+    }
+
+    /**
+     * Removes up to {@code quantity} units regardless of stripe and returns how many were there.
+     */
+    long drain(long quantity) {
+        long drained = 0;
+        for (int i = 0; i < stripes.length && drained < quantity; i++) {
+            drained += takeUpTo(stripes[i], quantity - drained);
+        }
+        return drained;
+    }
+
+    long available() {
+        long sum = 0;
+        for (AtomicLong stripe : stripes) {
+            sum += stripe.get();
+        }
+        return sum;
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    private boolean tryAcquireOnce(long quantity) {
+        int home = homeIndex();
+        long acquired = 0;
+
+        for (int i = 0; i < stripes.length && acquired < quantity; i++) {
+            AtomicLong stripe = stripes[(home + i) & mask];
+            acquired += takeUpTo(stripe, quantity - acquired);
+        }
+
+        if (acquired == quantity) {
+            return true;
+        }
+
+        // Not enough stock across all stripes: hand back what was taken.
+        if (acquired > 0) {
+            stripes[home].addAndGet(acquired);
+        }
+        return false;
+    }
+
+    private static long takeUpTo(AtomicLong stripe, long wanted) {
+        while (true) {
+            long current = stripe.get();
+            if (current <= 0) {
+                return 0;
+            }
+
+            long taken = Math.min(current, wanted);
+            if (stripe.compareAndSet(current, current - taken)) {
+                return taken;
+            }
+        }
+    }
+
+    private int homeIndex() {
+        long id = Thread.currentThread().threadId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
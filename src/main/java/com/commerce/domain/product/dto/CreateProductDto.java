@@ -1,5 +1,10 @@
 package com.commerce.domain.product.dto;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,10 +13,18 @@ import lombok.NoArgsConstructor;
 @Getter
 public class CreateProductDto {
     private Long sellerId;
+    @Size(max = 255)
+    @NotBlank
     private String title;
+    @Size(max = 255)
     private String description;
+    @Size(max = 255)
     private String image;
+    @PositiveOrZero
+    @NotNull
     private Integer price;
+    @Positive
+    @NotNull
     private Integer stockQuantity;
 
     @Builder
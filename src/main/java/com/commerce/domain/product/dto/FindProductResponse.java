@@ -0,0 +1,24 @@
+package com.commerce.domain.product.dto;
+
+import lombok.Getter;
+
+@Getter
+public class FindProductResponse {
+    private final Long id;
+    private final Long sellerId;
+    private final String title;
+    private final String description;
+    private final String image;
+    private final Integer price;
+    private final Integer stockQuantity;
+
+    public FindProductResponse(Long id, Long sellerId, String title, String description, String image, Integer price, Integer stockQuantity) {
+        this.id = id;
+        this.sellerId = sellerId;
+        this.title = title;
+        this.description = description;
+        this.image = image;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+    }
+}
@@ -0,0 +1,13 @@
+package com.commerce.domain.product.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class FindProductsResponse {
+    private List<ProductSummaryDto> products;
+    private String nextCursor;
+}
@@ -0,0 +1,14 @@
+package com.commerce.domain.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@Getter
+public class ProductImportError {
+    private long line;
+    private String field;
+    private String message;
+}
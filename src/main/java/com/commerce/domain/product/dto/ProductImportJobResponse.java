@@ -0,0 +1,28 @@
+package com.commerce.domain.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@Getter
+public class ProductImportJobResponse {
+    private String id;
+    private Long sellerId;
+    private Status status;
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private List<ProductImportError> errors;
+    private String message;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
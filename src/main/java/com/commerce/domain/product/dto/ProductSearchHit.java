@@ -0,0 +1,20 @@
+package com.commerce.domain.product.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ProductSearchHit {
+    private final Long id;
+    private final Long sellerId;
+    private final String title;
+    private final Integer price;
+    private final float score;
+
+    public ProductSearchHit(Long id, Long sellerId, String title, Integer price, float score) {
+        this.id = id;
+        this.sellerId = sellerId;
+        this.title = title;
+        this.price = price;
+        this.score = score;
+    }
+}
@@ -0,0 +1,24 @@
+package com.commerce.domain.product.dto;
+
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+public class ProductSummaryDto {
+    private final Long id;
+    private final Long sellerId;
+    private final String title;
+    private final String image;
+    private final Integer price;
+    private final Date createdAt;
+
+    public ProductSummaryDto(Long id, Long sellerId, String title, String image, Integer price, Date createdAt) {
+        this.id = id;
+        this.sellerId = sellerId;
+        this.title = title;
+        this.image = image;
+        this.price = price;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.commerce.domain.product.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class SplitInventoryDto {
+    @Positive
+    @Max(256)
+    @NotNull
+    private Integer bucketCount;
+
+    @Builder
+    public SplitInventoryDto(Integer bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+}
@@ -0,0 +1,12 @@
+package com.commerce.domain.product.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class SuggestProductsResponse {
+    private List<String> suggestions;
+}
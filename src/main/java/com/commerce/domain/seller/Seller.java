@@ -3,19 +3,28 @@ package com.commerce.domain.seller;
 import com.commerce.common.entity.BaseEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.Where;
 
-@Where(clause = "deleted is false")
+import java.util.Date;
+
+@Table(indexes = @Index(name = "idx_seller_deleted_id", columnList = "deleted, id"))
+@Where(clause = "deleted = false")
 @Getter
 @NoArgsConstructor
 @Entity
 public class Seller extends BaseEntity {
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seller_seq")
+    @SequenceGenerator(name = "seller_seq", sequenceName = "seller_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -24,6 +33,11 @@ public class Seller extends BaseEntity {
 
     private Boolean deleted = false;
 
+    private Date deletedAt;
+
+    @Version
+    private Long version;
+
     @Builder
     public Seller(String name, String address) {
         this.name = name;
@@ -40,5 +54,6 @@ public class Seller extends BaseEntity {
 
     public void delete() {
         this.deleted = true;
+        this.deletedAt = new Date();
     }
 }
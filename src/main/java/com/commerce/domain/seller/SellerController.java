@@ -3,12 +3,18 @@ package com.commerce.domain.seller;
 import com.commerce.domain.seller.dto.CreateSellerDto;
 import com.commerce.domain.seller.dto.CreateSellerResponse;
 import com.commerce.domain.seller.dto.FindSellerResponse;
+import com.commerce.domain.seller.dto.FindSellersResponse;
+import com.commerce.domain.seller.dto.SellerDto;
+import com.commerce.domain.seller.dto.SellerLookup;
 import com.commerce.domain.seller.dto.UpdateSellerDto;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.stream.IntStream;
+
 @RequiredArgsConstructor
 @RequestMapping("sellers")
 @RestController
@@ -18,7 +24,7 @@ public class SellerController {
     @ResponseStatus(HttpStatus.OK)
     @GetMapping("{id}")
     FindSellerResponse findSeller(@PathVariable("id") Long sellerId) {
-        Seller seller = sellerService.findSellerById(sellerId);
+        SellerDto seller = sellerService.findSellerById(sellerId);
 
         return FindSellerResponse.builder()
                 .name(seller.getName())
@@ -26,6 +32,18 @@ public class SellerController {
                 .build();
     }
 
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(params = "ids")
+    FindSellersResponse findSellers(@RequestParam("ids") List<Long> sellerIds) {
+        List<SellerDto> sellers = sellerService.findSellersByIds(sellerIds);
+
+        return FindSellersResponse.builder()
+                .sellers(IntStream.range(0, sellerIds.size())
+                        .mapToObj(i -> toLookup(sellerIds.get(i), sellers.get(i)))
+                        .toList())
+                .build();
+    }
+
     @ResponseStatus(HttpStatus.CREATED)
     @PostMapping
     CreateSellerResponse createSeller(@RequestBody @Valid CreateSellerDto createSellerDto) {
@@ -46,4 +64,19 @@ public class SellerController {
     void deleteSeller(@PathVariable("id") Long sellerId) {
         sellerService.deleteSellerById(sellerId);
     }
+
+    private static SellerLookup toLookup(Long id, SellerDto seller) {
+        if (seller == null) {
+            return SellerLookup.builder()
+                    .id(id)
+                    .found(false)
+                    .build();
+        }
+        return SellerLookup.builder()
+                .id(id)
+                .found(true)
+                .name(seller.getName())
+                .address(seller.getAddress())
+                .build();
+    }
 }
@@ -1,20 +1,58 @@
 package com.commerce.domain.seller;
 
+import com.commerce.common.cache.CacheMultiGet;
+import com.commerce.common.coalesce.CoalesceRequests;
+import com.commerce.common.outbox.DomainEvent;
+import com.commerce.common.outbox.DomainEvents;
+import com.commerce.common.retry.RetryOnConflict;
+import com.commerce.config.BatchLookupProperties;
+import com.commerce.config.CacheConfig;
 import com.commerce.domain.seller.dto.CreateSellerDto;
+import com.commerce.domain.seller.dto.SellerDto;
 import com.commerce.domain.seller.dto.UpdateSellerDto;
-import jakarta.persistence.NoResultException;
+import com.commerce.exception.NotFoundException;
+import com.commerce.exception.InvalidIdsException;
+import com.commerce.exception.TooManyIdsException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Transactional
 @RequiredArgsConstructor
 @Service
 public class SellerService {
     private final SellerRepository sellerRepository;
+    private final CacheManager cacheManager;
+    private final BatchLookupProperties batchLookupProperties;
+    private final DomainEvents domainEvents;
+
+    @Cacheable(cacheNames = CacheConfig.SELLERS)
+    @CoalesceRequests("seller")
+    @Transactional(readOnly = true)
+    public SellerDto findSellerById(Long id) {
+        return sellerRepository.findById(id).map(SellerDto::from).orElseThrow(NotFoundException::seller);
+    }
 
-    public Seller findSellerById(Long id) {
-        return sellerRepository.findById(id).orElseThrow(NoResultException::new);
+    /**
+     * One seller per id in request order, null for ids that do not exist. Cached sellers are not
+     * queried; without an outer transaction a fully cached request never borrows a connection.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<SellerDto> findSellersByIds(List<Long> ids) {
+        if (ids.size() > batchLookupProperties.getMaxIds()) {
+            throw new TooManyIdsException(batchLookupProperties.getMaxIds());
+        }
+        if (ids.contains(null)) {
+            throw new InvalidIdsException();
+        }
+        return CacheMultiGet.getAll(cacheManager.getCache(CacheConfig.SELLERS), ids, batchLookupProperties.getChunkSize(),
+                chunk -> sellerRepository.findAllById(chunk).stream().map(SellerDto::from).toList(), SellerDto::getId);
     }
 
     public Long createSeller(CreateSellerDto createSellerDto) {
@@ -26,8 +64,10 @@ public class SellerService {
         return sellerRepository.save(seller).getId();
     }
 
+    @CacheEvict(cacheNames = CacheConfig.SELLERS, key = "#id")
+    @RetryOnConflict(entity = "seller", operation = "update-seller")
     public void updateSeller(Long id, UpdateSellerDto updateSellerDto) {
-        Seller seller = sellerRepository.findById(id).orElseThrow(NoResultException::new);
+        Seller seller = sellerRepository.findById(id).orElseThrow(NotFoundException::seller);
 
         if (updateSellerDto.getName() != null) {
            seller.setName(updateSellerDto.getName());
@@ -40,9 +80,12 @@ public class SellerService {
         sellerRepository.save(seller);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.SELLERS, key = "#id")
+    @RetryOnConflict(entity = "seller", operation = "delete-seller")
     public void deleteSellerById(Long id) {
-        Seller seller = sellerRepository.findById(id).orElseThrow(NoResultException::new);
+        Seller seller = sellerRepository.findById(id).orElseThrow(NotFoundException::seller);
         seller.delete();
+        domainEvents.publish(DomainEvent.SELLER_DELETED, id, null);
     }
 
 }
@@ -0,0 +1,12 @@
+package com.commerce.domain.seller.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class FindSellersResponse {
+    private List<SellerLookup> sellers;
+}
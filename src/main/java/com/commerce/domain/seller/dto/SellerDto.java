@@ -0,0 +1,24 @@
+package com.commerce.domain.seller.dto;
+
+import com.commerce.domain.seller.Seller;
+import lombok.Getter;
+
+/**
+ * What the seller cache holds: a detached copy, safe to share between requests.
+ */
+@Getter
+public class SellerDto {
+    private final Long id;
+    private final String name;
+    private final String address;
+
+    public SellerDto(Long id, String name, String address) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+    }
+
+    public static SellerDto from(Seller seller) {
+        return new SellerDto(seller.getId(), seller.getName(), seller.getAddress());
+    }
+}
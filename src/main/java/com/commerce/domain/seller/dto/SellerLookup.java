@@ -0,0 +1,15 @@
+package com.commerce.domain.seller.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Builder
+@Getter
+public class SellerLookup {
+    private Long id;
+    private boolean found;
+    private String name;
+    private String address;
+}
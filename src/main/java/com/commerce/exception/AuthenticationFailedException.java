@@ -0,0 +1,7 @@
+package com.commerce.exception;
+
+public class AuthenticationFailedException extends RuntimeException {
+    public AuthenticationFailedException() {
+        super("Authentication Failed");
+    }
+}
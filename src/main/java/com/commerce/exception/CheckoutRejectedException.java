@@ -0,0 +1,7 @@
+package com.commerce.exception;
+
+public class CheckoutRejectedException extends RuntimeException {
+    public CheckoutRejectedException() {
+        super("Checkout queue of the product is full");
+    }
+}
@@ -0,0 +1,13 @@
+package com.commerce.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InsufficientStockException extends RuntimeException {
+    private final Long productId;
+
+    public InsufficientStockException(Long productId) {
+        super("stock of product " + productId + " is insufficient");
+        this.productId = productId;
+    }
+}
@@ -0,0 +1,7 @@
+package com.commerce.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("Invalid Cursor");
+    }
+}
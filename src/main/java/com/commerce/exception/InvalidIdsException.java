@@ -0,0 +1,7 @@
+package com.commerce.exception;
+
+public class InvalidIdsException extends RuntimeException {
+    public InvalidIdsException() {
+        super("Empty id in ids");
+    }
+}
@@ -0,0 +1,43 @@
+package com.commerce.exception;
+
+import jakarta.persistence.NoResultException;
+
+/**
+ * A {@link NoResultException} that carries no stack trace. A miss is answered with a bare 404 and
+ * never logged, so the trace would only cost a stack walk on every probe for a missing id. Each
+ * miss still gets its own instance, so suppressed exceptions and causes never leak between requests.
+ */
+public class NotFoundException extends NoResultException {
+    private NotFoundException(String message) {
+        super(message);
+    }
+
+    public static NotFoundException account() {
+        return new NotFoundException("account not found");
+    }
+
+    public static NotFoundException seller() {
+        return new NotFoundException("seller not found");
+    }
+
+    public static NotFoundException customer() {
+        return new NotFoundException("customer not found");
+    }
+
+    public static NotFoundException product() {
+        return new NotFoundException("product not found");
+    }
+
+    public static NotFoundException order() {
+        return new NotFoundException("order not found");
+    }
+
+    public static NotFoundException importJob() {
+        return new NotFoundException("product import job not found");
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
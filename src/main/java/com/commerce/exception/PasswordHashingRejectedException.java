@@ -0,0 +1,7 @@
+package com.commerce.exception;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException() {
+        super("Password hashing queue is full");
+    }
+}
@@ -0,0 +1,7 @@
+package com.commerce.exception;
+
+public class ProductImportRejectedException extends RuntimeException {
+    public ProductImportRejectedException() {
+        super("Product import queue is full");
+    }
+}
@@ -0,0 +1,7 @@
+package com.commerce.exception;
+
+public class RequestCoalescingTimeoutException extends RuntimeException {
+    public RequestCoalescingTimeoutException() {
+        super("Timed out waiting for a concurrent identical request");
+    }
+}
@@ -0,0 +1,13 @@
+package com.commerce.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyIdsException extends RuntimeException {
+    private final int maxIds;
+
+    public TooManyIdsException(int maxIds) {
+        super("More than " + maxIds + " ids");
+        this.maxIds = maxIds;
+    }
+}
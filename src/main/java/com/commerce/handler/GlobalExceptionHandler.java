@@ -1,10 +1,25 @@
 package com.commerce.handler;
 
 import com.commerce.common.response.CustomErrorResponse;
+import com.commerce.common.response.ErrorResponseWriter;
+import com.commerce.exception.AuthenticationFailedException;
+import com.commerce.exception.CheckoutRejectedException;
+import com.commerce.exception.InsufficientStockException;
+import com.commerce.exception.InvalidCursorException;
+import com.commerce.exception.InvalidIdsException;
+import com.commerce.exception.PasswordHashingRejectedException;
+import com.commerce.exception.ProductImportRejectedException;
+import com.commerce.exception.RequestCoalescingTimeoutException;
+import com.commerce.exception.TooManyIdsException;
 import com.commerce.exception.UniqueConstraintViolationException;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -14,25 +29,131 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.io.IOException;
+import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Slf4j
+@RequiredArgsConstructor
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    private static final Pattern ACCOUNT_UNIQUE_CONSTRAINT = Pattern.compile("uk_account_(username|email|phone_number)");
 
-    @ResponseStatus(HttpStatus.NOT_FOUND)
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @ExceptionHandler
+    void handleNoResultException(NoResultException e, HttpServletResponse response) throws IOException {
+        errorResponseWriter.writeNotFound(response);
+    }
+
+    @ExceptionHandler
+    void handleUniqueConstraintViolationException(UniqueConstraintViolationException e, HttpServletResponse response) throws IOException {
+        errorResponseWriter.writeDuplicated(response, e.getField());
+    }
+
+    /**
+     * A unique constraint the service-level duplicate check did not see, e.g. a value written by a
+     * concurrent request. Other integrity violations are left to surface as server errors.
+     */
     @ExceptionHandler
-    void handleNoResultException(NoResultException e) {
+    void handleDataIntegrityViolationException(DataIntegrityViolationException e, HttpServletResponse response) throws IOException {
+        if (!isUniqueViolation(e)) {
+            throw e;
+        }
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        Matcher constraint = ACCOUNT_UNIQUE_CONSTRAINT.matcher(message);
+        if (!constraint.find()) {
+            errorResponseWriter.write(response, HttpStatus.CONFLICT, CustomErrorResponse.builder()
+                    .message("duplicated")
+                    .code("1")
+                    .build());
+            return;
+        }
+        String column = constraint.group(1);
+        errorResponseWriter.writeDuplicated(response, column.equals("phone_number") ? "phoneNumber" : column);
+    }
+
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                // 23505 is the standard state H2 and PostgreSQL use; MySQL reports error 1062 under 23000.
+                return "23505".equals(sqlException.getSQLState()) || sqlException.getErrorCode() == 1062;
+            }
+        }
+        return false;
     }
 
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler
-    CustomErrorResponse handleNoResultException(UniqueConstraintViolationException e) {
-        String field = e.getField();
+    CustomErrorResponse handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
         return CustomErrorResponse.builder()
-                .field(field)
-                .message( field + " duplicated")
-                .code("1")
+                .message("concurrently modified, try again")
+                .code("3")
+                .build();
+    }
+
+    @ResponseStatus(HttpStatus.CONFLICT)
+    @ExceptionHandler
+    CustomErrorResponse handleInsufficientStockException(InsufficientStockException e) {
+        return CustomErrorResponse.builder()
+                .message("stock of product " + e.getProductId() + " is insufficient")
+                .field("lines")
+                .code("8")
+                .build();
+    }
+
+    @ExceptionHandler({PasswordHashingRejectedException.class, ProductImportRejectedException.class, RequestCoalescingTimeoutException.class,
+            CheckoutRejectedException.class})
+    ResponseEntity<CustomErrorResponse> handleRejectedException(RuntimeException e) {
+        CustomErrorResponse errorResponse = CustomErrorResponse.builder()
+                .message("too many requests, try again")
+                .code("4")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    @ExceptionHandler
+    CustomErrorResponse handleAuthenticationFailedException(AuthenticationFailedException e) {
+        return CustomErrorResponse.builder()
+                .message("username or password mismatched")
+                .code("5")
+                .build();
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler
+    CustomErrorResponse handleInvalidCursorException(InvalidCursorException e) {
+        return CustomErrorResponse.builder()
+                .message("`cursor` is invalid")
+                .field("cursor")
+                .code("2")
+                .build();
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler
+    CustomErrorResponse handleTooManyIdsException(TooManyIdsException e) {
+        return CustomErrorResponse.builder()
+                .message("`ids` must not contain more than " + e.getMaxIds() + " ids")
+                .field("ids")
+                .code("2")
+                .build();
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler
+    CustomErrorResponse handleInvalidIdsException(InvalidIdsException e) {
+        return CustomErrorResponse.builder()
+                .message("`ids` must not contain empty ids")
+                .field("ids")
+                .code("2")
                 .build();
     }
 
@@ -0,0 +1,14 @@
+-- Duplicate-key errors on account are mapped to the field that collided by constraint name
+-- (uk_account_username, uk_account_email, uk_account_phone_number). The baseline schema created
+-- these unique indexes from @Column(unique = true) with generated UK_... names, so they are renamed.
+-- Production runs with ddl-auto: none, so this has to run before the new version starts.
+--
+-- Look up the generated names with
+--     select index_name, column_name from information_schema.statistics
+--     where table_schema = database() and table_name = 'account' and non_unique = 0 and index_name <> 'PRIMARY';
+-- and substitute them below. Renaming an index is a metadata-only change on MySQL 8.
+
+alter table account
+    rename index `<generated username index>` to uk_account_username,
+    rename index `<generated email index>` to uk_account_email,
+    rename index `<generated phone_number index>` to uk_account_phone_number;
@@ -0,0 +1,10 @@
+-- Optimistic locking: account, customer, seller and product carry a @Version column. Production runs
+-- with ddl-auto: none, so the columns have to exist before the new version starts. Existing rows
+-- start at version 0; Hibernate cannot update a row whose version is null.
+--
+-- Run once before deploying. Adding a column with a default is an in-place change on MySQL 8.
+
+alter table account add column version bigint not null default 0;
+alter table customer add column version bigint not null default 0;
+alter table seller add column version bigint not null default 0;
+alter table product add column version bigint not null default 0;
@@ -0,0 +1,15 @@
+-- Table behind the jdbc idempotency store (commerce.idempotency.store: jdbc), which shares
+-- Idempotency-Key claims and stored responses between nodes. Production runs with ddl-auto: none,
+-- so the table has to exist before a node starts with the jdbc store. The memory store does not use it.
+
+create table idempotency_record (
+    idempotency_key varchar(512) not null,
+    fingerprint varchar(64),
+    status integer,
+    content_type varchar(255),
+    body longblob,
+    created_at bigint,
+    expires_at bigint,
+    primary key (idempotency_key),
+    index idx_idempotency_record_expires_at (expires_at)
+) engine=InnoDB;
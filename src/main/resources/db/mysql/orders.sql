@@ -0,0 +1,36 @@
+-- Orders and their lines, with the one-row tables Hibernate's pooled generator reads their ids from
+-- (allocationSize = 50). Production runs with ddl-auto: none, so these have to exist before the new
+-- version starts. status is a plain varchar so new OrderStatus values need no schema change.
+--
+-- The foreign key of order_line.product_id is why OrderService decrements stock before inserting
+-- the lines: its check takes a shared lock on the product row.
+
+create table orders (
+    id bigint not null,
+    customer_id bigint not null,
+    status varchar(32),
+    total_price bigint,
+    created_at datetime(6),
+    updated_at datetime(6),
+    primary key (id),
+    index idx_orders_customer_id (customer_id),
+    constraint fk_orders_customer foreign key (customer_id) references customer (id)
+) engine=InnoDB;
+
+create table order_line (
+    id bigint not null,
+    order_id bigint not null,
+    product_id bigint not null,
+    quantity integer,
+    price integer,
+    primary key (id),
+    index idx_order_line_order_id (order_id),
+    index idx_order_line_product_id (product_id),
+    constraint fk_order_line_order foreign key (order_id) references orders (id),
+    constraint fk_order_line_product foreign key (product_id) references product (id)
+) engine=InnoDB;
+
+create table orders_seq (next_val bigint);
+insert into orders_seq values (1);
+create table order_line_seq (next_val bigint);
+insert into order_line_seq values (1);
@@ -0,0 +1,16 @@
+-- Transactional outbox: events are inserted in the writing transaction and relayed in id order by
+-- OutboxRelay. Production runs with ddl-auto: none, so the table and the one-row table Hibernate's
+-- pooled generator reads ids from (allocationSize = 50) have to exist before the new version starts.
+
+create table outbox_event (
+    id bigint not null,
+    type varchar(100) not null,
+    aggregate_id bigint,
+    payload varchar(4000),
+    created_at bigint not null,
+    attempts integer not null default 0,
+    primary key (id)
+) engine=InnoDB;
+
+create table outbox_event_seq (next_val bigint);
+insert into outbox_event_seq values (1);
@@ -0,0 +1,14 @@
+-- Moves account ids from AUTO_INCREMENT (GenerationType.IDENTITY) to Hibernate's pooled sequence
+-- generator (allocationSize = 50). MySQL has no sequences, so Hibernate reads the generator from a
+-- one-row table named after the sequence. Production runs with ddl-auto: none, so the table has to
+-- exist before the new version starts. Customer, seller and product were already mapped with
+-- @GeneratedValue (AUTO), which uses the same customer_seq / seller_seq / product_seq tables, and
+-- need no change.
+--
+-- Run once, with account writes stopped, before deploying. The generator starts one allocation
+-- block above the current maximum id, so the first ids handed out cannot collide with rows inserted
+-- through AUTO_INCREMENT. The AUTO_INCREMENT attribute itself can stay; Hibernate now always
+-- supplies the id.
+
+create table account_seq (next_val bigint);
+insert into account_seq select coalesce(max(id), 0) + 51 from account;
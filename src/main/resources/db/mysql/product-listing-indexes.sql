@@ -0,0 +1,8 @@
+-- Keyset-paginated product listings read product in (created_at, id) order, overall and per seller.
+-- Production runs with ddl-auto: none, so the indexes are created here. The per-seller index also
+-- serves the foreign key on seller_id, so MySQL drops its own index for it once this one exists.
+--
+-- Run once before deploying; both are online index builds on MySQL 8.
+
+create index idx_product_created_at_id on product (created_at, id);
+create index idx_product_seller_created_at_id on product (seller_id, created_at, id);
@@ -0,0 +1,21 @@
+-- Soft-delete archival: deleted rows record when they were deleted, are found through (deleted, id)
+-- indexes, and are moved to archived_row by SoftDeleteArchiver. Production runs with ddl-auto: none,
+-- so these have to exist before the new version starts. Rows already deleted get deleted_at filled in
+-- by the archiver on its first runs and are archived once the retention has passed.
+--
+-- Run once before deploying. The columns are in-place changes and the indexes online builds on MySQL 8.
+
+alter table account add column deleted_at datetime(6), add index idx_account_deleted_id (deleted, id);
+alter table customer add column deleted_at datetime(6), add index idx_customer_deleted_id (deleted, id);
+alter table seller add column deleted_at datetime(6), add index idx_seller_deleted_id (deleted, id);
+alter table product add column deleted_at datetime(6), add index idx_product_deleted_id (deleted, id);
+
+create table archived_row (
+    table_name varchar(64) not null,
+    row_id bigint not null,
+    payload longtext,
+    deleted_at datetime(6),
+    archived_at datetime(6),
+    primary key (table_name, row_id),
+    index idx_archived_row_archived_at (archived_at)
+) engine=InnoDB;
@@ -0,0 +1,20 @@
+-- Split inventory: a product can keep its stock in product_stock_bucket rows instead of
+-- product.stock_quantity. Production runs with ddl-auto: none, so the column and table have to exist
+-- before the new version starts. Existing products keep their single stock row (split_inventory = 0).
+--
+-- Run once before deploying. Adding a column with a default is an in-place change on MySQL 8.
+
+alter table product add column split_inventory bit not null default b'0';
+
+create table product_stock_bucket (
+    id bigint not null,
+    product_id bigint not null,
+    bucket_index integer,
+    quantity integer,
+    primary key (id),
+    constraint uk_product_stock_bucket_product_id_bucket_index unique (product_id, bucket_index),
+    constraint fk_product_stock_bucket_product foreign key (product_id) references product (id)
+) engine=InnoDB;
+
+create table product_stock_bucket_seq (next_val bigint);
+insert into product_stock_bucket_seq values (1);
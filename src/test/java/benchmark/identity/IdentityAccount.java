@@ -0,0 +1,37 @@
+package benchmark.identity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Account as it was mapped with IDENTITY ids, kept only as the baseline of
+ * {@code AccountInsertBenchmarkTest}. It lives outside {@code com.commerce} so the regular entity
+ * scan never maps it; only {@link IdentityAccountConfiguration} does.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+public class IdentityAccount {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String username;
+
+    private String email;
+
+    private String phoneNumber;
+
+    private String password;
+
+    public IdentityAccount(String username, String email, String phoneNumber, String password) {
+        this.username = username;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.password = password;
+    }
+}
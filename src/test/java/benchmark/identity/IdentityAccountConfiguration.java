@@ -0,0 +1,13 @@
+package benchmark.identity;
+
+import com.commerce.CommerceApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.TestConfiguration;
+
+/**
+ * Adds {@link IdentityAccount} to the application's entities for the tests that import it.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+@EntityScan(basePackageClasses = {CommerceApplication.class, IdentityAccount.class})
+public class IdentityAccountConfiguration {
+}
@@ -0,0 +1,139 @@
+package com.commerce.common.archive;
+
+import com.commerce.domain.account.AccountRepository;
+import com.commerce.domain.account.AccountService;
+import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import com.commerce.domain.seller.Seller;
+import com.commerce.domain.seller.SellerRepository;
+import jakarta.persistence.EntityManager;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Transactional
+@SpringBootTest(properties = "commerce.archival.pause-between-chunks=PT0S")
+class SoftDeleteArchiverTest {
+    @Autowired private SoftDeleteArchiver softDeleteArchiver;
+    @Autowired private AccountService accountService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private SellerRepository sellerRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("보존 기간이 지난 삭제 계정을 보관 테이블로 옮기고 고유값을 다시 쓸 수 있게 한다.")
+    @Test
+    void archiveAccount() {
+        // given
+        CreateAccountDto createAccountDto = createAccountDto();
+        Long archivedId = accountService.createAccount(createAccountDto);
+        accountService.deleteAccountById(archivedId);
+        Long recentlyDeletedId = accountService.createAccount(createAccountDto());
+        accountService.deleteAccountById(recentlyDeletedId);
+        Long liveId = accountService.createAccount(createAccountDto());
+        entityManager.flush();
+        deletedLongAgo("account", archivedId);
+
+        // when
+        Map<String, Long> archived = softDeleteArchiver.archive();
+
+        // then
+        assertThat(archived).containsEntry("account", 1L);
+        assertThat(rowExists("account", archivedId)).isFalse();
+        assertThat(rowExists("account", recentlyDeletedId)).isTrue();
+        assertThat(rowExists("account", liveId)).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "select payload from archived_row where table_name = 'account' and row_id = ?", String.class, archivedId))
+                .containsIgnoringCase(createAccountDto.getUsername());
+
+        entityManager.clear();
+        Long reusedId = accountService.createAccount(createAccountDto);
+        assertThat(accountRepository.findById(reusedId)).isPresent();
+    }
+
+    @DisplayName("상품이 남아 있는 판매자는 옮기지 않고, 상품이 먼저 옮겨지면 함께 옮긴다.")
+    @Test
+    void archiveSellerAfterItsProducts() {
+        // given
+        Seller seller = sellerRepository.save(Seller.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .seller(seller)
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(1000)
+                .stockQuantity(10)
+                .build());
+        seller.delete();
+        entityManager.flush();
+        deletedLongAgo("seller", seller.getId());
+
+        // when
+        softDeleteArchiver.archive();
+
+        // then
+        assertThat(rowExists("seller", seller.getId())).isTrue();
+
+        // when
+        product.delete();
+        entityManager.flush();
+        deletedLongAgo("product", product.getId());
+        softDeleteArchiver.archive();
+
+        // then
+        assertThat(rowExists("product", product.getId())).isFalse();
+        assertThat(rowExists("seller", seller.getId())).isFalse();
+    }
+
+    @DisplayName("삭제 시각이 없는 삭제 행은 지금 시각을 기록하고 보존 기간 뒤에 옮긴다.")
+    @Test
+    void stampDeletedAt() {
+        // given
+        Long accountId = accountService.createAccount(createAccountDto());
+        entityManager.flush();
+        jdbcTemplate.update("update account set deleted = true, deleted_at = null where id = ?", accountId);
+
+        // when
+        softDeleteArchiver.archive();
+
+        // then
+        assertThat(rowExists("account", accountId)).isTrue();
+        assertThat(jdbcTemplate.queryForObject("select deleted_at from account where id = ?", Timestamp.class, accountId))
+                .isNotNull();
+    }
+
+    private void deletedLongAgo(String table, Long id) {
+        Timestamp longAgo = new Timestamp(System.currentTimeMillis() - Duration.ofDays(365).toMillis());
+        jdbcTemplate.update("update " + table + " set deleted_at = ? where id = ?", longAgo, id);
+    }
+
+    private boolean rowExists(String table, Long id) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table + " where id = ?", Long.class, id) == 1;
+    }
+
+    private CreateAccountDto createAccountDto() {
+        return CreateAccountDto.builder()
+                .username(faker.name().username())
+                .email(faker.internet().emailAddress())
+                .phoneNumber(faker.phoneNumber().cellPhone())
+                .password(faker.internet().password())
+                .build();
+    }
+}
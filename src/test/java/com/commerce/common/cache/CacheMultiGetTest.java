@@ -0,0 +1,36 @@
+package com.commerce.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheMultiGetTest {
+
+    @DisplayName("캐시에 없는 키만 나누어 조회하고 요청 순서대로 반환한다.")
+    @Test
+    void getAll() {
+        // given
+        ConcurrentMapCache cache = new ConcurrentMapCache("values");
+        cache.put(2L, "two");
+        List<List<Long>> queries = new ArrayList<>();
+
+        // when
+        List<String> values = CacheMultiGet.getAll(cache, List.of(5L, 2L, 1L, 4L, 5L, 3L), 2,
+                ids -> {
+                    queries.add(List.copyOf(ids));
+                    return ids.stream().filter(id -> id != 4L).map(id -> "value-" + id).toList();
+                },
+                value -> Long.valueOf(value.substring("value-".length())));
+
+        // then
+        assertThat(values).containsExactly("value-5", "two", "value-1", null, "value-5", "value-3");
+        assertThat(queries).containsExactly(List.of(5L, 1L), List.of(4L, 3L));
+        assertThat(cache.get(3L).get()).isEqualTo("value-3");
+        assertThat(cache.get(4L)).isNull();
+    }
+}
@@ -0,0 +1,28 @@
+package com.commerce.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EagerEvictingCacheDecoratorTest {
+
+    @DisplayName("조회하는 사이 무효화된 키에는 조회한 값을 다시 넣지 않는다.")
+    @Test
+    void dropStalePut() {
+        // given
+        EagerEvictingCacheDecorator cache = new EagerEvictingCacheDecorator(new ConcurrentMapCache("values"));
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+
+        // when
+        cache.evict(1L);
+        cache.put(1L, "stale");
+        cache.put(2L, "fresh");
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L).get()).isEqualTo("fresh");
+    }
+}
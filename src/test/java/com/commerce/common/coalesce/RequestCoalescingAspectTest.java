@@ -0,0 +1,44 @@
+package com.commerce.common.coalesce;
+
+import com.commerce.domain.seller.Seller;
+import com.commerce.domain.seller.SellerRepository;
+import com.commerce.domain.seller.SellerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RequestCoalescingAspectTest {
+    @Autowired private SellerService sellerService;
+    @Autowired private SellerRepository sellerRepository;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("캐시에 있는 조회는 요청 병합을 거치지 않는다.")
+    @Test
+    void cacheHitSkipsCoalescing() {
+        // given
+        Seller seller = sellerRepository.save(Seller.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+        double leaders = leaders();
+
+        // when
+        sellerService.findSellerById(seller.getId());
+        sellerService.findSellerById(seller.getId());
+
+        // then
+        assertThat(leaders()).isEqualTo(leaders + 1);
+    }
+
+    private double leaders() {
+        return meterRegistry.counter("commerce.coalescing.requests", "name", "seller", "role", "leader").count();
+    }
+}
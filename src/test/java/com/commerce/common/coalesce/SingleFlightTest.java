@@ -0,0 +1,130 @@
+package com.commerce.common.coalesce;
+
+import com.commerce.exception.RequestCoalescingTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.NoResultException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlightTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(10);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("같은 키의 동시 요청은 한 번만 조회하고 결과를 나눠 받는다.")
+    @Test
+    void collapseConcurrentLoads() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlight.Loader<String> loader = () -> {
+            loads.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return "product";
+        };
+
+        // when
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        results.add(CompletableFuture.supplyAsync(() -> execute(singleFlight, 1L, loader), executor));
+        waitForCollapsed(0);
+        for (int i = 0; i < 9; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> execute(singleFlight, 1L, loader), executor));
+        }
+        waitForCollapsed(9);
+        release.countDown();
+
+        // then
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("product");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("collapsed")).isEqualTo(9);
+    }
+
+    @DisplayName("조회가 실패하면 기다리던 요청도 같은 예외를 받고, 다음 요청은 다시 조회한다.")
+    @Test
+    void shareFailure() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight.Loader<String> loader = () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new NoResultException();
+        };
+
+        // when
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> execute(singleFlight, 1L, loader), executor);
+        waitForCollapsed(0);
+        CompletableFuture<String> waiter = CompletableFuture.supplyAsync(() -> execute(singleFlight, 1L, loader), executor);
+        waitForCollapsed(1);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasRootCauseInstanceOf(NoResultException.class);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasRootCauseInstanceOf(NoResultException.class);
+        assertThat(singleFlight.execute(1L, () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @DisplayName("기다리는 시간이 제한 시간을 넘으면 예외가 발생한다.")
+    @Test
+    void timeout() throws Exception {
+        // given
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> execute(singleFlight, 1L, () -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "slow";
+        }), executor);
+        waitForCollapsed(0);
+
+        // when
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> "unused"))
+                // then
+                .isInstanceOf(RequestCoalescingTimeoutException.class);
+        assertThat(meterRegistry.get("commerce.coalescing.timeouts").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    private void waitForCollapsed(int collapsed) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((count("leader") < 1 || count("collapsed") < collapsed) && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private double count(String role) {
+        return meterRegistry.get("commerce.coalescing.requests").tag("role", role).counter().count();
+    }
+
+    private static <T> T execute(SingleFlight<Long, T> singleFlight, Long key, SingleFlight.Loader<T> loader) {
+        try {
+            return singleFlight.execute(key, loader);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
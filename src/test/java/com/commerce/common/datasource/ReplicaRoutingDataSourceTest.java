@@ -0,0 +1,159 @@
+package com.commerce.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+    private final ReplicaRoutingProperties properties = new ReplicaRoutingProperties();
+    private final DataSource primary = node("primary");
+    private final DataSource replica1 = node("replica-1");
+    private final DataSource replica2 = node("replica-2");
+
+    private ReplicaPool replicaPool;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        properties.setLagQuery("SELECT seconds FROM replica_lag");
+        properties.setMaxLag(Duration.ofSeconds(1));
+        replicaPool = new ReplicaPool(List.of(
+                new ReplicaPool.Replica("replica-1", replica1),
+                new ReplicaPool.Replica("replica-2", replica2)), properties, new SimpleMeterRegistry());
+        DataSource dataSource = ReplicaRoutingDataSource.lazy(primary, replicaPool, new SimpleMeterRegistry());
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본에 번갈아 보낸다.")
+    @Test
+    void readOnlyRoundRobin() {
+        // given
+        replicaPool.checkHealth();
+
+        // when
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(readOnly.execute(status -> currentNode()));
+        }
+
+        // then
+        assertThat(nodes).containsExactly("replica-1", "replica-2", "replica-1", "replica-2");
+    }
+
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 조회는 프라이머리로 보낸다.")
+    @Test
+    void writesGoToPrimary() {
+        // given
+        replicaPool.checkHealth();
+
+        // when
+        String inTransaction = readWrite.execute(status -> currentNode());
+        String withoutTransaction = currentNode();
+
+        // then
+        assertThat(inTransaction).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @DisplayName("지연이 임계치를 넘은 복제본은 제외하고, 모두 넘으면 프라이머리로 보낸다.")
+    @Test
+    void laggingReplicasFallBackToPrimary() {
+        // given
+        new JdbcTemplate(replica1).update("UPDATE replica_lag SET seconds = 10");
+        replicaPool.checkHealth();
+        String healthyReplica = readOnly.execute(status -> currentNode());
+
+        new JdbcTemplate(replica2).update("UPDATE replica_lag SET seconds = NULL");
+        replicaPool.checkHealth();
+
+        // when
+        String noHealthyReplica = readOnly.execute(status -> currentNode());
+
+        // then
+        assertThat(healthyReplica).isEqualTo("replica-2");
+        assertThat(noHealthyReplica).isEqualTo("primary");
+    }
+
+    @DisplayName("가장 적게 사용 중인 복제본을 고른다.")
+    @Test
+    void leastLoaded() {
+        // given
+        properties.setSelection(ReplicaRoutingProperties.Selection.LEAST_LOADED);
+        replicaPool.checkHealth();
+
+        // when
+        String node = readOnly.execute(status -> currentNode());
+
+        // then
+        assertThat(node).isEqualTo("replica-1");
+    }
+
+    @DisplayName("최근에 쓴 클라이언트의 읽기는 쿠키가 남아 있는 동안 프라이머리로 보낸다.")
+    @Test
+    void readYourWrites() throws Exception {
+        // given
+        replicaPool.checkHealth();
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(properties);
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        AtomicBoolean pinnedDuringWrite = new AtomicBoolean();
+        filter.doFilter(new MockHttpServletRequest("POST", "/accounts"), writeResponse,
+                (request, response) -> pinnedDuringWrite.set(ReadYourWrites.isPinned()));
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+
+        MockHttpServletRequest recentReader = new MockHttpServletRequest("GET", "/accounts/1");
+        recentReader.setCookies(cookie);
+        List<String> nodes = new ArrayList<>();
+
+        // when
+        filter.doFilter(recentReader, new MockHttpServletResponse(),
+                (request, response) -> nodes.add(readOnly.execute(status -> currentNode())));
+        filter.doFilter(new MockHttpServletRequest("GET", "/accounts/1"), new MockHttpServletResponse(),
+                (request, response) -> nodes.add(readOnly.execute(status -> currentNode())));
+
+        // then
+        assertThat(pinnedDuringWrite).isTrue();
+        assertThat(cookie.getMaxAge()).isEqualTo((int) properties.getReadYourWritesWindow().toSeconds());
+        assertThat(nodes.get(0)).isEqualTo("primary");
+        assertThat(nodes.get(1)).startsWith("replica-");
+        assertThat(ReadYourWrites.isPinned()).isFalse();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1;MODE=MySQL", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(32))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE replica_lag (seconds BIGINT)");
+        jdbcTemplate.update("INSERT INTO replica_lag VALUES (0)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,61 @@
+package com.commerce.common.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다.")
+    @Test
+    void noFalseNegatives() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("value-" + i);
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain("value-" + i)).isTrue();
+        }
+    }
+
+    @DisplayName("오탐률은 설정한 값 근처로 유지된다.")
+    @Test
+    void falsePositiveProbability() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("value-" + i);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.03);
+        assertThat(bloomFilter.expectedFalsePositiveProbability()).isCloseTo(0.01, within(0.005));
+    }
+
+    @DisplayName("null 값은 포함되지 않은 것으로 판단한다.")
+    @Test
+    void nullValue() {
+        // given
+        BloomFilter bloomFilter = BloomFilter.create(100, 0.01);
+
+        // when
+        bloomFilter.put(null);
+
+        // then
+        assertThat(bloomFilter.mightContain(null)).isFalse();
+    }
+}
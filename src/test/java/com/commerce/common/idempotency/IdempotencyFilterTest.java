@@ -0,0 +1,173 @@
+package com.commerce.common.idempotency;
+
+import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.domain.customer.CustomerRepository;
+import com.commerce.domain.customer.dto.CreateCustomerDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Transactional
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class IdempotencyFilterTest {
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired CustomerRepository customerRepository;
+    Faker faker = new Faker();
+
+    @DisplayName("같은 키로 다시 보낸 요청은 실행하지 않고 처음 응답을 돌려준다.")
+    @Test
+    void replay() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        String content = objectMapper.writeValueAsString(createCustomerDto());
+        long customers = customerRepository.count();
+
+        String first = mvc.perform(post("/customers")
+                        .header(IdempotencyFilter.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        // when
+        String second = mvc.perform(post("/customers")
+                        .header(IdempotencyFilter.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                // then
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(customerRepository.count()).isEqualTo(customers + 1);
+    }
+
+    @DisplayName("같은 키를 다른 요청에 쓰면 422를 반환한다.")
+    @Test
+    void mismatchedRequest() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        mvc.perform(post("/customers")
+                        .header(IdempotencyFilter.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCustomerDto())))
+                .andExpect(status().isCreated());
+
+        // when
+        mvc.perform(post("/customers")
+                        .header(IdempotencyFilter.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCustomerDto())))
+                // then
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("code", is("9")))
+                .andExpect(jsonPath("field", is(IdempotencyFilter.HEADER)));
+    }
+
+    @DisplayName("검증에 실패한 응답도 저장해 같은 키로 다시 보내면 그대로 돌려준다.")
+    @Test
+    void replayClientError() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        String content = objectMapper.writeValueAsString(CreateCustomerDto.builder()
+                .name("")
+                .address(faker.address().fullAddress())
+                .build());
+        mvc.perform(post("/customers")
+                        .header(IdempotencyFilter.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                .andExpect(status().isBadRequest());
+
+        // when
+        mvc.perform(post("/customers")
+                        .header(IdempotencyFilter.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(content))
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+    }
+
+    @DisplayName("빈 키는 400을 반환한다.")
+    @Test
+    void blankKey() throws Exception {
+        // when
+        mvc.perform(post("/customers")
+                        .header(IdempotencyFilter.HEADER, " ")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createCustomerDto())))
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("field", is(IdempotencyFilter.HEADER)));
+    }
+
+    @DisplayName("지문을 만들 수 없을 만큼 큰 본문에 키를 붙이면 413을 반환한다.")
+    @Test
+    void tooLargeBody() throws Exception {
+        // when
+        mvc.perform(post("/customers")
+                        .header(IdempotencyFilter.HEADER, UUID.randomUUID().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + "a".repeat(64 * 1024) + "\"}"))
+                // then
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("field", is(IdempotencyFilter.HEADER)))
+                .andExpect(jsonPath("code", is("2")));
+    }
+
+    @DisplayName("스트리밍 응답은 저장하지 않아 같은 키로 다시 보내면 다시 실행한다.")
+    @Test
+    void streamingNotStored() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        String content = objectMapper.writeValueAsString(CreateAccountDto.builder()
+                .email(faker.internet().emailAddress())
+                .phoneNumber(faker.phoneNumber().cellPhone())
+                .username(faker.name().username() + "-idempotency")
+                .password(faker.internet().password())
+                .build()) + "\n";
+        mvc.perform(post("/accounts/bulk")
+                        .header(IdempotencyFilter.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(content))
+                .andExpect(status().isOk());
+
+        // when
+        mvc.perform(post("/accounts/bulk")
+                        .header(IdempotencyFilter.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(content))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    private CreateCustomerDto createCustomerDto() {
+        return CreateCustomerDto.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build();
+    }
+}
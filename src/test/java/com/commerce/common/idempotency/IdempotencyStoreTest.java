@@ -0,0 +1,137 @@
+package com.commerce.common.idempotency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+class IdempotencyStoreTest {
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("먼저 선점한 요청이 응답을 저장하면 기다리던 요청이 같은 응답을 받는다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"memory", "jdbc"})
+    void awaitCompletedResponse(String type) throws Exception {
+        // given
+        IdempotencyStore store = store(type, Duration.ofMinutes(1));
+        String key = UUID.randomUUID().toString();
+        assertThat(store.claim(key, "fingerprint")).isNull();
+
+        IdempotencyStore.Earlier earlier = store.claim(key, "fingerprint");
+        CompletableFuture<IdempotentResponse> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return earlier.await(Duration.ofSeconds(5));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        store.complete(key, new IdempotentResponse(201, "application/json", "{\"id\":1}".getBytes()));
+
+        // then
+        IdempotentResponse response = waiting.get(5, TimeUnit.SECONDS);
+        assertThat(earlier.fingerprint()).isEqualTo("fingerprint");
+        assertThat(response.status()).isEqualTo(201);
+        assertThat(response.contentType()).isEqualTo("application/json");
+        assertThat(response.body()).isEqualTo("{\"id\":1}".getBytes());
+    }
+
+    @DisplayName("선점한 요청이 실패해 키를 놓으면 기다리던 요청이 다시 선점할 수 있다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"memory", "jdbc"})
+    void release(String type) throws Exception {
+        // given
+        IdempotencyStore store = store(type, Duration.ofMinutes(1));
+        String key = UUID.randomUUID().toString();
+        store.claim(key, "fingerprint");
+        IdempotencyStore.Earlier earlier = store.claim(key, "fingerprint");
+
+        // when
+        store.release(key);
+
+        // then
+        assertThat(earlier.await(Duration.ofSeconds(5))).isNull();
+        assertThat(store.claim(key, "fingerprint")).isNull();
+    }
+
+    @DisplayName("응답이 저장되지 않으면 기다리던 요청은 시간 초과로 끝난다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"memory", "jdbc"})
+    void awaitTimeout(String type) {
+        // given
+        IdempotencyStore store = store(type, Duration.ofMinutes(1));
+        String key = UUID.randomUUID().toString();
+        store.claim(key, "fingerprint");
+
+        // when
+        IdempotencyStore.Earlier earlier = store.claim(key, "fingerprint");
+
+        // then
+        assertThatThrownBy(() -> earlier.await(Duration.ofMillis(100)))
+                .isInstanceOf(TimeoutException.class);
+    }
+
+    @DisplayName("처리 중인 키는 저장 용량을 넘어도 밀려나지 않는다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"memory"})
+    void keepInFlightClaim(String type) {
+        // given
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setMaximumWeight(DataSize.ofBytes(1));
+        IdempotencyStore store = new InMemoryIdempotencyStore(properties);
+        String key = UUID.randomUUID().toString();
+        store.claim(key, "fingerprint");
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            String other = UUID.randomUUID().toString();
+            store.claim(other, "other");
+            store.complete(other, new IdempotentResponse(201, "application/json", "{\"id\":1}".getBytes()));
+        }
+
+        // then
+        assertThat(store.claim(key, "fingerprint")).isNotNull();
+    }
+
+    @DisplayName("다른 노드가 처리하다 멈춘 키는 제한 시간이 지나면 다시 선점한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"jdbc"})
+    void takeOverAbandonedClaim(String type) throws Exception {
+        // given
+        IdempotencyStore store = store(type, Duration.ZERO);
+        String key = UUID.randomUUID().toString();
+        store.claim(key, "first");
+        Thread.sleep(5);
+
+        // when
+        IdempotencyStore.Earlier earlier = store.claim(key, "second");
+
+        // then
+        assertThat(earlier).isNull();
+        assertThat(jdbcTemplate.queryForObject(
+                "select fingerprint from idempotency_record where idempotency_key = ?", String.class, key))
+                .isEqualTo("second");
+    }
+
+    private IdempotencyStore store(String type, Duration inFlightTimeout) {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setInFlightTimeout(inFlightTimeout);
+        properties.setPollInterval(Duration.ofMillis(10));
+        return type.equals("jdbc")
+                ? new JdbcIdempotencyStore(jdbcTemplate, properties)
+                : new InMemoryIdempotencyStore(properties);
+    }
+}
@@ -0,0 +1,50 @@
+package com.commerce.common.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureObservability
+@AutoConfigureMockMvc
+@SpringBootTest
+class PrometheusScrapeTest {
+    @Autowired private MockMvc mockMvc;
+
+    @DisplayName("요청 지연 히스토그램, 커넥션 풀, 하이버네이트 지표를 프로메테우스 형식으로 노출한다.")
+    @Test
+    @WithMockUser(roles = "ACTUATOR")
+    void scrape() throws Exception {
+        // given
+        mockMvc.perform(get("/accounts/{accountId}", Long.MAX_VALUE));
+
+        // when
+        mockMvc.perform(get("/actuator/prometheus"))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{application=\"commerce\"")))
+                .andExpect(content().string(containsString("le=\"0.1\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("hibernate_statements_total")))
+                .andExpect(content().string(containsString("hibernate_entities_loads_total")))
+                .andExpect(content().string(containsString("hibernate_flushes_total")));
+    }
+
+    @DisplayName("인증 없이는 지표를 읽을 수 없다.")
+    @Test
+    void scrapeUnauthenticated() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+}
@@ -0,0 +1,78 @@
+package com.commerce.common.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fills the outbox up front and drains it with several relays at once, the way several nodes
+ * would share one outbox table.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox-benchmark;MODE=MySQL;LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN",
+        "commerce.outbox.relay-enabled=true",
+        "commerce.outbox.poll-interval=PT1H"
+})
+class OutboxRelayBenchmarkTest {
+    private static final int EVENTS = 100_000;
+    private static final int EVENTS_PER_TRANSACTION = 500;
+    private static final int RELAYS = 4;
+
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private DomainEvents domainEvents;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @DisplayName("아웃박스 이벤트의 초당 릴레이 처리량을 측정한다.")
+    @Test
+    void relayThroughput() throws Exception {
+        // given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < EVENTS; i += EVENTS_PER_TRANSACTION) {
+            long first = i;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (long id = first; id < first + EVENTS_PER_TRANSACTION; id++) {
+                    domainEvents.publish(DomainEvent.PRODUCT_STOCK_CHANGED, id, Map.of("delta", -1));
+                }
+            });
+        }
+        AtomicLong relayed = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(RELAYS);
+
+        // when
+        long startedAt = System.nanoTime();
+        Future<?>[] futures = new Future<?>[RELAYS];
+        for (int i = 0; i < RELAYS; i++) {
+            futures[i] = executor.submit(() -> {
+                while (outboxEventRepository.count() > 0) {
+                    relayed.addAndGet(outboxRelay.relayBatch());
+                }
+            });
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        // then
+        System.out.printf("%d relays: %.0f events/sec%n", RELAYS, relayed.get() / (elapsed / 1_000_000_000.0));
+        assertThat(relayed.get()).isEqualTo(EVENTS);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+}
@@ -0,0 +1,177 @@
+package com.commerce.common.outbox;
+
+import com.commerce.domain.account.AccountService;
+import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import com.commerce.domain.product.StockReservation;
+import com.commerce.domain.product.StockReservationEngine;
+import com.commerce.domain.seller.Seller;
+import com.commerce.domain.seller.SellerRepository;
+import com.commerce.domain.seller.SellerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "commerce.outbox.poll-interval=PT1H",
+        "commerce.outbox.max-attempts=2"
+})
+@Import(OutboxRelayTest.RecordingListener.class)
+class OutboxRelayTest {
+    @Autowired private OutboxRelay outboxRelay;
+    @Autowired private OutboxEventRepository outboxEventRepository;
+    @Autowired private DomainEvents domainEvents;
+    @Autowired private AccountService accountService;
+    @Autowired private SellerService sellerService;
+    @Autowired private SellerRepository sellerRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private StockReservationEngine stockReservationEngine;
+    @Autowired private RecordingListener recordingListener;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private final Faker faker = new Faker();
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relay();
+        recordingListener.events.clear();
+    }
+
+    @DisplayName("커밋된 변경의 이벤트를 리스너에 전달하고 아웃박스에서 지운다.")
+    @Test
+    void relay() {
+        // given
+        Long accountId = accountService.createAccount(CreateAccountDto.builder()
+                .username(faker.name().username())
+                .email(faker.internet().emailAddress())
+                .phoneNumber(faker.phoneNumber().cellPhone())
+                .password(faker.internet().password())
+                .build());
+        Seller seller = sellerRepository.save(Seller.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+        sellerService.deleteSellerById(seller.getId());
+        double relayed = meterRegistry.get("commerce.outbox.relayed").counter().count();
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(recordingListener.events)
+                .extracting(DomainEvent::type, DomainEvent::aggregateId)
+                .containsExactly(
+                        tuple(DomainEvent.ACCOUNT_CREATED, accountId),
+                        tuple(DomainEvent.SELLER_DELETED, seller.getId()));
+        assertThat(recordingListener.events.get(0).payload()).contains("username");
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(meterRegistry.get("commerce.outbox.relayed").counter().count()).isEqualTo(relayed + 2);
+    }
+
+    @DisplayName("예약 엔진이 반영한 재고 변경도 이벤트로 전달된다.")
+    @Test
+    void relayEngineFlush() {
+        // given
+        Product product = productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(faker.random().nextInt(1, 1000))
+                .stockQuantity(10)
+                .build());
+        StockReservation reservation = stockReservationEngine.reserve(product.getId(), 3).orElseThrow();
+        stockReservationEngine.confirm(reservation.getId());
+        stockReservationEngine.flush();
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertThat(recordingListener.events)
+                .extracting(DomainEvent::type, DomainEvent::aggregateId)
+                .contains(tuple(DomainEvent.PRODUCT_STOCK_CHANGED, product.getId()));
+    }
+
+    @DisplayName("계속 실패하는 이벤트는 정해진 횟수 뒤 남겨 두고 뒤의 이벤트는 전달한다.")
+    @Test
+    void deadLetter() {
+        // given
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            domainEvents.publish(DomainEvent.SELLER_DELETED, 1L, null);
+            domainEvents.publish(DomainEvent.SELLER_DELETED, RecordingListener.POISON, null);
+            domainEvents.publish(DomainEvent.SELLER_DELETED, 2L, null);
+        });
+
+        // when
+        outboxRelay.relay();
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        // then
+        assertThat(recordingListener.events)
+                .extracting(DomainEvent::aggregateId)
+                .containsOnly(1L, 2L);
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAggregateId, OutboxEvent::getAttempts)
+                .containsExactly(tuple(RecordingListener.POISON, 2));
+        outboxEventRepository.deleteAll();
+    }
+
+    @DisplayName("롤백된 트랜잭션의 이벤트는 전달되지 않는다.")
+    @Test
+    void rollback() {
+        // given
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            domainEvents.publish(DomainEvent.SELLER_DELETED, 1L, null);
+            status.setRollbackOnly();
+        });
+
+        // when
+        int relayed = outboxRelay.relayBatch();
+
+        // then
+        assertThat(relayed).isZero();
+        assertThat(recordingListener.events).isEmpty();
+    }
+
+    @DisplayName("트랜잭션 밖에서는 이벤트를 발행할 수 없다.")
+    @Test
+    void publishWithoutTransaction() {
+        // when
+        assertThatThrownBy(() -> domainEvents.publish(DomainEvent.SELLER_DELETED, 1L, null))
+                // then
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @TestConfiguration
+    static class RecordingListener {
+        static final Long POISON = -1L;
+
+        final List<DomainEvent> events = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void on(DomainEvent event) {
+            if (POISON.equals(event.aggregateId())) {
+                throw new IllegalStateException("poison event");
+            }
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.commerce.common.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ErrorResponseWriter errorResponseWriter = new ErrorResponseWriter(objectMapper);
+
+    @DisplayName("인증이 필요한 요청에 401 과 에러 본문을 쓴다.")
+    @Test
+    void writeUnauthenticated() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        errorResponseWriter.writeUnauthenticated(response);
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(body.get("code").asText()).isEqualTo(ErrorResponseWriter.UNAUTHENTICATED_CODE);
+    }
+
+    @DisplayName("같은 필드의 중복 에러는 같은 본문을 쓴다.")
+    @Test
+    void writeDuplicated() throws Exception {
+        // given
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        MockHttpServletResponse second = new MockHttpServletResponse();
+
+        // when
+        errorResponseWriter.writeDuplicated(first, "email");
+        errorResponseWriter.writeDuplicated(second, "email");
+
+        // then
+        JsonNode body = objectMapper.readTree(first.getContentAsByteArray());
+        assertThat(first.getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(body.get("code").asText()).isEqualTo("1");
+        assertThat(body.get("field").asText()).isEqualTo("email");
+        assertThat(body.get("message").asText()).isEqualTo("email duplicated");
+        assertThat(second.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+    }
+}
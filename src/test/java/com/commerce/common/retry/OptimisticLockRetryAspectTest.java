@@ -0,0 +1,110 @@
+package com.commerce.common.retry;
+
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import com.commerce.domain.product.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "commerce.retry.operations.decrease-stock.max-attempts=100",
+        "commerce.retry.operations.decrease-stock.initial-backoff=1ms",
+        "commerce.retry.operations.decrease-stock.max-backoff=20ms"
+})
+class OptimisticLockRetryAspectTest {
+    @Autowired private ProductService productService;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private AlwaysConflicting alwaysConflicting;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("충돌이 계속되면 최대 시도 횟수만큼 재시도한 뒤 예외를 던진다.")
+    @Test
+    void retryUntilExhausted() {
+        // when
+        assertThatThrownBy(() -> alwaysConflicting.update())
+                // then
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(alwaysConflicting.attempts()).isEqualTo(3);
+        assertThat(meterRegistry.counter("commerce.optimistic.lock.exhausted",
+                "entity", "test", "operation", "always-conflicting").count()).isEqualTo(1);
+    }
+
+    @DisplayName("동시에 재고를 차감해도 갱신이 유실되지 않는다.")
+    @Test
+    void decreaseStockQuantityConcurrently() throws Exception {
+        // given
+        int threads = 16;
+        int decreasesPerThread = 10;
+        Product product = productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(faker.random().nextInt(1, 1000))
+                .stockQuantity(1000)
+                .build());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < decreasesPerThread; j++) {
+                    productService.decreaseStockQuantity(product.getId(), 1);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(productRepository.findById(product.getId()).get().getStockQuantity())
+                .isEqualTo(1000 - threads * decreasesPerThread);
+    }
+
+    static class AlwaysConflicting {
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        @RetryOnConflict(entity = "test", operation = "always-conflicting")
+        public void update() {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        }
+
+        public int attempts() {
+            return attempts.get();
+        }
+    }
+
+    @TestConfiguration
+    static class AlwaysConflictingConfiguration {
+        @Bean
+        AlwaysConflicting alwaysConflicting() {
+            return new AlwaysConflicting();
+        }
+    }
+}
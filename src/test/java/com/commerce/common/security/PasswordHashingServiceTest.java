@@ -0,0 +1,116 @@
+package com.commerce.common.security;
+
+import com.commerce.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("비밀번호를 해시하고 검증한다.")
+    @Test
+    void hashAndMatches() {
+        // given
+        PasswordHashingService passwordHashingService = new PasswordHashingService(new BCryptPasswordEncoder(4), properties(2, 4), meterRegistry);
+
+        // when
+        String hash = passwordHashingService.hash("password");
+
+        // then
+        assertThat(hash).isNotEqualTo("password");
+        assertThat(passwordHashingService.matches("password", hash)).isTrue();
+        assertThat(passwordHashingService.matches("wrong", hash)).isFalse();
+        assertThat(passwordHashingService.matches("password", null)).isFalse();
+        assertThat(meterRegistry.get("commerce.password.hashing.execution").tag("operation", "hash").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 비밀번호를 순서대로 해시한다.")
+    @Test
+    void hashAll() {
+        // given
+        BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+        PasswordHashingService passwordHashingService = new PasswordHashingService(passwordEncoder, properties(4, 1), meterRegistry);
+        List<String> passwords = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+
+        // when
+        List<String> hashes = passwordHashingService.hashAll(passwords);
+
+        // then
+        assertThat(hashes).hasSize(passwords.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertThat(passwordEncoder.matches(passwords.get(i), hashes.get(i))).isTrue();
+        }
+    }
+
+    @DisplayName("큐가 가득 차면 해시 요청을 거절한다.")
+    @Test
+    void rejectWhenQueueIsFull() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean blocking = new AtomicBoolean(false);
+        BCryptPasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                if (blocking.get()) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHashingService passwordHashingService = new PasswordHashingService(blockingEncoder, properties(1, 1), meterRegistry);
+        blocking.set(true);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHashingService.hash("running"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHashingService.hash("queued"));
+        while (meterRegistry.get("executor.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        assertThatThrownBy(() -> passwordHashingService.hash("rejected"))
+                // then
+                .isInstanceOf(PasswordHashingRejectedException.class);
+        assertThat(meterRegistry.get("commerce.password.hashing.rejections").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isNotBlank();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotBlank();
+    }
+
+    @DisplayName("목표 지연 시간 안에서 가장 높은 강도를 고른다.")
+    @Test
+    void calibrate() {
+        // when
+        int generous = BCryptWorkFactor.calibrate(Duration.ofSeconds(10), 4, 5);
+        int impossible = BCryptWorkFactor.calibrate(Duration.ofNanos(1), 4, 5);
+
+        // then
+        assertThat(generous).isEqualTo(5);
+        assertThat(impossible).isEqualTo(4);
+    }
+
+    private static PasswordHashingProperties properties(int threads, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        return properties;
+    }
+}
@@ -0,0 +1,129 @@
+package com.commerce.config;
+
+import com.commerce.domain.account.Account;
+import com.commerce.domain.account.AccountRepository;
+import com.commerce.domain.account.AccountService;
+import com.commerce.domain.account.dto.AccountDto;
+import com.commerce.domain.account.dto.UpdateAccountDto;
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import com.commerce.domain.product.ProductService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.NoResultException;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Transactional
+@SpringBootTest
+class CacheConfigTest {
+    @Autowired private AccountService accountService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private ProductService productService;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private MeterRegistry meterRegistry;
+    @Autowired private EntityManager entityManager;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("같은 계정을 다시 조회하면 캐시에서 반환한다.")
+    @Test
+    void findAccountByIdFromCache() {
+        // given
+        Account account = saveAccount();
+        double hits = cacheGets("hit");
+
+        // when
+        AccountDto first = accountService.findAccountById(account.getId());
+        AccountDto second = accountService.findAccountById(account.getId());
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(cacheManager.getCache(CacheConfig.ACCOUNTS).get(account.getId()).get()).isInstanceOf(AccountDto.class);
+        assertThat(cacheGets("hit")).isEqualTo(hits + 1);
+    }
+
+    @DisplayName("계정을 수정하면 캐시에서 제거된다.")
+    @Test
+    void updateAccountEvicts() {
+        // given
+        Account account = saveAccount();
+        accountService.findAccountById(account.getId());
+
+        UpdateAccountDto updateAccountDto = UpdateAccountDto.builder()
+                .phoneNumber(faker.phoneNumber().cellPhone())
+                .password(faker.internet().password())
+                .build();
+
+        // when
+        accountService.updateAccount(account.getId(), updateAccountDto);
+
+        // then
+        assertThat(cacheManager.getCache(CacheConfig.ACCOUNTS).get(account.getId())).isNull();
+        assertThat(accountService.findAccountById(account.getId()).getPhoneNumber()).isEqualTo(updateAccountDto.getPhoneNumber());
+    }
+
+    @DisplayName("삭제된 계정은 캐시에서 제거되어 더 이상 조회되지 않는다.")
+    @Test
+    void deleteAccountEvicts() {
+        // given
+        Account account = saveAccount();
+        accountService.findAccountById(account.getId());
+
+        // when
+        accountService.deleteAccountById(account.getId());
+        accountRepository.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(cacheManager.getCache(CacheConfig.ACCOUNTS).get(account.getId())).isNull();
+        assertThatThrownBy(() -> accountService.findAccountById(account.getId()))
+                .isInstanceOf(NoResultException.class);
+    }
+
+    @DisplayName("상품 재고를 차감하면 캐시에서 제거된다.")
+    @Test
+    void decreaseStockQuantityEvicts() {
+        // given
+        Product product = productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(1000)
+                .stockQuantity(10)
+                .build());
+        productService.findProductByProductId(product.getId());
+
+        // when
+        productService.decreaseStockQuantity(product.getId(), 3);
+
+        // then
+        assertThat(cacheManager.getCache(CacheConfig.PRODUCTS).get(product.getId())).isNull();
+        assertThat(productService.findProductByProductId(product.getId()).getStockQuantity()).isEqualTo(7);
+    }
+
+    private Account saveAccount() {
+        return accountRepository.save(Account.builder()
+                .username(faker.name().username())
+                .email(faker.internet().emailAddress())
+                .phoneNumber(faker.phoneNumber().cellPhone())
+                .password(faker.internet().password())
+                .build());
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.ACCOUNTS)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+}
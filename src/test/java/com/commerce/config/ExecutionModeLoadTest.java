@@ -0,0 +1,130 @@
+package com.commerce.config;
+
+import com.commerce.domain.account.AccountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestComponent;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the same blocking endpoint in both execution modes. Every request sleeps as if waiting
+ * on a downstream call and then runs one query, so the platform mode is capped by Tomcat's worker
+ * pool while the virtual mode is only capped by the client concurrency and the connection pool.
+ */
+@Tag("benchmark")
+abstract class ExecutionModeLoadTest {
+    private static final int REQUESTS = 5_000;
+    private static final int CONCURRENCY = 1_000;
+    private static final long BLOCKING_CALL_MILLIS = 50;
+
+    @LocalServerPort int port;
+    @Autowired BlockingEndpoint blockingEndpoint;
+
+    @DisplayName("블로킹 요청의 p99 지연 시간과 최대 동시 처리 수를 측정한다.")
+    @Test
+    void load() throws Exception {
+        // given
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/load-test/blocking")).build();
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore permits = new Semaphore(CONCURRENCY);
+
+        // when
+        long startedAt = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                permits.acquire();
+                clients.submit(() -> {
+                    long requestedAt = System.nanoTime();
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - requestedAt;
+                        permits.release();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - startedAt;
+
+        // then
+        Arrays.sort(latencies);
+        System.out.printf("[%s] %d requests in %d ms, p50 %d ms, p99 %d ms, max concurrent %d, failures %d%n",
+                getClass().getSimpleName(),
+                REQUESTS,
+                TimeUnit.NANOSECONDS.toMillis(elapsed),
+                TimeUnit.NANOSECONDS.toMillis(latencies[REQUESTS / 2]),
+                TimeUnit.NANOSECONDS.toMillis(latencies[(int) (REQUESTS * 0.99)]),
+                blockingEndpoint.maxConcurrent(),
+                failures.get());
+        assertThat(failures.get()).isZero();
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "commerce.execution.mode=platform")
+    @Import(BlockingEndpoint.class)
+    static class PlatformThreads extends ExecutionModeLoadTest {
+    }
+
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "commerce.execution.mode=virtual")
+    @Import(BlockingEndpoint.class)
+    static class VirtualThreads extends ExecutionModeLoadTest {
+    }
+
+    /**
+     * Registered through {@code @Import} by the two load tests only; {@code @TestComponent} keeps the
+     * component scan of every other test context from mapping it.
+     */
+    @TestComponent
+    @RestController
+    static class BlockingEndpoint {
+        private final AccountRepository accountRepository;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        BlockingEndpoint(AccountRepository accountRepository) {
+            this.accountRepository = accountRepository;
+        }
+
+        @GetMapping("/load-test/blocking")
+        boolean blocking() throws InterruptedException {
+            maxConcurrent.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(BLOCKING_CALL_MILLIS);
+                return accountRepository.existsById(1L);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+
+        int maxConcurrent() {
+            return maxConcurrent.get();
+        }
+    }
+}
@@ -1,14 +1,18 @@
 package com.commerce.config;
 
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
-import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @AutoConfigureMockMvc
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
@@ -24,4 +28,26 @@ class SecurityConfigTest {
     }
 
     void authorization() {}
-}
\ No newline at end of file
+
+    @DisplayName("헬스 체크는 인증 없이 열려 있다.")
+    @Test
+    void health() throws Exception {
+        mvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @DisplayName("상태를 바꾸는 액추에이터 엔드포인트는 인증 없이 호출할 수 없다.")
+    @Test
+    void accountIdentifierFilterRebuildUnauthenticated() throws Exception {
+        mvc.perform(post("/actuator/accountIdentifierFilter"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @DisplayName("계정 식별자 필터 엔드포인트는 기본으로 노출하지 않는다.")
+    @Test
+    @WithMockUser(roles = "ACTUATOR")
+    void accountIdentifierFilterNotExposed() throws Exception {
+        mvc.perform(post("/actuator/accountIdentifierFilter"))
+                .andExpect(status().isNotFound());
+    }
+}
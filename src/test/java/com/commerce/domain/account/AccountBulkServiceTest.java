@@ -0,0 +1,169 @@
+package com.commerce.domain.account;
+
+import com.commerce.common.security.PasswordHashingService;
+import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.exception.PasswordHashingRejectedException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(properties = "commerce.account.bulk.chunk-size=2")
+class AccountBulkServiceTest {
+    @Autowired private AccountBulkService accountBulkService;
+    @Autowired private AccountService accountService;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private ObjectMapper objectMapper;
+    @SpyBean private PasswordHashingService passwordHashingService;
+
+    private final Faker faker = new Faker();
+
+    private CreateAccountDto.CreateAccountDtoBuilder uniqueAccount() {
+        String unique = UUID.randomUUID().toString();
+        return CreateAccountDto.builder()
+                .username("user-" + unique)
+                .email(unique + "@commerce.com")
+                .phoneNumber("phone-" + unique)
+                .password(faker.internet().password());
+    }
+
+    private List<JsonNode> createAccounts(String... lines) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        accountBulkService.createAccounts(
+                new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)), output);
+
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readTree(line));
+        }
+        return results;
+    }
+
+    @DisplayName("여러 계정을 생성하고 줄마다 결과를 반환한다.")
+    @Test
+    void createAccounts() throws Exception {
+        // given
+        CreateAccountDto first = uniqueAccount().build();
+        CreateAccountDto second = uniqueAccount().build();
+        CreateAccountDto third = uniqueAccount().build();
+
+        // when
+        List<JsonNode> results = createAccounts(
+                objectMapper.writeValueAsString(first),
+                objectMapper.writeValueAsString(second),
+                objectMapper.writeValueAsString(third));
+
+        // then
+        assertThat(results).hasSize(3);
+        assertThat(results).allSatisfy(result -> assertThat(result.get("status").asText()).isEqualTo("CREATED"));
+        assertThat(accountRepository.findById(results.get(2).get("accountId").asLong()))
+                .hasValueSatisfying(account -> {
+                    assertThat(account.getUsername()).isEqualTo(third.getUsername());
+                    assertThat(account.getPhoneNumber()).isEqualTo(third.getPhoneNumber());
+                });
+    }
+
+    @DisplayName("청크 처리에 실패하면 스트림을 끊지 않고 그 청크의 줄마다 실패 결과를 쓴다.")
+    @Test
+    void createAccountsWithFailedChunk() throws Exception {
+        // given
+        doThrow(new PasswordHashingRejectedException())
+                .doCallRealMethod()
+                .when(passwordHashingService).hashAll(anyList());
+
+        // when
+        List<JsonNode> results = createAccounts(
+                objectMapper.writeValueAsString(uniqueAccount().build()),
+                objectMapper.writeValueAsString(uniqueAccount().build()),
+                objectMapper.writeValueAsString(uniqueAccount().build()));
+
+        // then
+        assertThat(results).extracting(result -> result.get("status").asText())
+                .containsExactly("FAILED", "FAILED", "CREATED");
+        assertThat(results.get(0).get("line").asLong()).isEqualTo(1);
+    }
+
+    @DisplayName("같은 청크와 이전 청크에 있는 중복 값을 찾아낸다.")
+    @Test
+    void createAccountsWithDuplicates() throws Exception {
+        // given
+        CreateAccountDto first = uniqueAccount().build();
+        CreateAccountDto sameChunkDuplicate = uniqueAccount().email(first.getEmail()).build();
+        CreateAccountDto nextChunkDuplicate = uniqueAccount().phoneNumber(first.getPhoneNumber()).build();
+
+        // when
+        List<JsonNode> results = createAccounts(
+                objectMapper.writeValueAsString(first),
+                objectMapper.writeValueAsString(sameChunkDuplicate),
+                objectMapper.writeValueAsString(nextChunkDuplicate));
+
+        // then
+        assertThat(results.get(0).get("status").asText()).isEqualTo("CREATED");
+        assertThat(results.get(1).get("status").asText()).isEqualTo("DUPLICATED");
+        assertThat(results.get(1).get("field").asText()).isEqualTo("email");
+        assertThat(results.get(2).get("status").asText()).isEqualTo("DUPLICATED");
+        assertThat(results.get(2).get("field").asText()).isEqualTo("phoneNumber");
+    }
+
+    @DisplayName("잘못된 줄은 건너뛰고 나머지를 생성한다.")
+    @Test
+    void createAccountsWithInvalidLines() throws Exception {
+        // given
+        CreateAccountDto emptyEmail = uniqueAccount().email("").build();
+        CreateAccountDto valid = uniqueAccount().build();
+
+        // when
+        List<JsonNode> results = createAccounts(
+                "{not json",
+                objectMapper.writeValueAsString(emptyEmail),
+                objectMapper.writeValueAsString(valid));
+
+        // then
+        assertThat(results.get(0).get("line").asLong()).isEqualTo(1);
+        assertThat(results.get(0).get("status").asText()).isEqualTo("INVALID");
+        assertThat(results.get(1).get("status").asText()).isEqualTo("INVALID");
+        assertThat(results.get(1).get("field").asText()).isEqualTo("email");
+        assertThat(results.get(2).get("status").asText()).isEqualTo("CREATED");
+    }
+
+    @DisplayName("삭제된 계정과 충돌하는 줄만 실패하고 나머지는 생성한다.")
+    @Test
+    void createAccountsConflictingWithDeletedAccount() throws Exception {
+        // given
+        CreateAccountDto deleted = uniqueAccount().build();
+        Account deletedAccount = accountRepository.save(Account.builder()
+                .username(deleted.getUsername())
+                .email(deleted.getEmail())
+                .phoneNumber(deleted.getPhoneNumber())
+                .password(deleted.getPassword())
+                .build());
+        accountService.deleteAccountById(deletedAccount.getId());
+
+        CreateAccountDto valid = uniqueAccount().build();
+        CreateAccountDto conflicting = uniqueAccount().username(deleted.getUsername()).build();
+
+        // when
+        List<JsonNode> results = createAccounts(
+                objectMapper.writeValueAsString(valid),
+                objectMapper.writeValueAsString(conflicting));
+
+        // then
+        assertThat(results.get(0).get("status").asText()).isEqualTo("CREATED");
+        assertThat(results.get(1).get("status").asText()).isEqualTo("DUPLICATED");
+    }
+}
@@ -1,6 +1,7 @@
 package com.commerce.domain.account;
 
 import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.domain.account.dto.LoginAccountDto;
 import com.commerce.domain.account.dto.UpdateAccountDto;
 import com.epages.restdocs.apispec.Schema;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,10 +13,12 @@ import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDoc
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.*;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
@@ -29,6 +32,7 @@ class AccountControllerTest {
     @Autowired MockMvc mvc;
     @Autowired ObjectMapper objectMapper;
     @Autowired AccountRepository accountRepository;
+    @Autowired PasswordEncoder passwordEncoder;
 
     Faker faker = new Faker();
 
@@ -78,10 +82,17 @@ class AccountControllerTest {
         mvc.perform(get("/accounts/{accountId}", accountId))
                 // then
                 .andExpect(status().isNotFound())
+                .andExpect(jsonPath("code", is("6")))
                 .andDo(
                         document("account/get/not-found",
                                 resourceDetails()
                                         .tag("account")
+                                        .responseSchema(new Schema("CustomErrorResponse")),
+                                responseFields(
+                                        fieldWithPath("code").description("에러 코드"),
+                                        fieldWithPath("field").description("필드").optional(),
+                                        fieldWithPath("message").description("메시지")
+                                )
                         )
                 );
     }
@@ -127,6 +138,149 @@ class AccountControllerTest {
                 );
     }
 
+    @DisplayName("POST bulk - Ok")
+    @Test
+    void createAccounts() throws Exception {
+        // given
+        Account initAccount = accountRepository.save(
+                Account.builder()
+                        .email(faker.internet().emailAddress())
+                        .phoneNumber(faker.phoneNumber().phoneNumber())
+                        .username(faker.name().username())
+                        .password(faker.internet().password())
+                        .build()
+        );
+
+        CreateAccountDto createAccountDto = CreateAccountDto.builder()
+                .email(faker.internet().emailAddress())
+                .phoneNumber(faker.phoneNumber().cellPhone())
+                .username(faker.name().username() + "-bulk")
+                .password(faker.internet().password())
+                .build();
+
+        CreateAccountDto duplicatedAccountDto = CreateAccountDto.builder()
+                .email(initAccount.getEmail())
+                .phoneNumber(faker.phoneNumber().cellPhone())
+                .username(faker.name().username() + "-bulk")
+                .password(faker.internet().password())
+                .build();
+
+        String body = objectMapper.writeValueAsString(createAccountDto) + "\n"
+                + objectMapper.writeValueAsString(duplicatedAccountDto) + "\n"
+                + "{not json\n";
+
+        // when
+        String response = mvc.perform(
+                        post("/accounts/bulk")
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(body))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andDo(
+                        document("account/post/bulk/ok",
+                                resourceDetails()
+                                        .tag("account")
+                                        .description("NDJSON 으로 여러 계정을 생성하고 줄마다 결과를 반환한다.")
+                        )
+                )
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = response.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines[0]).get("status").asText()).isEqualTo("CREATED");
+        assertThat(objectMapper.readTree(lines[0]).get("accountId").isNumber()).isTrue();
+        assertThat(objectMapper.readTree(lines[1]).get("status").asText()).isEqualTo("DUPLICATED");
+        assertThat(objectMapper.readTree(lines[1]).get("field").asText()).isEqualTo("email");
+        assertThat(objectMapper.readTree(lines[2]).get("status").asText()).isEqualTo("INVALID");
+    }
+
+    @DisplayName("POST login - Ok")
+    @Test
+    void login() throws Exception {
+        // given
+        String password = faker.internet().password();
+        Account initAccount = accountRepository.save(
+                Account.builder()
+                        .email(faker.internet().emailAddress())
+                        .phoneNumber(faker.phoneNumber().phoneNumber())
+                        .username(faker.name().username())
+                        .password(passwordEncoder.encode(password))
+                        .build()
+        );
+
+        LoginAccountDto loginAccountDto = LoginAccountDto.builder()
+                .username(initAccount.getUsername())
+                .password(password)
+                .build();
+
+        // when
+        mvc.perform(
+                post("/accounts/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginAccountDto)))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("accountId", is(initAccount.getId().intValue())))
+                .andDo(
+                        document("account/post/login/ok",
+                                resourceDetails()
+                                        .tag("account")
+                                        .description("아이디와 비밀번호로 로그인한다.")
+                                        .requestSchema(new Schema("LoginAccountDto"))
+                                        .responseSchema(new Schema("LoginAccountResponse")),
+                                requestFields(
+                                        fieldWithPath("username").description("유저 아이디"),
+                                        fieldWithPath("password").description("비밀번호")
+                                ),
+                                responseFields(
+                                        fieldWithPath("accountId").description("계정 고유값")
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("POST login - Unauthorized")
+    @Test
+    void loginByWrongPassword() throws Exception {
+        // given
+        Account initAccount = accountRepository.save(
+                Account.builder()
+                        .email(faker.internet().emailAddress())
+                        .phoneNumber(faker.phoneNumber().phoneNumber())
+                        .username(faker.name().username())
+                        .password(passwordEncoder.encode(faker.internet().password()))
+                        .build()
+        );
+
+        LoginAccountDto loginAccountDto = LoginAccountDto.builder()
+                .username(initAccount.getUsername())
+                .password("wrong-" + faker.internet().password())
+                .build();
+
+        // when
+        mvc.perform(
+                post("/accounts/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginAccountDto)))
+                // then
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("code", is("5")))
+                .andDo(
+                        document("account/post/login/unauthorized",
+                                resourceDetails()
+                                        .tag("account")
+                                        .requestSchema(new Schema("LoginAccountDto"))
+                                        .responseSchema(new Schema("CustomErrorResponse")),
+                                responseFields(
+                                        fieldWithPath("code").description("에러 코드"),
+                                        fieldWithPath("field").description("필드").optional(),
+                                        fieldWithPath("message").description("메시지")
+                                )
+                        )
+                );
+    }
+
     @DisplayName("POST - BadRequest ( empty email )")
     @Test
     void createAccountByEmptyEmail() throws Exception {
@@ -0,0 +1,85 @@
+package com.commerce.domain.account;
+
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+class AccountIdentifierFilterTest {
+    @Autowired private AccountIdentifierFilter accountIdentifierFilter;
+    @Autowired private AccountRepository accountRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("저장한 계정의 식별자는 존재할 수 있다고 판단한다.")
+    @Test
+    void recordOnSave() {
+        // given
+        String unique = UUID.randomUUID().toString();
+        Account account = accountRepository.save(Account.builder()
+                .username("user-" + unique)
+                .email(unique + "@commerce.com")
+                .phoneNumber("phone-" + unique)
+                .password(faker.internet().password())
+                .build());
+
+        // then
+        assertThat(accountIdentifierFilter.mightContainAny(account.getUsername(), "absent-" + unique, "absent-" + unique)).isTrue();
+        assertThat(accountIdentifierFilter.mightContainPhoneNumber(account.getPhoneNumber())).isTrue();
+    }
+
+    @DisplayName("한 번도 본 적 없는 식별자는 존재하지 않는다고 판단한다.")
+    @Test
+    void definiteMiss() {
+        // given
+        String unique = UUID.randomUUID().toString();
+
+        // then
+        assertThat(accountIdentifierFilter.isReady()).isTrue();
+        assertThat(accountIdentifierFilter.mightContainAny("user-" + unique, unique + "@commerce.com", "phone-" + unique)).isFalse();
+    }
+
+    @DisplayName("재구성하면 테이블에 직접 저장된 계정도 반영된다.")
+    @Test
+    void rebuild() {
+        // given
+        String unique = UUID.randomUUID().toString();
+        jdbcTemplate.update("insert into account (id, username, email, phone_number, password, deleted, version) values (next value for account_seq, ?, ?, ?, ?, false, 0)",
+                "user-" + unique, unique + "@commerce.com", "phone-" + unique, "password");
+
+        // when
+        accountIdentifierFilter.rebuild();
+
+        // then
+        assertThat(accountIdentifierFilter.mightContainAny("user-" + unique, null, null)).isTrue();
+        assertThat(accountIdentifierFilter.byteSize()).isPositive();
+    }
+
+    @DisplayName("재구성 직전에 기록되고 늦게 커밋된 계정도 유예 기간 동안은 존재할 수 있다고 판단한다.")
+    @Test
+    void recordedBeforeRebuild() {
+        // given
+        String unique = UUID.randomUUID().toString();
+        accountIdentifierFilter.record(Account.builder()
+                .username("user-" + unique)
+                .email(unique + "@commerce.com")
+                .phoneNumber("phone-" + unique)
+                .password(faker.internet().password())
+                .build());
+
+        // when
+        accountIdentifierFilter.rebuild();
+
+        // then
+        assertThat(accountIdentifierFilter.mightContainAny("user-" + unique, null, null)).isTrue();
+        assertThat(accountIdentifierFilter.mightContainPhoneNumber("phone-" + unique)).isTrue();
+    }
+}
@@ -0,0 +1,58 @@
+package com.commerce.domain.account;
+
+import benchmark.identity.IdentityAccount;
+import benchmark.identity.IdentityAccountConfiguration;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.IntFunction;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+@Import(IdentityAccountConfiguration.class)
+class AccountInsertBenchmarkTest {
+    private static final int ACCOUNTS = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @DisplayName("IDENTITY 와 시퀀스 기반 계정 저장 처리량을 비교한다.")
+    @Test
+    void insertThroughput() {
+        measure("identity", i -> new IdentityAccount("identity" + i, "identity" + i + "@commerce.com", "010-0000-" + i, "password"));
+        measure("sequence", i -> Account.builder()
+                .username("sequence" + i)
+                .email("sequence" + i + "@commerce.com")
+                .phoneNumber("010-1111-" + i)
+                .password("password")
+                .build());
+    }
+
+    private void measure(String name, IntFunction<Object> entityFactory) {
+        long startedAt = System.nanoTime();
+
+        for (int chunk = 0; chunk < ACCOUNTS; chunk += CHUNK_SIZE) {
+            int from = chunk;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = from; i < from + CHUNK_SIZE; i++) {
+                    entityManager.persist(entityFactory.apply(i));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        System.out.printf("%s ids: %d accounts in %.2fs, %.0f inserts/sec%n", name, ACCOUNTS, seconds, ACCOUNTS / seconds);
+    }
+}
@@ -1,8 +1,12 @@
 package com.commerce.domain.account;
 
+import com.commerce.domain.account.dto.AccountDto;
 import com.commerce.domain.account.dto.CreateAccountDto;
+import com.commerce.domain.account.dto.LoginAccountDto;
 import com.commerce.domain.account.dto.UpdateAccountDto;
+import com.commerce.exception.AuthenticationFailedException;
 import com.commerce.exception.UniqueConstraintViolationException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import net.datafaker.Faker;
@@ -11,6 +15,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
@@ -23,6 +29,8 @@ class AccountServiceTest {
     @Autowired private AccountRepository accountRepository;
     @Autowired private AccountService accountService;
     @Autowired private EntityManager entityManager;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private MeterRegistry meterRegistry;
 
     private final Faker faker = new Faker();
 
@@ -41,7 +49,7 @@ class AccountServiceTest {
         initialAccount = accountRepository.save(initialAccount);
 
         // when
-        Account account = accountService.findAccountById(initialAccount.getId());
+        AccountDto account = accountService.findAccountById(initialAccount.getId());
 
         // then
         assertThat(account.getId()).isEqualTo(initialAccount.getId());
@@ -84,6 +92,7 @@ class AccountServiceTest {
         assertThat(createdAccount.getEmail()).isEqualTo(createdAccount.getEmail());
         assertThat(createdAccount.getPhoneNumber()).isEqualTo(createdAccount.getPhoneNumber());
         assertThat(createdAccount.getPassword()).isEqualTo(createdAccount.getPassword());
+        assertThat(passwordEncoder.matches(createAccountDto.getPassword(), createdAccount.getPassword())).isTrue();
     }
 
     @DisplayName("중복된 이메일로 계정을 생성한다.")
@@ -109,6 +118,34 @@ class AccountServiceTest {
                 .isInstanceOf(UniqueConstraintViolationException.class);
     }
 
+    @DisplayName("중복된 이메일로 계정을 생성하면 중복 지표가 증가한다.")
+    @Test
+    void createAccountByDuplicatedEmailCountsConflict() {
+        // given
+        Account initialAccount = accountRepository.save(Account.builder()
+                .username(faker.name().username())
+                .email(faker.internet().emailAddress())
+                .phoneNumber(faker.phoneNumber().phoneNumber())
+                .password(faker.internet().password())
+                .build());
+
+        CreateAccountDto createAccountDto = CreateAccountDto.builder()
+                .email(initialAccount.getEmail())
+                .phoneNumber(faker.phoneNumber().phoneNumber())
+                .username(faker.name().username())
+                .password(faker.internet().password())
+                .build();
+        double conflicts = meterRegistry.counter("commerce.uniqueness.conflicts", "entity", "account", "field", "email").count();
+
+        // when
+        assertThatThrownBy(() -> accountService.createAccount(createAccountDto))
+                .isInstanceOf(UniqueConstraintViolationException.class);
+
+        // then
+        assertThat(meterRegistry.counter("commerce.uniqueness.conflicts", "entity", "account", "field", "email").count())
+                .isEqualTo(conflicts + 1);
+    }
+
     @DisplayName("중복된 휴대폰번호로 계정을 생성한다.")
     @Test
     void createAccountByDuplicatedPhoneNumber() {
@@ -182,7 +219,7 @@ class AccountServiceTest {
         // then
         assertThat(updatedAccount.getId()).isEqualTo(initialAccount.getId());
         assertThat(updatedAccount.getPhoneNumber()).isEqualTo(updateAccountDto.getPhoneNumber());
-        assertThat(updatedAccount.getPassword()).isEqualTo(updateAccountDto.getPassword());
+        assertThat(passwordEncoder.matches(updateAccountDto.getPassword(), updatedAccount.getPassword())).isTrue();
     }
 
     @DisplayName("존재하지 않는 계정을 수정하면 에러가 발생한다.")
@@ -267,4 +304,92 @@ class AccountServiceTest {
         // when
         Assertions.assertThrows(NoResultException.class,() -> accountService.deleteAccountById(accountId));
     }
-}
\ No newline at end of file
+
+    @DisplayName("로그인한다.")
+    @Test
+    void login() {
+        // given
+        String password = faker.internet().password();
+        Account account = accountRepository.save(Account.builder()
+                .username(faker.name().username())
+                .email(faker.internet().emailAddress())
+                .phoneNumber(faker.phoneNumber().phoneNumber())
+                .password(passwordEncoder.encode(password))
+                .build());
+
+        // when
+        Long accountId = accountService.login(LoginAccountDto.builder()
+                .username(account.getUsername())
+                .password(password)
+                .build());
+
+        // then
+        assertThat(accountId).isEqualTo(account.getId());
+    }
+
+    @DisplayName("비밀번호가 틀리면 로그인에 실패한다.")
+    @Test
+    void loginByWrongPassword() {
+        // given
+        Account account = accountRepository.save(Account.builder()
+                .username(faker.name().username())
+                .email(faker.internet().emailAddress())
+                .phoneNumber(faker.phoneNumber().phoneNumber())
+                .password(passwordEncoder.encode(faker.internet().password()))
+                .build());
+
+        LoginAccountDto loginAccountDto = LoginAccountDto.builder()
+                .username(account.getUsername())
+                .password("wrong-" + faker.internet().password())
+                .build();
+
+        // when
+        assertThatThrownBy(() -> accountService.login(loginAccountDto))
+                // then
+                .isInstanceOf(AuthenticationFailedException.class);
+    }
+
+    @DisplayName("존재하지 않는 계정으로 로그인하면 실패한다.")
+    @Test
+    void loginByNotExistUsername() {
+        // given
+        LoginAccountDto loginAccountDto = LoginAccountDto.builder()
+                .username("unknown-" + faker.name().username())
+                .password(faker.internet().password())
+                .build();
+
+        // when
+        assertThatThrownBy(() -> accountService.login(loginAccountDto))
+                // then
+                .isInstanceOf(AuthenticationFailedException.class);
+    }
+
+    @DisplayName("낮은 강도로 해시된 비밀번호는 로그인할 때 다시 해시한다.")
+    @Test
+    void loginRehashesWeakPassword() {
+        // given
+        String password = faker.internet().password();
+        String weakHash = new BCryptPasswordEncoder(4).encode(password);
+        Account account = accountRepository.save(Account.builder()
+                .username(faker.name().username())
+                .email(faker.internet().emailAddress())
+                .phoneNumber(faker.phoneNumber().phoneNumber())
+                .password(weakHash)
+                .build());
+
+        // when
+        accountService.login(LoginAccountDto.builder()
+                .username(account.getUsername())
+                .password(password)
+                .build());
+        accountRepository.flush();
+        entityManager.clear();
+
+        Account rehashedAccount = accountRepository.findById(account.getId()).get();
+
+        // then
+        assertThat(rehashedAccount.getPassword()).isNotEqualTo(weakHash);
+        assertThat(passwordEncoder.upgradeEncoding(rehashedAccount.getPassword())).isFalse();
+        assertThat(passwordEncoder.matches(password, rehashedAccount.getPassword())).isTrue();
+    }
+}
@@ -17,6 +17,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.resourceDetails;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
@@ -79,6 +80,65 @@ class CustomerControllerTest {
                 .andDo(document("customer/get/not-found", resourceDetails().tag("customer")));
     }
 
+    @DisplayName("GET ids - Ok")
+    @Test
+    void findCustomers() throws Exception {
+        // given
+        Customer first = customerRepository.save(Customer.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+        Customer second = customerRepository.save(Customer.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+
+        // when
+        mvc.perform(get("/customers").param("ids", second.getId() + "," + 100000 + "," + first.getId()))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("customers[*].id", contains(second.getId().intValue(), 100000, first.getId().intValue())))
+                .andExpect(jsonPath("customers[*].found", contains(true, false, true)))
+                .andExpect(jsonPath("customers[0].name", is(second.getName())))
+                .andDo(
+                        document("customer/get/ids/ok",
+                                resourceDetails()
+                                        .tag("customer")
+                                        .description("여러 고객을 한 번에 검색한다. 요청한 순서대로 반환하며 없는 고객은 found 가 false 이다.")
+                                        .responseSchema(new Schema("FindCustomersResponse")),
+                                responseFields(
+                                        fieldWithPath("customers[].id").description("고객 고유값"),
+                                        fieldWithPath("customers[].found").description("존재 여부"),
+                                        fieldWithPath("customers[].name").description("이름").optional(),
+                                        fieldWithPath("customers[].address").description("주소").optional()
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("GET ids - BadRequest ( empty id )")
+    @Test
+    void findCustomersByEmptyId() throws Exception {
+        // when
+        mvc.perform(get("/customers").param("ids", "1,,2"))
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("code", is("2")))
+                .andExpect(jsonPath("field", is("ids")))
+                .andDo(
+                        document("customer/get/ids/bad-request/empty",
+                                resourceDetails()
+                                        .tag("customer")
+                                        .responseSchema(new Schema("Error")),
+                                responseFields(
+                                        fieldWithPath("code").description("에러 코드"),
+                                        fieldWithPath("field").description("필드"),
+                                        fieldWithPath("message").description("메시지")
+                                )
+                        )
+                );
+    }
+
     @DisplayName("POST - Created")
     @Test
     void createCustomer() throws Exception {
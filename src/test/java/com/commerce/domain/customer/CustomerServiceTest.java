@@ -1,6 +1,7 @@
 package com.commerce.domain.customer;
 
 import com.commerce.domain.customer.dto.CreateCustomerDto;
+import com.commerce.domain.customer.dto.CustomerDto;
 import com.commerce.domain.customer.dto.UpdateCustomerDto;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
@@ -40,10 +41,12 @@ class CustomerServiceTest {
         customerRepository.save(customer);
 
         // when
-        Customer findCustomer = customerService.findCustomerById(customer.getId());
+        CustomerDto findCustomer = customerService.findCustomerById(customer.getId());
 
         // then
-        assertThat(findCustomer).isEqualTo(customer);
+        assertThat(findCustomer.getId()).isEqualTo(customer.getId());
+        assertThat(findCustomer.getName()).isEqualTo(customer.getName());
+        assertThat(findCustomer.getAddress()).isEqualTo(customer.getAddress());
     }
 
     @DisplayName("존재하지 않는 고객을 검색한다.")
@@ -0,0 +1,108 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.customer.Customer;
+import com.commerce.domain.customer.CustomerRepository;
+import com.commerce.domain.order.dto.OrderLineDto;
+import com.commerce.domain.order.dto.PlaceOrderDto;
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * One-item checkouts of a single flash-sale product, once with a transaction per checkout and once
+ * through the group-commit queue.
+ */
+@Tag("benchmark")
+abstract class CheckoutModeBenchmarkTest {
+    private static final int BUYERS = 256;
+    private static final int CHECKOUTS_PER_BUYER = 20;
+
+    @Autowired private OrderService orderService;
+    @Autowired private CustomerRepository customerRepository;
+    @Autowired private ProductRepository productRepository;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("한 상품에 몰리는 단건 주문의 초당 처리량을 측정한다.")
+    @Test
+    void checkoutThroughput() throws Exception {
+        // given
+        int checkouts = BUYERS * CHECKOUTS_PER_BUYER;
+        Product product = productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(faker.random().nextInt(1, 1000))
+                .stockQuantity(checkouts)
+                .build());
+        Customer customer = customerRepository.save(Customer.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(OrderLineDto.builder().productId(product.getId()).quantity(1).build()))
+                .build();
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < CHECKOUTS_PER_BUYER; j++) {
+                    orderService.placeOrder(placeOrderDto);
+                }
+                return null;
+            }));
+        }
+
+        // when
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        // then
+        System.out.printf("[%s] %d buyers: %.0f checkouts/sec%n",
+                getClass().getSimpleName(), BUYERS, checkouts / (elapsed / 1_000_000_000.0));
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isZero();
+    }
+
+    @SpringBootTest(properties = {
+            "commerce.order.checkout.mode=per-request",
+            "spring.datasource.url=jdbc:h2:mem:checkout-per-request;MODE=MySQL;LOCK_TIMEOUT=60000",
+            "spring.datasource.hikari.maximum-pool-size=64",
+            "spring.jpa.show-sql=false",
+            "logging.level.org.hibernate=WARN"
+    })
+    static class PerRequest extends CheckoutModeBenchmarkTest {
+    }
+
+    @SpringBootTest(properties = {
+            "commerce.order.checkout.mode=group-commit",
+            "spring.datasource.url=jdbc:h2:mem:checkout-group-commit;MODE=MySQL;LOCK_TIMEOUT=60000",
+            "spring.datasource.hikari.maximum-pool-size=64",
+            "spring.jpa.show-sql=false",
+            "logging.level.org.hibernate=WARN"
+    })
+    static class GroupCommit extends CheckoutModeBenchmarkTest {
+    }
+}
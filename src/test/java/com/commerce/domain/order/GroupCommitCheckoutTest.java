@@ -0,0 +1,105 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.customer.Customer;
+import com.commerce.domain.customer.CustomerRepository;
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import com.commerce.exception.InsufficientStockException;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "commerce.order.checkout.mode=group-commit",
+        "commerce.order.checkout.max-delay=PT0.1S"
+})
+class GroupCommitCheckoutTest {
+    @Autowired private GroupCommitCheckout groupCommitCheckout;
+    @Autowired private CustomerRepository customerRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("같은 상품의 주문을 모아 한 번에 커밋하고, 재고를 넘는 주문은 품절로 끝낸다.")
+    @Test
+    void checkout() throws Exception {
+        // given
+        Customer customer = customerRepository.save(Customer.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(1000)
+                .stockQuantity(5)
+                .build());
+        long orders = orderRepository.count();
+        long batches = meterRegistry.get("commerce.order.checkout.batch.size").summary().count();
+
+        // when
+        List<CompletableFuture<Long>> checkouts = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            checkouts.add(groupCommitCheckout.checkout(customer.getId(), product.getId(), 1));
+        }
+        CompletableFuture.allOf(checkouts.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(checkouts.subList(0, 5)).allSatisfy(checkout -> assertThat(checkout.join()).isNotNull());
+        assertThat(checkouts.subList(5, 8)).allSatisfy(checkout -> assertThatThrownBy(checkout::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(InsufficientStockException.class));
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isZero();
+        assertThat(orderRepository.count()).isEqualTo(orders + 5);
+        assertThat(meterRegistry.get("commerce.order.checkout.batch.size").summary().count() - batches).isLessThan(8);
+    }
+
+    @DisplayName("배치 안의 한 주문이 실패해도 나머지 주문은 커밋한다.")
+    @Test
+    void checkoutIsolatesFailure() throws Exception {
+        // given
+        Customer customer = customerRepository.save(Customer.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(1000)
+                .stockQuantity(5)
+                .build());
+        long orders = orderRepository.count();
+
+        // when
+        CompletableFuture<Long> first = groupCommitCheckout.checkout(customer.getId(), product.getId(), 1);
+        CompletableFuture<Long> missingCustomer = groupCommitCheckout.checkout(Long.MAX_VALUE, product.getId(), 1);
+        CompletableFuture<Long> second = groupCommitCheckout.checkout(customer.getId(), product.getId(), 1);
+        CompletableFuture.allOf(first, missingCustomer, second)
+                .exceptionally(e -> null)
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(first.join()).isNotNull();
+        assertThat(second.join()).isNotNull();
+        assertThatThrownBy(missingCustomer::join).isInstanceOf(CompletionException.class);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+        assertThat(orderRepository.count()).isEqualTo(orders + 2);
+    }
+}
@@ -0,0 +1,216 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.customer.Customer;
+import com.commerce.domain.customer.CustomerRepository;
+import com.commerce.domain.order.dto.OrderLineDto;
+import com.commerce.domain.order.dto.PlaceOrderDto;
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import com.epages.restdocs.apispec.Schema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
+import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.resourceDetails;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Transactional
+@AutoConfigureMockMvc
+@AutoConfigureRestDocs
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class OrderControllerTest {
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired CustomerRepository customerRepository;
+    @Autowired ProductRepository productRepository;
+    @Autowired OrderService orderService;
+    Faker faker = new Faker();
+
+    @DisplayName("POST - Created")
+    @Test
+    void placeOrder() throws Exception {
+        // given
+        Customer customer = saveCustomer();
+        Product first = saveProduct(10);
+        Product second = saveProduct(10);
+
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(
+                        OrderLineDto.builder().productId(first.getId()).quantity(1).build(),
+                        OrderLineDto.builder().productId(second.getId()).quantity(2).build()))
+                .build();
+
+        // when
+        mvc.perform(
+                        post("/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(placeOrderDto))
+                )
+                // then
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("orderId", notNullValue(Long.class)))
+                .andDo(
+                        document("order/post/created",
+                                resourceDetails()
+                                        .tag("order")
+                                        .description("주문한다. 모든 상품의 재고를 한 번에 차감하고, 하나라도 부족하면 주문하지 않는다.")
+                                        .requestSchema(new Schema("PlaceOrderDto"))
+                                        .responseSchema(new Schema("PlaceOrderResponse")),
+                                requestFields(
+                                        fieldWithPath("customerId").description("고객 고유값"),
+                                        fieldWithPath("lines[].productId").description("상품 고유값"),
+                                        fieldWithPath("lines[].quantity").description("수량")
+                                ),
+                                responseFields(
+                                        fieldWithPath("orderId").description("주문 고유값")
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("POST - BadRequest ( too large quantity )")
+    @Test
+    void placeOrderWithTooLargeQuantity() throws Exception {
+        // given
+        Customer customer = saveCustomer();
+        Product product = saveProduct(1);
+
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(OrderLineDto.builder().productId(product.getId()).quantity(Integer.MAX_VALUE).build()))
+                .build();
+
+        // when
+        mvc.perform(
+                        post("/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(placeOrderDto))
+                )
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("code", is("2")))
+                .andDo(document("order/post/bad-request/quantity", resourceDetails().tag("order")));
+    }
+
+    @DisplayName("POST - Conflict ( insufficient stock )")
+    @Test
+    void placeOrderWithInsufficientStock() throws Exception {
+        // given
+        Customer customer = saveCustomer();
+        Product product = saveProduct(1);
+
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(OrderLineDto.builder().productId(product.getId()).quantity(2).build()))
+                .build();
+
+        // when
+        mvc.perform(
+                        post("/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(placeOrderDto))
+                )
+                // then
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("code", is("8")))
+                .andExpect(jsonPath("field", is("lines")))
+                .andDo(
+                        document("order/post/conflict",
+                                resourceDetails()
+                                        .tag("order")
+                                        .requestSchema(new Schema("PlaceOrderDto"))
+                                        .responseSchema(new Schema("Error")),
+                                responseFields(
+                                        fieldWithPath("code").description("에러 코드"),
+                                        fieldWithPath("field").description("필드"),
+                                        fieldWithPath("message").description("메시지")
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("GET - Ok")
+    @Test
+    void findOrderById() throws Exception {
+        // given
+        Customer customer = saveCustomer();
+        Product product = saveProduct(10);
+        Long orderId = orderService.placeOrder(PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(OrderLineDto.builder().productId(product.getId()).quantity(3).build()))
+                .build());
+
+        // when
+        mvc.perform(get("/orders/{orderId}", orderId))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("orderId", is(orderId.intValue())))
+                .andExpect(jsonPath("status", is("PLACED")))
+                .andExpect(jsonPath("lines[*].productId", contains(product.getId().intValue())))
+                .andDo(
+                        document("order/get/ok",
+                                resourceDetails()
+                                        .tag("order")
+                                        .description("주문을 검색한다.")
+                                        .responseSchema(new Schema("FindOrderResponse")),
+                                responseFields(
+                                        fieldWithPath("orderId").description("주문 고유값"),
+                                        fieldWithPath("customerId").description("고객 고유값"),
+                                        fieldWithPath("status").description("주문 상태"),
+                                        fieldWithPath("totalPrice").description("총 금액"),
+                                        fieldWithPath("lines[].productId").description("상품 고유값"),
+                                        fieldWithPath("lines[].quantity").description("수량"),
+                                        fieldWithPath("lines[].price").description("주문 당시 단가")
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("GET - NotFound")
+    @Test
+    void findOrderByNotExistId() throws Exception {
+        // given
+        long orderId = Long.MAX_VALUE;
+
+        // when
+        mvc.perform(get("/orders/{orderId}", orderId))
+                // then
+                .andExpect(status().isNotFound())
+                .andDo(document("order/get/not-found", resourceDetails().tag("order")));
+    }
+
+    private Customer saveCustomer() {
+        return customerRepository.save(Customer.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+    }
+
+    private Product saveProduct(int stockQuantity) {
+        return productRepository.saveAndFlush(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(faker.random().nextInt(1, 1000))
+                .stockQuantity(stockQuantity)
+                .build());
+    }
+}
@@ -0,0 +1,110 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.customer.Customer;
+import com.commerce.domain.customer.CustomerRepository;
+import com.commerce.domain.order.dto.OrderLineDto;
+import com.commerce.domain.order.dto.PlaceOrderDto;
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-benchmark;MODE=MySQL;LOCK_TIMEOUT=10000",
+        "spring.datasource.hikari.maximum-pool-size=64",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+class OrderPlacementBenchmarkTest {
+    private static final int BUYERS = 64;
+    private static final int ORDERS_PER_BUYER = 50;
+    private static final int LINES_PER_ORDER = 10;
+
+    @Autowired private OrderService orderService;
+    @Autowired private CustomerRepository customerRepository;
+    @Autowired private ProductRepository productRepository;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("공유 상품에 몰리는 10개 항목 주문의 초당 처리량을 측정한다.")
+    @ParameterizedTest(name = "{0} shared SKUs")
+    @ValueSource(ints = {10, 100})
+    void placeOrderThroughput(int skuCount) throws Exception {
+        // given
+        int orders = BUYERS * ORDERS_PER_BUYER;
+        List<Long> productIds = new ArrayList<>(skuCount);
+        for (int i = 0; i < skuCount; i++) {
+            productIds.add(productRepository.save(Product.builder()
+                    .title(faker.commerce().productName())
+                    .description(faker.lorem().sentence())
+                    .image(faker.internet().image())
+                    .price(faker.random().nextInt(1, 1000))
+                    .stockQuantity(orders * LINES_PER_ORDER)
+                    .build()).getId());
+        }
+        Customer customer = customerRepository.save(Customer.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < BUYERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < ORDERS_PER_BUYER; j++) {
+                    orderService.placeOrder(cart(customer.getId(), productIds));
+                }
+                return null;
+            }));
+        }
+
+        // when
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        // then
+        System.out.printf("%d shared SKUs, %d buyers, %d-line carts: %.0f orders/sec%n",
+                skuCount, BUYERS, LINES_PER_ORDER, orders / (elapsed / 1_000_000_000.0));
+        long remaining = productRepository.findAllById(productIds).stream().mapToLong(Product::getStockQuantity).sum();
+        assertThat(remaining).isEqualTo((long) skuCount * orders * LINES_PER_ORDER - (long) orders * LINES_PER_ORDER);
+    }
+
+    /**
+     * Ten distinct products in random order, so concurrent carts overlap on shared SKUs without
+     * arriving pre-sorted.
+     */
+    private static PlaceOrderDto cart(Long customerId, List<Long> productIds) {
+        List<Long> shuffled = new ArrayList<>(productIds);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        return PlaceOrderDto.builder()
+                .customerId(customerId)
+                .lines(shuffled.subList(0, LINES_PER_ORDER).stream()
+                        .map(productId -> OrderLineDto.builder().productId(productId).quantity(1).build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.customer.Customer;
+import com.commerce.domain.customer.CustomerRepository;
+import com.commerce.domain.order.dto.FindOrderResponse;
+import com.commerce.domain.order.dto.OrderLineDto;
+import com.commerce.domain.order.dto.PlaceOrderDto;
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import com.commerce.domain.product.ProductStockBucketService;
+import com.commerce.exception.InsufficientStockException;
+import com.commerce.exception.NotFoundException;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+class OrderServiceTest {
+    @Autowired private OrderService orderService;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private CustomerRepository customerRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductStockBucketService productStockBucketService;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("주문하면 모든 상품의 재고를 차감하고 주문 항목을 저장한다.")
+    @Test
+    void placeOrder() {
+        // given
+        Customer customer = saveCustomer();
+        Product first = saveProduct(1000, 10);
+        Product second = saveProduct(2500, 5);
+
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(
+                        OrderLineDto.builder().productId(second.getId()).quantity(2).build(),
+                        OrderLineDto.builder().productId(first.getId()).quantity(3).build(),
+                        OrderLineDto.builder().productId(second.getId()).quantity(1).build()))
+                .build();
+
+        // when
+        Long orderId = orderService.placeOrder(placeOrderDto);
+
+        // then
+        FindOrderResponse order = orderService.findOrderById(orderId);
+        assertThat(order.getCustomerId()).isEqualTo(customer.getId());
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PLACED);
+        assertThat(order.getTotalPrice()).isEqualTo(3L * 1000 + 3L * 2500);
+        assertThat(order.getLines()).extracting("productId", "quantity", "price")
+                .containsExactly(tuple(first.getId(), 3, 1000), tuple(second.getId(), 3, 2500));
+        assertThat(productRepository.findById(first.getId()).orElseThrow().getStockQuantity()).isEqualTo(7);
+        assertThat(productRepository.findById(second.getId()).orElseThrow().getStockQuantity()).isEqualTo(2);
+    }
+
+    @DisplayName("재고가 부족한 상품이 하나라도 있으면 주문 전체를 되돌린다.")
+    @Test
+    void placeOrderWithInsufficientStock() {
+        // given
+        Customer customer = saveCustomer();
+        Product enough = saveProduct(1000, 10);
+        Product insufficient = saveProduct(1000, 1);
+        long orders = orderRepository.count();
+
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(
+                        OrderLineDto.builder().productId(enough.getId()).quantity(5).build(),
+                        OrderLineDto.builder().productId(insufficient.getId()).quantity(2).build()))
+                .build();
+
+        // when
+        assertThatThrownBy(() -> orderService.placeOrder(placeOrderDto))
+                // then
+                .isInstanceOf(InsufficientStockException.class)
+                .extracting("productId").isEqualTo(insufficient.getId());
+        assertThat(orderRepository.count()).isEqualTo(orders);
+        assertThat(productRepository.findById(enough.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+    }
+
+    @DisplayName("존재하지 않는 상품을 주문하면 NoResultException 예외가 발생한다.")
+    @Test
+    void placeOrderWithNotExistProduct() {
+        // given
+        Customer customer = saveCustomer();
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(OrderLineDto.builder().productId(Long.MAX_VALUE).quantity(1).build()))
+                .build();
+
+        // when
+        assertThatThrownBy(() -> orderService.placeOrder(placeOrderDto))
+                // then
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("product not found");
+    }
+
+    @DisplayName("재고가 버킷으로 나뉜 상품도 버킷에서 차감해 주문한다.")
+    @Test
+    void placeOrderWithSplitInventory() {
+        // given
+        Customer customer = saveCustomer();
+        Product split = saveProduct(1000, 10);
+        Product plain = saveProduct(2000, 10);
+        productStockBucketService.splitInventory(split.getId(), 4);
+
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(
+                        OrderLineDto.builder().productId(split.getId()).quantity(6).build(),
+                        OrderLineDto.builder().productId(plain.getId()).quantity(1).build()))
+                .build();
+
+        // when
+        Long orderId = orderService.placeOrder(placeOrderDto);
+
+        // then
+        assertThat(orderService.findOrderById(orderId).getTotalPrice()).isEqualTo(6L * 1000 + 2000);
+        assertThat(productRepository.findById(split.getId()).orElseThrow().getStockQuantity()).isEqualTo(4);
+        assertThat(productRepository.findById(plain.getId()).orElseThrow().getStockQuantity()).isEqualTo(9);
+    }
+
+    @DisplayName("버킷 재고가 부족하면 주문 전체를 되돌린다.")
+    @Test
+    void placeOrderWithInsufficientSplitInventory() {
+        // given
+        Customer customer = saveCustomer();
+        Product split = saveProduct(1000, 3);
+        productStockBucketService.splitInventory(split.getId(), 2);
+        long orders = orderRepository.count();
+
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(OrderLineDto.builder().productId(split.getId()).quantity(4).build()))
+                .build();
+
+        // when
+        assertThatThrownBy(() -> orderService.placeOrder(placeOrderDto))
+                // then
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(orderRepository.count()).isEqualTo(orders);
+        assertThat(productRepository.findById(split.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+    }
+
+    @DisplayName("같은 상품의 수량을 합칠 때 넘치면 주문하지 않는다.")
+    @Test
+    void placeOrderWithOverflowingQuantity() {
+        // given
+        Customer customer = saveCustomer();
+        Product product = saveProduct(1000, 10);
+
+        PlaceOrderDto placeOrderDto = PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(
+                        OrderLineDto.builder().productId(product.getId()).quantity(Integer.MAX_VALUE).build(),
+                        OrderLineDto.builder().productId(product.getId()).quantity(Integer.MAX_VALUE).build()))
+                .build();
+
+        // when
+        assertThatThrownBy(() -> orderService.placeOrder(placeOrderDto))
+                // then
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+    }
+
+    private Customer saveCustomer() {
+        return customerRepository.save(Customer.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+    }
+
+    private Product saveProduct(int price, int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(price)
+                .stockQuantity(stockQuantity)
+                .build());
+    }
+}
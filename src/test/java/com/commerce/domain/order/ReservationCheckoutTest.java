@@ -0,0 +1,118 @@
+package com.commerce.domain.order;
+
+import com.commerce.domain.customer.Customer;
+import com.commerce.domain.customer.CustomerRepository;
+import com.commerce.domain.order.dto.OrderLineDto;
+import com.commerce.domain.order.dto.PlaceOrderDto;
+import com.commerce.domain.product.Product;
+import com.commerce.domain.product.ProductRepository;
+import com.commerce.domain.product.StockReservationEngine;
+import com.commerce.exception.InsufficientStockException;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "commerce.order.checkout.mode=reservation",
+        "commerce.stock.reservation.flush-interval=PT1H"
+})
+class ReservationCheckoutTest {
+    @Autowired private OrderService orderService;
+    @Autowired private StockReservationEngine stockReservationEngine;
+    @Autowired private CustomerRepository customerRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private OrderRepository orderRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("예약한 재고로 주문하고, 반영되면 상품 재고가 차감된다.")
+    @Test
+    void placeOrder() {
+        // given
+        Customer customer = saveCustomer();
+        Product first = saveProduct(10);
+        Product second = saveProduct(5);
+
+        // when
+        Long orderId = orderService.placeOrder(order(customer, first, 3, second, 2));
+        stockReservationEngine.flush();
+
+        // then
+        assertThat(orderService.findOrderById(orderId).getStatus()).isEqualTo(OrderStatus.PLACED);
+        assertThat(productRepository.findById(first.getId()).orElseThrow().getStockQuantity()).isEqualTo(7);
+        assertThat(productRepository.findById(second.getId()).orElseThrow().getStockQuantity()).isEqualTo(3);
+    }
+
+    @DisplayName("예약할 수 없는 상품이 있으면 주문하지 않고 다른 상품의 예약도 돌려놓는다.")
+    @Test
+    void placeOrderWithInsufficientStock() {
+        // given
+        Customer customer = saveCustomer();
+        Product enough = saveProduct(10);
+        Product insufficient = saveProduct(1);
+        long orders = orderRepository.count();
+
+        // when
+        assertThatThrownBy(() -> orderService.placeOrder(order(customer, enough, 5, insufficient, 2)))
+                // then
+                .isInstanceOf(InsufficientStockException.class)
+                .extracting("productId").isEqualTo(insufficient.getId());
+        assertThat(orderRepository.count()).isEqualTo(orders);
+        assertThat(stockReservationEngine.available(enough.getId())).isEqualTo(10);
+    }
+
+    @DisplayName("반영할 때 데이터베이스가 재고를 거절하면 주문을 한 번만 취소한다.")
+    @Test
+    void placeOrderRefusedAtFlush() {
+        // given
+        Customer customer = saveCustomer();
+        Product first = saveProduct(10);
+        Product second = saveProduct(10);
+        Long orderId = orderService.placeOrder(order(customer, first, 4, second, 1));
+        jdbcTemplate.update("update product set stock_quantity = 2 where id = ?", first.getId());
+
+        // when
+        stockReservationEngine.flush();
+        jdbcTemplate.update("update product set stock_quantity = 6 where id = ?", first.getId());
+        stockReservationEngine.flush();
+
+        // then
+        assertThat(orderService.findOrderById(orderId).getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(productRepository.findById(first.getId()).orElseThrow().getStockQuantity()).isEqualTo(6);
+        assertThat(productRepository.findById(second.getId()).orElseThrow().getStockQuantity()).isEqualTo(9);
+    }
+
+    private PlaceOrderDto order(Customer customer, Product first, int firstQuantity, Product second, int secondQuantity) {
+        return PlaceOrderDto.builder()
+                .customerId(customer.getId())
+                .lines(List.of(
+                        OrderLineDto.builder().productId(first.getId()).quantity(firstQuantity).build(),
+                        OrderLineDto.builder().productId(second.getId()).quantity(secondQuantity).build()))
+                .build();
+    }
+
+    private Customer saveCustomer() {
+        return customerRepository.save(Customer.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+    }
+
+    private Product saveProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(1000)
+                .stockQuantity(stockQuantity)
+                .build());
+    }
+}
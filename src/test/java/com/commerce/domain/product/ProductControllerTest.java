@@ -0,0 +1,472 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.CreateProductDto;
+import com.commerce.domain.product.dto.SplitInventoryDto;
+import com.commerce.domain.seller.Seller;
+import com.commerce.domain.seller.SellerRepository;
+import com.commerce.support.QueryCountConfig;
+import com.epages.restdocs.apispec.Schema;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.FieldDescriptor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.commerce.support.QueryCountAssertions.assertSelectCount;
+import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@Import(QueryCountConfig.class)
+@Transactional
+@AutoConfigureMockMvc
+@AutoConfigureRestDocs
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+class ProductControllerTest {
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired ProductRepository productRepository;
+    @Autowired SellerRepository sellerRepository;
+    @Autowired ProductService productService;
+    @Autowired EntityManager entityManager;
+    Faker faker = new Faker();
+
+    @DisplayName("GET - Ok")
+    @Test
+    void findProducts() throws Exception {
+        // given
+        Seller seller = saveSeller();
+        saveProducts(seller, 3);
+
+        // when
+        mvc.perform(get("/products").param("size", "2"))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("products", hasSize(2)))
+                .andExpect(jsonPath("nextCursor", notNullValue()))
+                .andDo(
+                        document("product/get/ok",
+                                resourceDetails()
+                                        .tag("product")
+                                        .description("상품 목록을 최신순으로 조회한다. 다음 페이지는 nextCursor 로 조회한다.")
+                                        .responseSchema(new Schema("FindProductsResponse")),
+                                responseFields(
+                                        fieldWithPath("products[].id").description("상품 고유값"),
+                                        fieldWithPath("products[].sellerId").description("판매자 고유값").optional(),
+                                        fieldWithPath("products[].title").description("상품명"),
+                                        fieldWithPath("products[].image").description("이미지"),
+                                        fieldWithPath("products[].price").description("가격"),
+                                        fieldWithPath("products[].createdAt").description("등록일"),
+                                        fieldWithPath("nextCursor").description("다음 페이지 커서").optional()
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("GET - 판매자가 달라도 한 번의 select 로 조회한다.")
+    @Test
+    void findProductsWithoutNPlusOne() throws Exception {
+        // given
+        for (int i = 0; i < 10; i++) {
+            saveProducts(saveSeller(), 1);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        assertSelectCount(1, () -> mvc.perform(get("/products").param("size", "10"))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("products", hasSize(10))));
+    }
+
+    @DisplayName("GET detail - Ok")
+    @Test
+    void findProduct() throws Exception {
+        // given
+        Seller seller = saveSeller();
+        Product product = saveProducts(seller, 1).get(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        assertSelectCount(1, () -> mvc.perform(get("/products/{productId}", product.getId()))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("id", is(product.getId().intValue())))
+                .andExpect(jsonPath("sellerId", is(seller.getId().intValue())))
+                .andExpect(jsonPath("title", is(product.getTitle())))
+                .andExpect(jsonPath("stockQuantity", is(product.getStockQuantity())))
+                .andDo(
+                        document("product/get/detail/ok",
+                                resourceDetails()
+                                        .tag("product")
+                                        .description("상품을 조회한다.")
+                                        .responseSchema(new Schema("FindProductResponse")),
+                                responseFields(
+                                        fieldWithPath("id").description("상품 고유값"),
+                                        fieldWithPath("sellerId").description("판매자 고유값"),
+                                        fieldWithPath("title").description("상품명"),
+                                        fieldWithPath("description").description("상품 설명"),
+                                        fieldWithPath("image").description("이미지"),
+                                        fieldWithPath("price").description("가격"),
+                                        fieldWithPath("stockQuantity").description("재고 수량")
+                                )
+                        )
+                ));
+    }
+
+    @DisplayName("GET detail - NotFound")
+    @Test
+    void findProductByNotExistId() throws Exception {
+        // given
+        long productId = 100000L;
+
+        // when
+        mvc.perform(get("/products/{productId}", productId))
+                // then
+                .andExpect(status().isNotFound())
+                .andDo(document("product/get/detail/not-found", resourceDetails().tag("product")));
+    }
+
+    @DisplayName("GET seller products - Ok")
+    @Test
+    void findSellerProducts() throws Exception {
+        // given
+        Seller seller = saveSeller();
+        List<Product> products = saveProducts(seller, 5);
+        saveProducts(saveSeller(), 2);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        assertSelectCount(2, () -> mvc.perform(get("/sellers/{sellerId}/products", seller.getId()).param("size", "2")));
+
+        List<Long> productIds = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/sellers/{sellerId}/products", seller.getId()).param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+
+            page.get("products").forEach(product -> productIds.add(product.get("id").asLong()));
+            cursor = page.get("nextCursor").isNull() ? null : page.get("nextCursor").asText();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).isEqualTo(3);
+        assertThat(productIds).containsExactly(
+                products.get(4).getId(),
+                products.get(3).getId(),
+                products.get(2).getId(),
+                products.get(1).getId(),
+                products.get(0).getId());
+    }
+
+    @DisplayName("GET seller products - NotFound")
+    @Test
+    void findProductsByNotExistSeller() throws Exception {
+        // given
+        long sellerId = 100000L;
+
+        // when
+        mvc.perform(get("/sellers/{sellerId}/products", sellerId))
+                // then
+                .andExpect(status().isNotFound())
+                .andDo(document("product/get/seller/not-found", resourceDetails().tag("product")));
+    }
+
+    @DisplayName("GET - BadRequest ( invalid cursor )")
+    @Test
+    void findProductsByInvalidCursor() throws Exception {
+        // when
+        mvc.perform(get("/products").param("cursor", "not-a-cursor"))
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("field", is("cursor")))
+                .andDo(
+                        document("product/get/bad-request/cursor",
+                                resourceDetails()
+                                        .tag("product")
+                                        .responseSchema(new Schema("CustomErrorResponse")),
+                                responseFields(
+                                        fieldWithPath("code").description("에러 코드"),
+                                        fieldWithPath("field").description("필드"),
+                                        fieldWithPath("message").description("메시지")
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("GET search - Ok")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void searchProducts() throws Exception {
+        // given
+        String brand = "검색" + faker.number().digits(8);
+        Seller seller = saveSeller();
+        Long productId = productService.createProduct(seller.getId(), createProductDto(brand + "운동화", 59000));
+        productService.createProduct(seller.getId(), createProductDto(brand + "운동화 한정판", 990000));
+        productService.createProduct(seller.getId(), createProductDto(brand + "슬리퍼", 19000));
+
+        // when
+        mvc.perform(get("/products/search")
+                        .param("q", brand + " 운동화")
+                        .param("maxPrice", "100000")
+                        .param("sellerId", seller.getId().toString()))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("products", hasSize(1)))
+                .andExpect(jsonPath("products[0].id", is(productId.intValue())))
+                .andDo(
+                        document("product/get/search/ok",
+                                resourceDetails()
+                                        .tag("product")
+                                        .description("상품명과 설명으로 상품을 검색한다. 관련도가 높은 순서로 반환한다.")
+                                        .responseSchema(new Schema("SearchProductsResponse")),
+                                responseFields(
+                                        fieldWithPath("products[].id").description("상품 고유값"),
+                                        fieldWithPath("products[].sellerId").description("판매자 고유값").optional(),
+                                        fieldWithPath("products[].title").description("상품명"),
+                                        fieldWithPath("products[].price").description("가격"),
+                                        fieldWithPath("products[].score").description("관련도 점수")
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("GET search suggestions - Ok")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void suggestProducts() throws Exception {
+        // given
+        String prefix = "추천" + faker.number().digits(8);
+        Seller seller = saveSeller();
+        productService.createProduct(seller.getId(), createProductDto(prefix + "가방 블랙", 30000));
+        productService.createProduct(seller.getId(), createProductDto(prefix + "가방 화이트", 30000));
+        productService.createProduct(seller.getId(), createProductDto(prefix + "모자", 10000));
+
+        // when
+        mvc.perform(get("/products/search/suggestions").param("prefix", prefix))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("suggestions", contains(prefix + "가방", prefix + "모자")))
+                .andDo(
+                        document("product/get/search/suggestions/ok",
+                                resourceDetails()
+                                        .tag("product")
+                                        .description("접두어로 시작하는 상품명 단어를 추천한다.")
+                                        .responseSchema(new Schema("SuggestProductsResponse")),
+                                responseFields(
+                                        fieldWithPath("suggestions").description("추천 검색어")
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("POST import - Accepted")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Test
+    void importProducts() throws Exception {
+        // given
+        Seller seller = saveSeller();
+        String csv = """
+                title,description,image,price,stockQuantity
+                운동화,러닝화,image.png,59000,10
+                슬리퍼,,image.png,19000,0
+                """;
+
+        // when
+        String content = mvc.perform(post("/sellers/{sellerId}/products/imports", seller.getId())
+                        .contentType(ProductImportFormat.TEXT_CSV_VALUE)
+                        .content(csv))
+                // then
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("id", notNullValue()))
+                .andExpect(jsonPath("sellerId", is(seller.getId().intValue())))
+                .andDo(
+                        document("product/post/import/accepted",
+                                resourceDetails()
+                                        .tag("product")
+                                        .description("CSV 또는 NDJSON 파일로 상품을 일괄 등록한다. 등록은 비동기로 진행되며 작업 고유값으로 진행 상황을 조회한다.")
+                                        .responseSchema(new Schema("ProductImportJobResponse")),
+                                responseFields(importJobFields())
+                        )
+                )
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(content).get("id").asText();
+
+        JsonNode job;
+        int polls = 0;
+        do {
+            Thread.sleep(50);
+            job = objectMapper.readTree(mvc.perform(get("/products/imports/{jobId}", jobId))
+                    .andReturn().getResponse().getContentAsString());
+        } while (!job.get("status").asText().equals("COMPLETED") && ++polls < 100);
+
+        mvc.perform(get("/products/imports/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status", is("COMPLETED")))
+                .andExpect(jsonPath("importedRows", is(1)))
+                .andExpect(jsonPath("failedRows", is(1)))
+                .andExpect(jsonPath("errors[0].line", is(3)))
+                .andDo(
+                        document("product/get/import/ok",
+                                resourceDetails()
+                                        .tag("product")
+                                        .description("상품 일괄 등록 작업의 진행 상황과 줄 단위 오류를 조회한다.")
+                                        .responseSchema(new Schema("ProductImportJobResponse")),
+                                responseFields(importJobFields())
+                        )
+                );
+    }
+
+    @DisplayName("GET import - NotFound")
+    @Test
+    void findImportJobByNotExistId() throws Exception {
+        // when
+        mvc.perform(get("/products/imports/{jobId}", "not-exist"))
+                // then
+                .andExpect(status().isNotFound())
+                .andDo(document("product/get/import/not-found", resourceDetails().tag("product")));
+    }
+
+    private static FieldDescriptor[] importJobFields() {
+        return new FieldDescriptor[]{
+                fieldWithPath("id").description("작업 고유값"),
+                fieldWithPath("sellerId").description("판매자 고유값"),
+                fieldWithPath("status").description("작업 상태 (QUEUED, RUNNING, COMPLETED, FAILED)"),
+                fieldWithPath("processedRows").description("처리한 줄 수"),
+                fieldWithPath("importedRows").description("등록한 상품 수"),
+                fieldWithPath("failedRows").description("실패한 줄 수"),
+                fieldWithPath("errors").description("줄 단위 오류 (최대 100개)"),
+                fieldWithPath("errors[].line").description("줄 번호").optional(),
+                fieldWithPath("errors[].field").description("필드").optional(),
+                fieldWithPath("errors[].message").description("메시지").optional(),
+                fieldWithPath("message").description("작업 실패 사유").optional()
+        };
+    }
+
+    private CreateProductDto createProductDto(String title, int price) {
+        return CreateProductDto.builder()
+                .title(title)
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(price)
+                .stockQuantity(10)
+                .build();
+    }
+
+    @DisplayName("PUT stock buckets - NoContent")
+    @Test
+    void splitInventory() throws Exception {
+        // given
+        Seller seller = saveSeller();
+        Product product = saveProducts(seller, 1).get(0);
+        int stockQuantity = product.getStockQuantity();
+        SplitInventoryDto splitInventoryDto = SplitInventoryDto.builder()
+                .bucketCount(4)
+                .build();
+
+        // when
+        mvc.perform(put("/sellers/{sellerId}/products/{productId}/stock-buckets", seller.getId(), product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(splitInventoryDto)))
+                // then
+                .andExpect(status().isNoContent())
+                .andDo(
+                        document("product/put/stock-buckets/no-content",
+                                resourceDetails()
+                                        .tag("product")
+                                        .description("상품 재고를 여러 버킷으로 나눠 동시 주문의 잠금 경합을 줄인다. 이미 나눈 재고는 새 버킷 수로 다시 나눈다.")
+                                        .requestSchema(new Schema("SplitInventoryDto")),
+                                requestFields(
+                                        fieldWithPath("bucketCount").description("버킷 수 (1 ~ 256)")
+                                )
+                        )
+                );
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(productService.findProductByProductId(product.getId()).getStockQuantity()).isEqualTo(stockQuantity);
+    }
+
+    @DisplayName("PUT stock buckets - NotFound ( other seller )")
+    @Test
+    void splitInventoryOfOtherSeller() throws Exception {
+        // given
+        Product product = saveProducts(saveSeller(), 1).get(0);
+        Seller otherSeller = saveSeller();
+
+        // when
+        mvc.perform(put("/sellers/{sellerId}/products/{productId}/stock-buckets", otherSeller.getId(), product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(SplitInventoryDto.builder().bucketCount(4).build())))
+                // then
+                .andExpect(status().isNotFound())
+                .andDo(document("product/put/stock-buckets/not-found", resourceDetails().tag("product")));
+    }
+
+    @DisplayName("PUT stock buckets - BadRequest ( bucketCount )")
+    @Test
+    void splitInventoryWithInvalidBucketCount() throws Exception {
+        // given
+        Seller seller = saveSeller();
+        Product product = saveProducts(seller, 1).get(0);
+
+        // when
+        mvc.perform(put("/sellers/{sellerId}/products/{productId}/stock-buckets", seller.getId(), product.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(SplitInventoryDto.builder().bucketCount(0).build())))
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("field", is("bucketCount")))
+                .andExpect(jsonPath("code", is("2")))
+                .andDo(document("product/put/stock-buckets/bad-request", resourceDetails().tag("product")));
+    }
+
+    private Seller saveSeller() {
+        return sellerRepository.save(Seller.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+    }
+
+    private List<Product> saveProducts(Seller seller, int count) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(productRepository.save(Product.builder()
+                    .seller(seller)
+                    .title(faker.commerce().productName())
+                    .description(faker.lorem().sentence())
+                    .image(faker.internet().image())
+                    .price(faker.random().nextInt(1, 1000))
+                    .stockQuantity(faker.random().nextInt(1, 1000))
+                    .build()));
+        }
+        return products;
+    }
+}
@@ -0,0 +1,36 @@
+package com.commerce.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCsvReaderTest {
+
+    @DisplayName("따옴표 안의 쉼표, 따옴표, 줄바꿈을 하나의 필드로 읽는다.")
+    @Test
+    void readQuotedFields() throws Exception {
+        // given
+        ProductCsvReader reader = new ProductCsvReader(new StringReader(
+                "title,description,price\r\n" +
+                "\"운동화, 화이트\",\"\"\"한정판\"\"\n두 줄 설명\",1000\n" +
+                "모자,,500"));
+
+        // when
+        var header = reader.next();
+        var first = reader.next();
+        long firstLine = reader.recordLine();
+        var second = reader.next();
+        long secondLine = reader.recordLine();
+
+        // then
+        assertThat(header).containsExactly("title", "description", "price");
+        assertThat(first).containsExactly("운동화, 화이트", "\"한정판\"\n두 줄 설명", "1000");
+        assertThat(firstLine).isEqualTo(2);
+        assertThat(second).containsExactly("모자", "", "500");
+        assertThat(secondLine).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+}
@@ -0,0 +1,127 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.ProductImportError;
+import com.commerce.domain.product.dto.ProductImportJobResponse;
+import com.commerce.domain.product.dto.ProductSummaryDto;
+import com.commerce.domain.seller.Seller;
+import com.commerce.domain.seller.SellerRepository;
+import jakarta.persistence.NoResultException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {"commerce.product.import.chunk-size=3", "commerce.product.import.flush-size=2"})
+class ProductImportServiceTest {
+    @Autowired private ProductImportService productImportService;
+    @Autowired private ProductService productService;
+    @Autowired private SellerRepository sellerRepository;
+
+    @DisplayName("CSV 파일의 상품을 등록하고 잘못된 줄은 오류로 보고한다.")
+    @Test
+    void importCsv() throws Exception {
+        // given
+        Seller seller = saveSeller();
+        String csv = """
+                title,description,image,price,stockQuantity
+                운동화,"가볍고, 편한",image.png,59000,10
+                슬리퍼,,image.png,19000,0
+                모자,여름용,image.png,abc,5
+                가방,,image.png,30000,3
+                양말,,image.png,3000,100
+                """;
+
+        // when
+        ProductImportJobResponse job = awaitJob(productImportService.submit(seller.getId(), ProductImportFormat.CSV, body(csv)).getId());
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ProductImportJobResponse.Status.COMPLETED);
+        assertThat(job.getProcessedRows()).isEqualTo(5);
+        assertThat(job.getImportedRows()).isEqualTo(3);
+        assertThat(job.getFailedRows()).isEqualTo(2);
+        assertThat(job.getErrors()).extracting(ProductImportError::getLine).containsExactly(3L, 4L);
+        assertThat(job.getErrors().get(0).getField()).isEqualTo("stockQuantity");
+        assertThat(productService.findProducts(seller.getId(), null, 10).getProducts())
+                .extracting(ProductSummaryDto::getTitle)
+                .containsExactlyInAnyOrder("운동화", "가방", "양말");
+    }
+
+    @DisplayName("NDJSON 파일의 상품을 등록한다.")
+    @Test
+    void importNdjson() throws Exception {
+        // given
+        Seller seller = saveSeller();
+        String ndjson = """
+                {"title":"키보드","price":50000,"stockQuantity":5}
+
+                {"title":"마우스","price":20000,"stockQuantity":7}
+                {"title":
+                """;
+
+        // when
+        ProductImportJobResponse job = awaitJob(productImportService.submit(seller.getId(), ProductImportFormat.NDJSON, body(ndjson)).getId());
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ProductImportJobResponse.Status.COMPLETED);
+        assertThat(job.getImportedRows()).isEqualTo(2);
+        assertThat(job.getErrors()).singleElement()
+                .satisfies(error -> {
+                    assertThat(error.getLine()).isEqualTo(4);
+                    assertThat(error.getMessage()).isEqualTo("malformed json");
+                });
+        assertThat(productService.searchProducts("키보드", null, null, seller.getId(), 10).getProducts()).hasSize(1);
+    }
+
+    @DisplayName("헤더가 없는 CSV 파일은 작업을 실패로 끝낸다.")
+    @Test
+    void importCsvWithoutHeader() throws Exception {
+        // given
+        Seller seller = saveSeller();
+
+        // when
+        ProductImportJobResponse job = awaitJob(productImportService.submit(seller.getId(), ProductImportFormat.CSV, body("운동화,59000,10\n")).getId());
+
+        // then
+        assertThat(job.getStatus()).isEqualTo(ProductImportJobResponse.Status.FAILED);
+        assertThat(job.getMessage()).isNotBlank();
+        assertThat(job.getImportedRows()).isZero();
+    }
+
+    @DisplayName("존재하지 않는 판매자의 상품은 등록할 수 없다.")
+    @Test
+    void importForNotExistSeller() {
+        // when
+        assertThatThrownBy(() -> productImportService.submit(100000L, ProductImportFormat.CSV, body("title,price,stockQuantity\n")))
+                // then
+                .isInstanceOf(NoResultException.class);
+    }
+
+    private Seller saveSeller() {
+        return sellerRepository.save(Seller.builder()
+                .name("import")
+                .address("import")
+                .build());
+    }
+
+    private static ByteArrayInputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ProductImportJobResponse awaitJob(String jobId) throws InterruptedException {
+        List<ProductImportJobResponse.Status> finished = List.of(ProductImportJobResponse.Status.COMPLETED, ProductImportJobResponse.Status.FAILED);
+        for (int i = 0; i < 100; i++) {
+            ProductImportJobResponse job = productImportService.findJob(jobId);
+            if (finished.contains(job.getStatus())) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("import " + jobId + " did not finish");
+    }
+}
@@ -0,0 +1,131 @@
+package com.commerce.domain.product;
+
+import com.commerce.domain.product.dto.ProductSearchHit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductInvertedIndexTest {
+    private final ProductInvertedIndex index = new ProductInvertedIndex(2.0f, 500);
+
+    @DisplayName("붙여 쓴 한글 상품명도 일부 단어로 검색된다.")
+    @Test
+    void searchKoreanCompound() {
+        // given
+        index.put(new ProductDocument(1L, 10L, "나이키운동화 에어맥스", "가벼운 러닝화", 89000));
+        index.put(new ProductDocument(2L, 10L, "아디다스 슬리퍼", "여름용", 29000));
+
+        // when
+        List<ProductSearchHit> hits = index.search("운동화", null, 10);
+
+        // then
+        assertThat(hits).extracting(ProductSearchHit::getId).containsExactly(1L);
+    }
+
+    @DisplayName("한 글자 한글 검색어도 그 글자가 들어간 상품명과 일치한다.")
+    @Test
+    void searchKoreanSyllable() {
+        // given
+        index.put(new ProductDocument(1L, 10L, "나이키운동화", "가벼운 러닝화", 89000));
+        index.put(new ProductDocument(2L, 10L, "가죽 구두", "정장용", 129000));
+
+        // when
+        List<ProductSearchHit> hits = index.search("화", null, 10);
+
+        // then
+        assertThat(hits).extracting(ProductSearchHit::getId).containsExactly(1L);
+    }
+
+    @DisplayName("제목에 검색어가 있는 상품이 설명에만 있는 상품보다 먼저 나온다.")
+    @Test
+    void rankTitleMatchesFirst() {
+        // given
+        index.put(new ProductDocument(1L, 10L, "면 티셔츠", "여름 반팔 노트북 파우치 증정", 19000));
+        index.put(new ProductDocument(2L, 10L, "노트북 파우치", "13인치", 25000));
+        index.put(new ProductDocument(3L, 10L, "무선 마우스", "사무용", 15000));
+
+        // when
+        List<ProductSearchHit> hits = index.search("노트북 파우치", null, 10);
+
+        // then
+        assertThat(hits).extracting(ProductSearchHit::getId).containsExactly(2L, 1L);
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+    }
+
+    @DisplayName("가격 범위와 판매자로 검색 결과를 거른다.")
+    @Test
+    void searchWithFilter() {
+        // given
+        index.put(new ProductDocument(1L, 10L, "keyboard", "mechanical", 50000));
+        index.put(new ProductDocument(2L, 20L, "keyboard", "membrane", 20000));
+        index.put(new ProductDocument(3L, 10L, "keyboard", "wireless", 90000));
+
+        // when
+        List<ProductSearchHit> byPrice = index.search("Keyboard", new ProductSearchFilter(10000, 60000, null), 10);
+        List<ProductSearchHit> bySeller = index.search("keyboard", new ProductSearchFilter(null, null, 10L), 10);
+
+        // then
+        assertThat(byPrice).extracting(ProductSearchHit::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(bySeller).extracting(ProductSearchHit::getId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @DisplayName("수정된 상품은 새 내용으로, 삭제된 상품은 더 이상 검색되지 않는다.")
+    @Test
+    void replaceAndRemove() {
+        // given
+        index.put(new ProductDocument(1L, 10L, "캠핑 의자", "접이식", 30000));
+        index.put(new ProductDocument(2L, 10L, "캠핑 테이블", "접이식", 50000));
+
+        // when
+        index.put(new ProductDocument(1L, 10L, "낚시 의자", "접이식", 30000));
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("캠핑", null, 10)).isEmpty();
+        assertThat(index.search("낚시", null, 10)).extracting(ProductSearchHit::getTitle).containsExactly("낚시 의자");
+        assertThat(index.suggest("캠", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @DisplayName("삭제된 문서가 쌓이면 색인을 압축하고 남은 상품은 그대로 검색된다.")
+    @Test
+    void compactTombstones() {
+        // given
+        index.put(new ProductDocument(1L, 10L, "캠핑 의자", "접이식", 30000));
+        for (long id = 2; id <= 2_000; id++) {
+            index.put(new ProductDocument(id, 10L, "캠핑 테이블 " + id, "접이식", 50000));
+        }
+
+        // when
+        for (long id = 2; id <= 2_000; id++) {
+            index.remove(id);
+        }
+        index.put(new ProductDocument(2_001L, 20L, "캠핑 랜턴", "충전식", 20000));
+
+        // then
+        assertThat(index.tombstones()).isLessThan(1_024);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("캠핑", null, 10)).extracting(ProductSearchHit::getId).containsExactlyInAnyOrder(1L, 2_001L);
+        assertThat(index.search("랜턴", new ProductSearchFilter(null, null, 20L), 10))
+                .extracting(ProductSearchHit::getTitle).containsExactly("캠핑 랜턴");
+    }
+
+    @DisplayName("접두어로 시작하는 상품명 단어를 많이 쓰인 순서로 추천한다.")
+    @Test
+    void suggest() {
+        // given
+        index.put(new ProductDocument(1L, 10L, "운동화 화이트", null, 10000));
+        index.put(new ProductDocument(2L, 10L, "운동화 블랙", null, 10000));
+        index.put(new ProductDocument(3L, 10L, "운동복 세트", null, 10000));
+        index.put(new ProductDocument(4L, 10L, "수영복", null, 10000));
+
+        // when
+        List<String> suggestions = index.suggest("운동", 10);
+
+        // then
+        assertThat(suggestions).containsExactly("운동화", "운동복");
+    }
+}
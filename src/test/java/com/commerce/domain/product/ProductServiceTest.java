@@ -1,8 +1,10 @@
 package com.commerce.domain.product;
 
 import com.commerce.domain.product.dto.CreateProductDto;
+import com.commerce.domain.product.dto.FindProductResponse;
 import com.commerce.domain.seller.Seller;
 import com.commerce.domain.seller.SellerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import net.datafaker.Faker;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +22,7 @@ class ProductServiceTest {
     @Autowired private ProductRepository productRepository;
     @Autowired private ProductService productService;
     @Autowired private SellerRepository sellerRepository;
+    @Autowired private MeterRegistry meterRegistry;
 
     private final Faker faker = new Faker();
 
@@ -74,7 +77,7 @@ class ProductServiceTest {
         productRepository.save(product);
 
         // when
-        Product findProduct = productService.findProductByProductId(product.getId());
+        FindProductResponse findProduct = productService.findProductByProductId(product.getId());
 
         // then
         assertThat(findProduct.getId()).isEqualTo(product.getId());
@@ -85,6 +88,28 @@ class ProductServiceTest {
         assertThat(findProduct.getStockQuantity()).isEqualTo(product.getStockQuantity());
     }
 
+    @DisplayName("재고를 차감하면 커밋 후 재고 차감 지표가 증가한다.")
+    @Test
+    void decreaseStockQuantityCountsDecrement() {
+        // given
+        Product product = productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(1000)
+                .stockQuantity(10)
+                .build());
+        double decrements = meterRegistry.counter("commerce.product.stock.decrements").count();
+        double quantity = meterRegistry.counter("commerce.product.stock.decremented.quantity").count();
+
+        // when
+        productService.decreaseStockQuantity(product.getId(), 3);
+
+        // then
+        assertThat(meterRegistry.counter("commerce.product.stock.decrements").count()).isEqualTo(decrements + 1);
+        assertThat(meterRegistry.counter("commerce.product.stock.decremented.quantity").count()).isEqualTo(quantity + 3);
+    }
+
     @Test
     void queryDslTest() {
 
@@ -0,0 +1,78 @@
+package com.commerce.domain.product;
+
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=64",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate=WARN"
+})
+class ProductStockBucketBenchmarkTest {
+    private static final int WRITERS = 64;
+    private static final int DECREASES_PER_WRITER = 200;
+
+    @Autowired private ProductStockBucketService productStockBucketService;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductService productService;
+
+    private final Faker faker = new Faker();
+
+    @DisplayName("버킷 수에 따른 재고 차감 처리량을 측정한다.")
+    @ParameterizedTest(name = "{0} bucket(s)")
+    @ValueSource(ints = {1, 16})
+    void decreaseQuantityThroughput(int bucketCount) throws Exception {
+        // given
+        int stock = WRITERS * DECREASES_PER_WRITER;
+        Product product = productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(faker.random().nextInt(1, 1000))
+                .stockQuantity(stock)
+                .build());
+        productStockBucketService.splitInventory(product.getId(), bucketCount);
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < DECREASES_PER_WRITER; j++) {
+                    productStockBucketService.decreaseQuantity(product.getId(), 1);
+                }
+                return null;
+            }));
+        }
+
+        // when
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        // then
+        System.out.printf("%d bucket(s), %d writers: %.0f decreases/sec%n",
+                bucketCount, WRITERS, stock / (elapsed / 1_000_000_000.0));
+        assertThat(productService.findProductByProductId(product.getId()).getStockQuantity()).isZero();
+    }
+}
@@ -0,0 +1,162 @@
+package com.commerce.domain.product;
+
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+class ProductStockBucketServiceTest {
+    @Autowired private ProductStockBucketService productStockBucketService;
+    @Autowired private ProductStockBucketRepository productStockBucketRepository;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductService productService;
+
+    private final Faker faker = new Faker();
+
+    private Product saveProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(faker.random().nextInt(1, 1000))
+                .stockQuantity(stockQuantity)
+                .build());
+    }
+
+    private List<Integer> bucketQuantities(Long productId) {
+        return productStockBucketRepository.findAll().stream()
+                .filter(bucket -> bucket.getProduct().getId().equals(productId))
+                .map(ProductStockBucket::getQuantity)
+                .toList();
+    }
+
+    @DisplayName("상품 재고를 여러 버킷으로 나눈다.")
+    @Test
+    void splitInventory() {
+        // given
+        Product product = saveProduct(10);
+
+        // when
+        productStockBucketService.splitInventory(product.getId(), 4);
+
+        // then
+        assertThat(bucketQuantities(product.getId())).containsExactlyInAnyOrder(3, 3, 2, 2);
+        assertThat(productService.findProductByProductId(product.getId()).getStockQuantity()).isEqualTo(10);
+    }
+
+    @DisplayName("버킷 재고를 차감하면 상품 재고 합계에 반영된다.")
+    @Test
+    void decreaseQuantity() {
+        // given
+        Product product = saveProduct(10);
+        productStockBucketService.splitInventory(product.getId(), 4);
+
+        // when
+        productStockBucketService.decreaseQuantity(product.getId(), 2);
+        productStockBucketService.decreaseQuantity(product.getId(), 5);
+
+        // then
+        assertThat(productService.findProductByProductId(product.getId()).getStockQuantity()).isEqualTo(3);
+    }
+
+    @DisplayName("버킷 재고 합계보다 많이 차감할 수 없다.")
+    @Test
+    void decreaseQuantityInsufficient() {
+        // given
+        Product product = saveProduct(10);
+        productStockBucketService.splitInventory(product.getId(), 4);
+
+        // when
+        assertThatThrownBy(() -> productStockBucketService.decreaseQuantity(product.getId(), 11))
+                // then
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(productService.findProductByProductId(product.getId()).getStockQuantity()).isEqualTo(10);
+    }
+
+    @DisplayName("비어있는 버킷이 생기면 재고를 다시 고르게 나눈다.")
+    @Test
+    void rebalance() {
+        // given
+        Product product = saveProduct(8);
+        productStockBucketService.splitInventory(product.getId(), 4);
+        productStockBucketService.decreaseQuantity(product.getId(), 2);
+        productStockBucketService.decreaseQuantity(product.getId(), 2);
+
+        // when
+        productStockBucketService.rebalance();
+
+        // then
+        assertThat(bucketQuantities(product.getId())).containsExactlyInAnyOrder(1, 1, 1, 1);
+    }
+
+    @DisplayName("이미 나눈 재고를 다른 버킷 수로 다시 나눈다.")
+    @Test
+    void resplitInventory() {
+        // given
+        Product product = saveProduct(10);
+        productStockBucketService.splitInventory(product.getId(), 4);
+        productStockBucketService.decreaseQuantity(product.getId(), 3);
+
+        // when
+        productStockBucketService.splitInventory(product.getId(), 2);
+        List<Integer> shrunk = bucketQuantities(product.getId());
+        productStockBucketService.splitInventory(product.getId(), 3);
+        productStockBucketService.decreaseQuantity(product.getId(), 1);
+
+        // then
+        assertThat(shrunk).containsExactlyInAnyOrder(4, 3);
+        assertThat(bucketQuantities(product.getId())).hasSize(3);
+        assertThat(productService.findProductByProductId(product.getId()).getStockQuantity()).isEqualTo(6);
+    }
+
+    @DisplayName("동시에 차감해도 초과 판매되지 않는다.")
+    @Test
+    void decreaseQuantityConcurrently() throws Exception {
+        // given
+        int stock = 200;
+        int threads = 16;
+        Product product = saveProduct(stock);
+        productStockBucketService.splitInventory(product.getId(), 8);
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 20; j++) {
+                    try {
+                        productStockBucketService.decreaseQuantity(product.getId(), 1);
+                        sold.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // sold out
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(sold.get()).isEqualTo(stock);
+        assertThat(productService.findProductByProductId(product.getId()).getStockQuantity()).isZero();
+    }
+}
@@ -0,0 +1,182 @@
+package com.commerce.domain.product;
+
+import net.datafaker.Faker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "commerce.stock.reservation.flush-interval=PT1H")
+@RecordApplicationEvents
+class StockReservationEngineTest {
+    @Autowired private ApplicationEvents events;
+    @Autowired private StockReservationEngine stockReservationEngine;
+    @Autowired private ProductRepository productRepository;
+    @Autowired private ProductService productService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private final Faker faker = new Faker();
+
+    private Product saveProduct(int stockQuantity) {
+        return productRepository.save(Product.builder()
+                .title(faker.commerce().productName())
+                .description(faker.lorem().sentence())
+                .image(faker.internet().image())
+                .price(faker.random().nextInt(1, 1000))
+                .stockQuantity(stockQuantity)
+                .build());
+    }
+
+    @DisplayName("재고를 예약하고 확정하면 상품 재고에 반영된다.")
+    @Test
+    void reserveAndConfirm() {
+        // given
+        Product product = saveProduct(10);
+
+        // when
+        StockReservation reservation = stockReservationEngine.reserve(product.getId(), 3).orElseThrow();
+        stockReservationEngine.confirm(reservation.getId());
+        stockReservationEngine.flush();
+
+        // then
+        assertThat(stockReservationEngine.available(product.getId())).isEqualTo(7);
+        assertThat(productRepository.findById(product.getId()).get().getStockQuantity()).isEqualTo(7);
+    }
+
+    @DisplayName("예약을 취소하면 재고가 돌아온다.")
+    @Test
+    void reserveAndCancel() {
+        // given
+        Product product = saveProduct(10);
+        StockReservation reservation = stockReservationEngine.reserve(product.getId(), 4).orElseThrow();
+
+        // when
+        stockReservationEngine.cancel(reservation.getId());
+
+        // then
+        assertThat(stockReservationEngine.available(product.getId())).isEqualTo(10);
+        assertThatThrownBy(() -> stockReservationEngine.confirm(reservation.getId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("재고보다 많이 예약할 수 없다.")
+    @Test
+    void reserveInsufficient() {
+        // given
+        Product product = saveProduct(5);
+
+        // when
+        Optional<StockReservation> reservation = stockReservationEngine.reserve(product.getId(), 6);
+
+        // then
+        assertThat(reservation).isEmpty();
+        assertThat(stockReservationEngine.available(product.getId())).isEqualTo(5);
+    }
+
+    @DisplayName("동시에 예약해도 초과 판매되지 않는다.")
+    @Test
+    void reserveConcurrently() throws Exception {
+        // given
+        int stock = 2_000;
+        int threads = 64;
+        Product product = saveProduct(stock);
+        ConcurrentLinkedQueue<StockReservation> reserved = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 100; j++) {
+                    stockReservationEngine.reserve(product.getId(), 1).ifPresent(reserved::add);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        reserved.forEach(reservation -> stockReservationEngine.confirm(reservation.getId()));
+        stockReservationEngine.flush();
+
+        // then
+        assertThat(reserved).hasSize(stock);
+        assertThat(stockReservationEngine.available(product.getId())).isZero();
+        assertThat(productRepository.findById(product.getId()).get().getStockQuantity()).isZero();
+    }
+
+    @DisplayName("엔진 밖에서 차감된 재고는 카운터에서도 빠진다.")
+    @Test
+    void reconcile() {
+        // given
+        Product product = saveProduct(10);
+        StockReservation reservation = stockReservationEngine.reserve(product.getId(), 2).orElseThrow();
+
+        // when
+        productService.decreaseStockQuantity(product.getId(), 5);
+
+        // then
+        assertThat(stockReservationEngine.available(product.getId())).isEqualTo(3);
+        stockReservationEngine.cancel(reservation.getId());
+        assertThat(stockReservationEngine.available(product.getId())).isEqualTo(5);
+    }
+
+    @DisplayName("데이터베이스가 거절한 확정 수량은 다시 시도하지 않고 한 번만 알린다.")
+    @Test
+    void flushRefused() {
+        // given
+        Product product = saveProduct(10);
+        StockReservation refused = stockReservationEngine.reserve(product.getId(), 4).orElseThrow();
+        StockReservation accepted = stockReservationEngine.reserve(product.getId(), 1).orElseThrow();
+        stockReservationEngine.confirm(List.of(refused.getId(), accepted.getId()), 42L);
+        jdbcTemplate.update("update product set stock_quantity = 2 where id = ?", product.getId());
+
+        // when
+        stockReservationEngine.flush();
+        jdbcTemplate.update("update product set stock_quantity = 6 where id = ?", product.getId());
+        stockReservationEngine.flush();
+
+        // then
+        assertThat(events.stream(StockReservationRefused.class))
+                .containsExactly(new StockReservationRefused(product.getId(), 4, 42L));
+        assertThat(jdbcTemplate.queryForObject("select stock_quantity from product where id = ?", Integer.class, product.getId()))
+                .isEqualTo(6);
+    }
+
+    @DisplayName("하나라도 만료된 예약이 있으면 아무것도 확정하지 않는다.")
+    @Test
+    void confirmAllOrNothing() {
+        // given
+        Product product = saveProduct(10);
+        StockReservation kept = stockReservationEngine.reserve(product.getId(), 3).orElseThrow();
+        StockReservation cancelled = stockReservationEngine.reserve(product.getId(), 2).orElseThrow();
+        stockReservationEngine.cancel(cancelled.getId());
+
+        // when
+        assertThatThrownBy(() -> stockReservationEngine.confirm(List.of(kept.getId(), cancelled.getId()), 1L))
+                // then
+                .isInstanceOf(IllegalStateException.class);
+        stockReservationEngine.flush();
+        assertThat(stockReservationEngine.available(product.getId())).isEqualTo(10);
+        assertThat(productRepository.findById(product.getId()).get().getStockQuantity()).isEqualTo(10);
+    }
+}
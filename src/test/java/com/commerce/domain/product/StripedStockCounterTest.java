@@ -0,0 +1,111 @@
+package com.commerce.domain.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StripedStockCounterTest {
+
+    @DisplayName("재고를 여러 스트라이프에 나누어 보관한다.")
+    @Test
+    void distributeAvailable() {
+        // given
+        StripedStockCounter counter = new StripedStockCounter(10, 3);
+
+        // then
+        assertThat(counter.stripeCount()).isEqualTo(4);
+        assertThat(counter.available()).isEqualTo(10);
+    }
+
+    @DisplayName("스트라이프 하나의 재고보다 많은 수량도 차감한다.")
+    @Test
+    void acquireAcrossStripes() {
+        // given
+        StripedStockCounter counter = new StripedStockCounter(10, 8);
+
+        // when
+        boolean acquired = counter.tryAcquire(9);
+
+        // then
+        assertThat(acquired).isTrue();
+        assertThat(counter.available()).isEqualTo(1);
+    }
+
+    @DisplayName("재고보다 많은 수량은 차감하지 않는다.")
+    @Test
+    void acquireInsufficient() {
+        // given
+        StripedStockCounter counter = new StripedStockCounter(10, 8);
+
+        // when
+        boolean acquired = counter.tryAcquire(11);
+
+        // then
+        assertThat(acquired).isFalse();
+        assertThat(counter.available()).isEqualTo(10);
+    }
+
+    @DisplayName("남은 재고까지만 비운다.")
+    @Test
+    void drain() {
+        // given
+        StripedStockCounter counter = new StripedStockCounter(10, 8);
+
+        // when
+        long first = counter.drain(4);
+        long second = counter.drain(10);
+
+        // then
+        assertThat(first).isEqualTo(4);
+        assertThat(second).isEqualTo(6);
+        assertThat(counter.available()).isZero();
+    }
+
+    @DisplayName("동시에 차감해도 재고보다 많이 판매하지 않는다.")
+    @Test
+    void acquireConcurrently() throws Exception {
+        // given
+        int stock = 50_000;
+        int threads = 64;
+        int attemptsPerThread = 2_000;
+        StripedStockCounter counter = new StripedStockCounter(stock, 16);
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < attemptsPerThread; j++) {
+                    if (counter.tryAcquire(1)) {
+                        sold.incrementAndGet();
+                    }
+                    assertThat(counter.available()).isGreaterThanOrEqualTo(0);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(sold.get()).isEqualTo(stock);
+        assertThat(counter.available()).isZero();
+    }
+}
@@ -75,6 +75,65 @@ class SellerControllerTest {
                 .andDo(document("seller/get/not-found", resourceDetails().tag("seller")));
     }
 
+    @DisplayName("GET ids - Ok")
+    @Test
+    void findSellers() throws Exception {
+        // given
+        Seller first = sellerRepository.save(Seller.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+        Seller second = sellerRepository.save(Seller.builder()
+                .name(faker.name().fullName())
+                .address(faker.address().fullAddress())
+                .build());
+
+        // when
+        mvc.perform(get("/sellers").param("ids", second.getId() + "," + 100000 + "," + first.getId()))
+                // then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("sellers[*].id", contains(second.getId().intValue(), 100000, first.getId().intValue())))
+                .andExpect(jsonPath("sellers[*].found", contains(true, false, true)))
+                .andExpect(jsonPath("sellers[0].name", is(second.getName())))
+                .andDo(
+                        document("seller/get/ids/ok",
+                                resourceDetails()
+                                        .tag("seller")
+                                        .description("여러 판매자를 한 번에 검색한다. 요청한 순서대로 반환하며 없는 판매자는 found 가 false 이다.")
+                                        .responseSchema(new Schema("FindSellersResponse")),
+                                responseFields(
+                                        fieldWithPath("sellers[].id").description("판매자 고유값"),
+                                        fieldWithPath("sellers[].found").description("존재 여부"),
+                                        fieldWithPath("sellers[].name").description("이름").optional(),
+                                        fieldWithPath("sellers[].address").description("주소").optional()
+                                )
+                        )
+                );
+    }
+
+    @DisplayName("GET ids - BadRequest ( empty id )")
+    @Test
+    void findSellersByEmptyId() throws Exception {
+        // when
+        mvc.perform(get("/sellers").param("ids", "1,,2"))
+                // then
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("code", is("2")))
+                .andExpect(jsonPath("field", is("ids")))
+                .andDo(
+                        document("seller/get/ids/bad-request/empty",
+                                resourceDetails()
+                                        .tag("seller")
+                                        .responseSchema(new Schema("Error")),
+                                responseFields(
+                                        fieldWithPath("code").description("에러 코드"),
+                                        fieldWithPath("field").description("필드"),
+                                        fieldWithPath("message").description("메시지")
+                                )
+                        )
+                );
+    }
+
     @DisplayName("POST - Created")
     @Test
     void createSeller() throws Exception {
@@ -1,7 +1,11 @@
 package com.commerce.domain.seller;
 
 import com.commerce.domain.seller.dto.CreateSellerDto;
+import com.commerce.domain.seller.dto.SellerDto;
 import com.commerce.domain.seller.dto.UpdateSellerDto;
+import com.commerce.exception.NotFoundException;
+import com.commerce.exception.TooManyIdsException;
+import com.commerce.support.QueryCountConfig;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import net.datafaker.Faker;
@@ -9,12 +13,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
+import static com.commerce.support.QueryCountAssertions.assertSelectCount;
 import static org.assertj.core.api.Assertions.*;
 
+@Import(QueryCountConfig.class)
 @Transactional
 @SpringBootTest
 class SellerServiceTest {
@@ -36,10 +45,12 @@ class SellerServiceTest {
         sellerRepository.save(seller);
 
         // when
-        Seller findSeller = sellerService.findSellerById(seller.getId());
+        SellerDto findSeller = sellerService.findSellerById(seller.getId());
 
         // then
-        assertThat(findSeller).isEqualTo(seller);
+        assertThat(findSeller.getId()).isEqualTo(seller.getId());
+        assertThat(findSeller.getName()).isEqualTo(seller.getName());
+        assertThat(findSeller.getAddress()).isEqualTo(seller.getAddress());
     }
 
     @DisplayName("존재하지 않는 판매자를 검색한다.")
@@ -51,7 +62,41 @@ class SellerServiceTest {
         // when
         assertThatThrownBy(() ->sellerService.findSellerById(sellerId))
                 // then
-                .isInstanceOf(NoResultException.class);
+                .isInstanceOf(NoResultException.class)
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("seller not found");
+    }
+
+    @DisplayName("여러 판매자를 요청 순서대로 조회하고 캐시에 없는 판매자만 한 번에 조회한다.")
+    @Test
+    void findSellersByIds() throws Exception {
+        // given
+        Seller cached = sellerRepository.save(Seller.builder().name(faker.name().fullName()).address(faker.address().fullAddress()).build());
+        Seller first = sellerRepository.save(Seller.builder().name(faker.name().fullName()).address(faker.address().fullAddress()).build());
+        Seller second = sellerRepository.save(Seller.builder().name(faker.name().fullName()).address(faker.address().fullAddress()).build());
+        entityManager.flush();
+        entityManager.clear();
+        sellerService.findSellerById(cached.getId());
+
+        // when
+        List<SellerDto> sellers = assertSelectCount(1, () ->
+                sellerService.findSellersByIds(List.of(second.getId(), 100000L, cached.getId(), first.getId(), second.getId())));
+
+        // then
+        assertThat(sellers).extracting(seller -> seller == null ? null : seller.getId())
+                .containsExactly(second.getId(), null, cached.getId(), first.getId(), second.getId());
+    }
+
+    @DisplayName("한 번에 조회할 수 있는 판매자 수를 넘으면 예외가 발생한다.")
+    @Test
+    void findSellersByTooManyIds() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        // when
+        assertThatThrownBy(() -> sellerService.findSellersByIds(ids))
+                // then
+                .isInstanceOf(TooManyIdsException.class);
     }
 
     @DisplayName("판매자를 생성한다.")
@@ -0,0 +1,35 @@
+package com.commerce.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotFoundExceptionTest {
+
+    @DisplayName("스택 트레이스를 만들지 않는다.")
+    @Test
+    void stackless() {
+        // when
+        NotFoundException exception = NotFoundException.account();
+
+        // then
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.fillInStackTrace().getStackTrace()).isEmpty();
+    }
+
+    @DisplayName("던질 때마다 새 인스턴스를 만들어 요청끼리 상태를 나누지 않는다.")
+    @Test
+    void freshInstances() {
+        // given
+        NotFoundException first = NotFoundException.product();
+        first.addSuppressed(new IllegalStateException());
+
+        // when
+        NotFoundException second = NotFoundException.product();
+
+        // then
+        assertThat(second).isNotSameAs(first).hasMessage(first.getMessage());
+        assertThat(second.getSuppressed()).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.commerce.handler;
+
+import com.commerce.common.response.ErrorResponseWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler(new ErrorResponseWriter(objectMapper));
+
+    @DisplayName("계정 고유 제약 위반은 해당 필드의 중복 에러로 응답한다.")
+    @Test
+    void uniqueViolation() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UK_ACCOUNT_PHONE_NUMBER_INDEX_E ON PUBLIC.ACCOUNT(PHONE_NUMBER)\"", "23505"));
+
+        // when
+        globalExceptionHandler.handleDataIntegrityViolationException(e, response);
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(body.get("code").asText()).isEqualTo("1");
+        assertThat(body.get("field").asText()).isEqualTo("phoneNumber");
+    }
+
+    @DisplayName("MySQL 의 중복 키 오류도 중복 에러로 응답한다.")
+    @Test
+    void mysqlDuplicateEntry() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Duplicate entry 'kim' for key 'account.uk_account_username'", "23000", 1062));
+
+        // when
+        globalExceptionHandler.handleDataIntegrityViolationException(e, response);
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("code").asText()).isEqualTo("1");
+        assertThat(body.get("field").asText()).isEqualTo("username");
+    }
+
+    @DisplayName("고유 제약이 아닌 무결성 위반은 그대로 던진다.")
+    @Test
+    void otherViolation() {
+        // given
+        DataIntegrityViolationException e = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("NULL not allowed for column \"NAME\"", "23502"));
+
+        // when
+        assertThatThrownBy(() -> globalExceptionHandler.handleDataIntegrityViolationException(e, new MockHttpServletResponse()))
+                // then
+                .isSameAs(e);
+    }
+}
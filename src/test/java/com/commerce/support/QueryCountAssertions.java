@@ -0,0 +1,22 @@
+package com.commerce.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public final class QueryCountAssertions {
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertSelectCount(int expected, ThrowingSupplier<T> action) throws Exception {
+        QueryCounter.reset();
+        T result = action.get();
+        assertThat(QueryCounter.selects())
+                .as("select statements")
+                .isEqualTo(expected);
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface ThrowingSupplier<T> {
+        T get() throws Exception;
+    }
+}
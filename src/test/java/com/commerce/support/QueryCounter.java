@@ -0,0 +1,40 @@
+package com.commerce.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. MockMvc dispatches on the test
+ * thread, so a test can reset the counter, call an endpoint and assert how many selects it took.
+ */
+public class QueryCounter implements StatementInspector {
+    private static final ThreadLocal<Counts> COUNTS = ThreadLocal.withInitial(Counts::new);
+
+    @Override
+    public String inspect(String sql) {
+        Counts counts = COUNTS.get();
+        counts.statements++;
+        if (sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select")) {
+            counts.selects++;
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        COUNTS.remove();
+    }
+
+    public static int selects() {
+        return COUNTS.get().selects;
+    }
+
+    public static int statements() {
+        return COUNTS.get().statements;
+    }
+
+    private static class Counts {
+        private int statements;
+        private int selects;
+    }
+}